@@ -0,0 +1,104 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.favorite.Favorite;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Measures applying a find to the displayed person list, as {@code find} does on the JavaFX application thread.
+ * The find predicates are answered from the search index and then set on the filtered list, so a find that
+ * finishes in well under a frame (16 ms) at {@code size} persons needs no background thread; the unindexed
+ * benchmark tests the same predicate against every person, for comparison.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterBenchmark {
+
+    private static final String[] GIVEN_NAMES = {"Wei Ling", "Muhammad", "Priya", "Jun Jie", "sarah", "Emile"};
+    private static final String[] FAMILY_NAMES = {"Tan", "Lim", "Abdullah", "Krishnan", "de Souza", "Ng", "Zhang"};
+    private static final String[] TAGS = {"friends", "colleagues", "family", "neighbours"};
+
+    @Param({"500000"})
+    private int size;
+
+    private ModelManager model;
+    private NameContainsKeywordsPredicate fewMatches;
+    private TagContainsKeywordsPredicate manyMatches;
+    private NameContainsKeywordsPredicate unindexed;
+
+    /**
+     * Creates a model of {@code size} persons with names drawn from a mix of common given and family names and one
+     * tag each, in random order.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            String name = GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)] + " "
+                    + FAMILY_NAMES[random.nextInt(FAMILY_NAMES.length)] + " " + i;
+            persons.add(new Person(new Name(name), new Phone(String.valueOf(80000000 + i)),
+                    new Email("user" + i + "@example.com"), new Address("Blk " + i),
+                    Set.of(new Tag(TAGS[random.nextInt(TAGS.length)])), Set.of(), Set.of(), new Favorite(false)));
+        }
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        model = new ModelManager(addressBook, new UserPrefs());
+        fewMatches = new NameContainsKeywordsPredicate(List.of("Priya", "Krishnan"));
+        manyMatches = new TagContainsKeywordsPredicate(List.of("friends"));
+        unindexed = new NameContainsKeywordsPredicate(List.of("Priya", "Krishnan"));
+    }
+
+    @Benchmark
+    public int findFewMatches() {
+        model.updateFilteredPersonList(fewMatches);
+        return model.getFilteredPersonList().size();
+    }
+
+    @Benchmark
+    public int findManyMatches() {
+        model.updateFilteredPersonList(manyMatches);
+        return model.getFilteredPersonList().size();
+    }
+
+    @Benchmark
+    public int findUnindexed() {
+        // A new predicate each time, as the filtered list does not filter again when set to the same predicate
+        Predicate<Person> predicate = unindexed::test;
+        model.updateFilteredPersonList(predicate);
+        return model.getFilteredPersonList().size();
+    }
+}
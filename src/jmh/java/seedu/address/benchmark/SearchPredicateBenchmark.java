@@ -0,0 +1,102 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.faculty.Faculty;
+import seedu.address.model.favorite.Favorite;
+import seedu.address.model.module.Module;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.FacultyContainsKeywordsPredicate;
+import seedu.address.model.person.ModuleContainsKeywordsPredicate;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares the find predicates, which test cached case-folded search keys, with the splitting and
+ * {@code equalsIgnoreCase} path they replaced.
+ * Run with {@code ./gradlew jmh}; with {@code -prof gc}, {@code gc.alloc.rate.norm} of the predicate benchmarks
+ * should be about 0 B/op.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchPredicateBenchmark {
+
+    private static final List<String> KEYWORDS = List.of("bernice", "cs2040s", "engineering", "colleagues");
+
+    private Person person;
+    private NameContainsKeywordsPredicate namePredicate;
+    private TagContainsKeywordsPredicate tagPredicate;
+    private ModuleContainsKeywordsPredicate modulePredicate;
+    private FacultyContainsKeywordsPredicate facultyPredicate;
+
+    /**
+     * Creates a person that none of the keywords match, so that every benchmark scans all of its terms.
+     */
+    @Setup
+    public void setUp() {
+        person = new Person(new Name("Alice Pauline Tan"), new Phone("94351253"), new Email("alice@example.com"),
+                new Address("123, Jurong West Ave 6, #08-111"), Set.of(new Tag("friends"), new Tag("owesMoney")),
+                Set.of(new Module("CS2103T"), new Module("CS2101")), Set.of(new Faculty("School of Computing")),
+                new Favorite(false));
+        namePredicate = new NameContainsKeywordsPredicate(KEYWORDS);
+        tagPredicate = new TagContainsKeywordsPredicate(KEYWORDS);
+        modulePredicate = new ModuleContainsKeywordsPredicate(KEYWORDS);
+        facultyPredicate = new FacultyContainsKeywordsPredicate(KEYWORDS);
+        person.getSearchKeys();
+    }
+
+    @Benchmark
+    public boolean namePredicate() {
+        return namePredicate.test(person);
+    }
+
+    @Benchmark
+    public boolean tagPredicate() {
+        return tagPredicate.test(person);
+    }
+
+    @Benchmark
+    public boolean modulePredicate() {
+        return modulePredicate.test(person);
+    }
+
+    @Benchmark
+    public boolean facultyPredicate() {
+        return facultyPredicate.test(person);
+    }
+
+    @Benchmark
+    public boolean legacyNamePredicate() {
+        return KEYWORDS.stream().anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName,
+                keyword));
+    }
+
+    @Benchmark
+    public boolean legacyModulePredicate() {
+        return KEYWORDS.stream().anyMatch(keyword -> person.getModules().stream()
+                .anyMatch(module -> StringUtil.containsWordIgnoreCase(module.moduleName, keyword)));
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.benchmark;
+
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.favorite.Favorite;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.sort.SortField;
+
+/**
+ * Compares re-sorting the person list by name with the cached collation keys of each person against comparing the
+ * names with a {@link Collator} on every comparison.
+ * The keys are computed in {@link #setUp()}, as they are when the persons are first sorted in the app.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortBenchmark {
+
+    private static final String[] GIVEN_NAMES = {"Wei Ling", "Muhammad", "Priya", "Jun Jie", "sarah", "Emile"};
+    private static final String[] FAMILY_NAMES = {"Tan", "Lim", "Abdullah", "Krishnan", "de Souza", "Ng", "Zhang"};
+
+    @Param({"200000"})
+    private int size;
+
+    private List<Person> persons;
+    private Comparator<Person> byCollator;
+
+    /**
+     * Creates {@code size} persons with names drawn from a mix of common given and family names, in random order.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        persons = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            String name = GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)] + " "
+                    + FAMILY_NAMES[random.nextInt(FAMILY_NAMES.length)] + " " + random.nextInt(size);
+            persons.add(new Person(new Name(name), new Phone(String.valueOf(80000000 + i)),
+                    new Email("user" + i + "@example.com"), new Address("Blk " + i), Set.of(), Set.of(), Set.of(),
+                    new Favorite(false)));
+        }
+        persons.forEach(Person::getSortKeys);
+        Collator collator = Collator.getInstance();
+        byCollator = Comparator.comparing(person -> person.getName().fullName, collator);
+    }
+
+    @Benchmark
+    public List<Person> sortByCollationKeys() {
+        List<Person> sorted = new ArrayList<>(persons);
+        sorted.sort(SortField.NAME.comparator(true));
+        return sorted;
+    }
+
+    @Benchmark
+    public List<Person> sortByCollator() {
+        List<Person> sorted = new ArrayList<>(persons);
+        sorted.sort(byCollator);
+        return sorted;
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.faculty.Faculty;
+import seedu.address.model.favorite.Favorite;
+import seedu.address.model.module.Module;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Compares loading an address book from the JSON data file against loading it from the binary data file.
+ * The sizes of both files are printed in {@link #setUp()}.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StorageBenchmark {
+
+    private static final String[] TAGS = {"friends", "colleagues", "family", "neighbours", "classmates", "TA"};
+    private static final String[] MODULES = {"CS2103T", "CS2101", "MA1521", "GESS1101", "CS2040S", "ST2334"};
+    private static final String[] FACULTIES = {"Computing", "Science", "Engineering", "Business", "Medicine"};
+
+    @Param({"20000"})
+    private int size;
+
+    private Path folder;
+    private JsonAddressBookStorage jsonStorage;
+    private BinaryAddressBookStorage binaryStorage;
+
+    /**
+     * Saves {@code size} persons with a few tags, modules and faculties each in both formats.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < size; i++) {
+            addressBook.addPerson(new Person(new Name("Person " + i), new Phone(String.valueOf(80000000 + i)),
+                    new Email("user" + i + "@example.com"), new Address("Blk " + i + ", Clementi Ave " + i % 7),
+                    Set.of(Tag.of(TAGS[random.nextInt(TAGS.length)])),
+                    Set.of(Module.of(MODULES[random.nextInt(MODULES.length)])),
+                    Set.of(Faculty.of(FACULTIES[random.nextInt(FACULTIES.length)])),
+                    new Favorite(random.nextInt(10) == 0)));
+        }
+
+        folder = Files.createTempDirectory("storage-benchmark");
+        jsonStorage = new JsonAddressBookStorage(folder.resolve("addressbook.json"));
+        binaryStorage = new BinaryAddressBookStorage(folder.resolve("addressbook.bin"));
+        jsonStorage.saveAddressBook(addressBook);
+        binaryStorage.saveAddressBook(addressBook);
+        System.out.println("JSON file: " + Files.size(jsonStorage.getAddressBookFilePath()) + " bytes, binary file: "
+                + Files.size(binaryStorage.getAddressBookFilePath()) + " bytes");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(jsonStorage.getAddressBookFilePath());
+        Files.deleteIfExists(binaryStorage.getAddressBookFilePath());
+        Files.deleteIfExists(folder);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook loadJson() throws DataLoadingException {
+        return jsonStorage.readAddressBook().get();
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook loadBinary() throws DataLoadingException {
+        return binaryStorage.readAddressBook().get();
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.favorite.Favorite;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.search.PersonIndex;
+import seedu.address.model.search.SubstringField;
+
+/**
+ * Compares substring searches answered from the trigram index with a scan of every person using
+ * {@code String.contains}.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SubstringSearchBenchmark {
+
+    private static final String[] DOMAINS = {"u.nus.edu", "gmail.com", "example.com", "yahoo.com.sg"};
+    private static final String[] STREETS = {"Clementi Ave", "Jurong West St", "Tampines Rd", "Orchard Rd"};
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private List<Person> persons;
+    private PersonIndex index;
+
+    /**
+     * Creates an address book of {@code size} persons with distinct phone numbers, spread over a few email domains
+     * and streets.
+     */
+    @Setup
+    public void setUp() {
+        UniquePersonList personList = new UniquePersonList();
+        List<Person> generated = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            generated.add(new Person(new Name("Person " + i), new Phone(String.valueOf(80000000 + i * 7)),
+                    new Email("user" + i + "@" + DOMAINS[i % DOMAINS.length]),
+                    new Address((i % 500) + " " + STREETS[i % STREETS.length] + " " + (i % 11)),
+                    Set.of(), Set.of(), Set.of(), new Favorite(false)));
+        }
+        personList.setPersons(generated);
+        persons = personList.asUnmodifiableObservableList();
+        index = personList.getSearchIndex();
+    }
+
+    @Benchmark
+    public BitSet indexedPhone() {
+        return index.findContaining(SubstringField.PHONE, "9123");
+    }
+
+    @Benchmark
+    public BitSet indexedEmailDomain() {
+        return index.findContaining(SubstringField.EMAIL, "u.nus.edu");
+    }
+
+    @Benchmark
+    public BitSet scannedPhone() {
+        return scan(SubstringField.PHONE, "9123");
+    }
+
+    @Benchmark
+    public BitSet scannedEmailDomain() {
+        return scan(SubstringField.EMAIL, "u.nus.edu");
+    }
+
+    private BitSet scan(SubstringField field, String substring) {
+        BitSet matches = new BitSet();
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            String value = field == SubstringField.PHONE ? person.getPhone().value : person.getEmail().value;
+            if (value.toLowerCase().contains(substring)) {
+                matches.set(i);
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.address.model.module.Module;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.validation.FieldValidators;
+
+/**
+ * Compares the hand-written {@link FieldValidators} with the {@code String#matches} path they replaced.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    /** A typical valid record, and one whose email domain makes the composed regex backtrack quadratically. */
+    @Param({"typical", "adversarial"})
+    private String input;
+
+    private String name;
+    private String phone;
+    private String email;
+    private String address;
+    private String module;
+
+    /**
+     * Prepares the field values for the selected input.
+     */
+    @Setup
+    public void setUp() {
+        name = "Alice Pauline";
+        phone = "94351253";
+        address = "123, Jurong West Ave 6, #08-111";
+        module = "CS2103T";
+        email = input.equals("typical")
+                ? "alice.pauline@u.nus.edu"
+                : "alice@" + "a".repeat(1000) + "!";
+    }
+
+    @Benchmark
+    public void regex(Blackhole blackhole) {
+        blackhole.consume(name.matches(Name.VALIDATION_REGEX));
+        blackhole.consume(phone.matches(Phone.VALIDATION_REGEX));
+        blackhole.consume(email.matches(Email.VALIDATION_REGEX));
+        blackhole.consume(address.matches(Address.VALIDATION_REGEX));
+        blackhole.consume(module.matches(Module.VALIDATION_REGEX));
+    }
+
+    @Benchmark
+    public void fieldValidators(Blackhole blackhole) {
+        blackhole.consume(FieldValidators.isValidName(name));
+        blackhole.consume(FieldValidators.isValidPhone(phone));
+        blackhole.consume(FieldValidators.isValidEmail(email));
+        blackhole.consume(FieldValidators.isValidAddress(address));
+        blackhole.consume(FieldValidators.isValidModuleName(module));
+    }
+}
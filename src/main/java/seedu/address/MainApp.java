@@ -22,12 +22,15 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookConverter;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindSaver;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -38,6 +41,14 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(0, 2, 2, true);
 
+    /** How long the address book must go unchanged before a burst of changes to it is saved. */
+    private static final long SAVE_QUIET_PERIOD_MILLIS = 300;
+    /** How long to wait before trying a failed save of the address book again. */
+    private static final long SAVE_RETRY_DELAY_MILLIS = 5_000;
+
+    private static final String MESSAGE_CONVERSION_FAILED = "The data file %1$s could not be converted into %2$s,"
+            + " the format chosen in the preferences. It is used in its own format until the next start.";
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -45,6 +56,9 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected WriteBehindSaver saver;
+    // A warning to show the user once the UI has started, or null if there is none
+    private String startupWarning;
 
     @Override
     public void init() throws Exception {
@@ -57,16 +71,43 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        saver = new WriteBehindSaver(storage, SAVE_QUIET_PERIOD_MILLIS, SAVE_RETRY_DELAY_MILLIS);
+        logic = new LogicManager(model, storage, saver);
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the storage of the address book in the format chosen in {@code userPrefs}. If only the file of the other
+     * format exists, as it does after the format was changed, it is converted into the chosen format first.
+     * If the conversion fails, the storage of the other format is returned instead, so that the file that could not be
+     * converted is used for this session and the conversion is tried again on the next start.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getAddressBookFilePath();
+        AddressBookStorage jsonStorage = new JsonAddressBookStorage(jsonFilePath, userPrefs.isCompactDataFile());
+        AddressBookStorage binaryStorage =
+                new BinaryAddressBookStorage(BinaryAddressBookStorage.toBinaryFilePath(jsonFilePath));
+        AddressBookStorage chosenStorage = userPrefs.isBinaryDataFile() ? binaryStorage : jsonStorage;
+        AddressBookStorage otherStorage = userPrefs.isBinaryDataFile() ? jsonStorage : binaryStorage;
+
+        try {
+            AddressBookConverter.convertIfOnlySourceExists(otherStorage, chosenStorage);
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Failed to convert data file " + otherStorage.getAddressBookFilePath() + " into "
+                    + chosenStorage.getAddressBookFilePath() + " " + StringUtil.getDetails(e));
+            startupWarning = String.format(MESSAGE_CONVERSION_FAILED, otherStorage.getAddressBookFilePath(),
+                    chosenStorage.getAddressBookFilePath());
+            return otherStorage;
+        }
+        return chosenStorage;
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -172,11 +213,22 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        if (startupWarning != null) {
+            ui.showWarning(startupWarning);
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        // init() may have failed before the saver was created
+        if (saver != null) {
+            try {
+                saver.flushAndStop();
+            } catch (IOException e) {
+                logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+            }
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
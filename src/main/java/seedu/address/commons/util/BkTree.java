@@ -0,0 +1,115 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A Burkhard-Keller tree: a map from string keys to non-null values that can find all keys within a given
+ * {@link StringUtil#editDistance(String, String) edit distance} of a query.
+ * Every child of a node is filed under its distance to that node, so by the triangle inequality a search within
+ * distance {@code k} only needs to descend into the children filed under {@code d - k} to {@code d + k}, where
+ * {@code d} is the distance from the query to the node. For small {@code k} this visits a small fraction of the keys.
+ *
+ * Keys cannot be removed, since the position of every key depends on the keys above it. Callers that need removal
+ * can map keys to a value that marks them as unused, and rebuild the tree when too many keys are unused.
+ *
+ * @param <V> the type of values.
+ */
+public final class BkTree<V> {
+
+    private Node<V> root;
+    private int size = 0;
+
+    /**
+     * Represents an action performed on every key that a search finds.
+     *
+     * @param <V> the type of values.
+     */
+    @FunctionalInterface
+    public interface MatchConsumer<V> {
+        /**
+         * Performs the action on a found {@code key} with its {@code value}, at {@code distance} from the query.
+         */
+        void accept(String key, V value, int distance);
+    }
+
+    /**
+     * Associates {@code value} with {@code key}, replacing any previous value.
+     */
+    public void put(String key, V value) {
+        requireAllNonNull(key, value);
+        if (root == null) {
+            root = new Node<>(key, value);
+            size++;
+            return;
+        }
+
+        Node<V> node = root;
+        while (true) {
+            int distance = StringUtil.editDistance(key, node.key);
+            if (distance == 0) {
+                node.value = value;
+                return;
+            }
+            Node<V> child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node<>(key, value));
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Passes every key within {@code maxDistance} of {@code query} to {@code action}, with its value and distance,
+     * in no particular order.
+     */
+    public void search(String query, int maxDistance, MatchConsumer<? super V> action) {
+        requireAllNonNull(query, action);
+        checkArgument(maxDistance >= 0, "Maximum distance cannot be negative");
+        if (root == null) {
+            return;
+        }
+
+        Deque<Node<V>> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node<V> node = pending.pop();
+            int distance = StringUtil.editDistance(query, node.key);
+            if (distance <= maxDistance) {
+                action.accept(node.key, node.value, distance);
+            }
+            for (Map.Entry<Integer, Node<V>> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                    pending.push(child.getValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of keys in this tree.
+     */
+    public int size() {
+        return size;
+    }
+
+    private static final class Node<V> {
+        private final String key;
+        private final Map<Integer, Node<V>> children = new HashMap<>(2);
+        private V value;
+
+        private Node(String key, V value) {
+            requireNonNull(key);
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
@@ -9,6 +9,7 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.opencsv.CSVReader;
@@ -24,6 +25,7 @@ import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.validation.PersonValidator;
 
 /**
  * Handles CSV utility functions.
@@ -31,6 +33,7 @@ import seedu.address.model.tag.Tag;
 public class CsvUtil {
     private static final String[] HEADERS = {"Name", "Phone Number", "Email",
                                              "Address", "Tags", "Modules", "Faculties", "Favorites"};
+    private static final String MESSAGE_INVALID_ROW = "Invalid contact in row %1$d:\n%2$s";
 
     /**
      * Reads contacts from a CSV file.
@@ -38,6 +41,7 @@ public class CsvUtil {
      * @return list of persons
      * @throws IOException if file access fails
      * @throws CsvValidationException if CSV is invalid
+     * @throws IllegalArgumentException if a row holds an invalid contact; the message lists every invalid field
      */
     public static List<Person> readContactsFromCsv(Path csvPath)
             throws IOException, CsvValidationException {
@@ -48,23 +52,36 @@ public class CsvUtil {
              CSVReader csvReader = new CSVReader(r)) {
 
             String[] nextLine;
+            int rowNumber = 1;
 
             //Skip the header row
             csvReader.readNext();
 
             while ((nextLine = csvReader.readNext()) != null) {
+                rowNumber++;
+
+                String name = nextLine[0].trim();
+                String phone = nextLine[1].trim();
+                String email = nextLine[2].trim();
+                String address = nextLine[3];
+                List<String> tagNames = splitValues(nextLine[4]);
+                List<String> moduleNames = splitValues(nextLine[5]);
+                List<String> facultyNames = splitValues(nextLine[6]);
+
+                List<String> errors = PersonValidator.validateRow(name, phone, email, address, tagNames,
+                        moduleNames, facultyNames);
+                if (!errors.isEmpty()) {
+                    throw new IllegalArgumentException(
+                            String.format(MESSAGE_INVALID_ROW, rowNumber, String.join("\n", errors)));
+                }
 
-                Name name = new Name(nextLine[0].trim());
-                Phone phoneNo = new Phone(nextLine[1].trim());
-                Email email = new Email(nextLine[2].trim());
-                Address address = new Address(nextLine[3]);
-                Set<Tag> allTags = parseTags(nextLine[4]);
-                Set<Module> allModules = parseModules(nextLine[5]);
-                Set<Faculty> allFaculties = parseFaculties(nextLine[6]);
+                Set<Tag> allTags = toSet(tagNames, Tag::of);
+                Set<Module> allModules = toSet(moduleNames, Module::of);
+                Set<Faculty> allFaculties = toSet(facultyNames, Faculty::of);
                 Favorite favorite = new Favorite(Boolean.parseBoolean(nextLine[7].trim()));
 
-                Person newPerson = new Person(name, phoneNo, email, address, allTags, allModules, allFaculties,
-                        favorite);
+                Person newPerson = new Person(new Name(name), new Phone(phone), new Email(email), new Address(address),
+                        allTags, allModules, allFaculties, favorite);
 
                 contacts.add(newPerson);
             }
@@ -121,54 +138,29 @@ public class CsvUtil {
     }
 
     /**
-     * Helper method to parse a pipe-separated string into a set of {@link Tag}.
+     * Splits a pipe-separated string into its trimmed, non-empty values.
      */
-    private static Set<Tag> parseTags(String tagString) {
-        Set<Tag> allTags = new HashSet<>();
-        if (tagString != null && !tagString.isEmpty()) {
-            String[] tagParts = tagString.split("\\|");
-            for (String t : tagParts) {
-                t = t.trim();
-                if (!t.isEmpty()) {
-                    allTags.add(new Tag(t));
+    private static List<String> splitValues(String valueString) {
+        List<String> values = new ArrayList<>();
+        if (valueString != null && !valueString.isEmpty()) {
+            for (String value : valueString.split("\\|")) {
+                value = value.trim();
+                if (!value.isEmpty()) {
+                    values.add(value);
                 }
             }
         }
-        return allTags;
+        return values;
     }
 
     /**
-     * Helper method to parse a pipe-separated string into a set of {@link Module}.
+     * Converts validated {@code names} into a set of canonical instances created by {@code factory}.
      */
-    private static Set<Module> parseModules(String moduleString) {
-        Set<Module> allModules = new HashSet<>();
-        if (moduleString != null && !moduleString.isEmpty()) {
-            String[] moduleParts = moduleString.split("\\|");
-            for (String m : moduleParts) {
-                m = m.trim();
-                if (!m.isEmpty()) {
-                    allModules.add(new Module(m));
-                }
-            }
+    private static <T> Set<T> toSet(List<String> names, Function<String, T> factory) {
+        Set<T> values = new HashSet<>();
+        for (String name : names) {
+            values.add(factory.apply(name));
         }
-        return allModules;
-    }
-
-    /**
-     * Helper method to parse a pipe-separated string into a set of {@link Faculty}.
-     */
-    private static Set<Faculty> parseFaculties(String facultyString) {
-        Set<Faculty> allFaculties = new HashSet<>();
-        if (facultyString != null && !facultyString.isEmpty()) {
-            String[] facultyParts = facultyString.split("\\|");
-            for (String t : facultyParts) {
-                t = t.trim();
-                if (!t.isEmpty()) {
-                    allFaculties.add(new Faculty(t));
-                }
-            }
-        }
-        return allFaculties;
+        return values;
     }
 }
-
@@ -1,10 +1,14 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -65,6 +69,30 @@ public class FileUtil {
         }
     }
 
+    /**
+     * Returns the path of a temporary file next to {@code file}, for writing the new content of {@code file} before
+     * it replaces {@code file} with {@link #replaceWithTempFile(Path, Path)}.
+     */
+    public static Path getTempFileOf(Path file) {
+        return file.resolveSibling(file.getFileName() + ".tmp");
+    }
+
+    /**
+     * Forces {@code tempFile} to the disk, then moves it over {@code file}, atomically if the file system supports it,
+     * so that {@code file} is never left partly written.
+     */
+    public static void replaceWithTempFile(Path file, Path tempFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+
+        try {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
     /**
      * Assumes file exists
      */
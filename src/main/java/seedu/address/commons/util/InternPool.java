@@ -0,0 +1,103 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * A thread-safe pool of canonical instances of an immutable value type, keyed by the string they are created from.
+ * Values are only weakly held, so a canonical instance that is no longer referenced anywhere else can be garbage
+ * collected, after which its entry is dropped from the pool.
+ *
+ * @param <T> the type of the pooled values.
+ */
+public final class InternPool<T> {
+
+    private final ConcurrentMap<String, ValueReference<T>> pool = new ConcurrentHashMap<>();
+    private final ReferenceQueue<T> collectedValues = new ReferenceQueue<>();
+    private final Function<String, T> factory;
+
+    /**
+     * Creates a pool that creates missing values with {@code factory}.
+     * {@code factory} is only invoked for keys that do not have a live canonical instance, and any exception it
+     * throws is passed on to the caller of {@link #intern(String)} without pooling anything.
+     */
+    public InternPool(Function<String, T> factory) {
+        requireNonNull(factory);
+        this.factory = factory;
+    }
+
+    /**
+     * Returns the canonical instance for {@code key}, creating and pooling it if there is none.
+     */
+    public T intern(String key) {
+        requireNonNull(key);
+        expungeCollectedValues();
+
+        T value = get(key);
+        if (value != null) {
+            return value;
+        }
+
+        T created = requireNonNull(factory.apply(key));
+        ValueReference<T> createdReference = new ValueReference<>(key, created, collectedValues);
+        while (true) {
+            ValueReference<T> existing = pool.putIfAbsent(key, createdReference);
+            if (existing == null) {
+                return created;
+            }
+            T existingValue = existing.get();
+            if (existingValue != null) {
+                return existingValue;
+            }
+            if (pool.replace(key, existing, createdReference)) {
+                return created;
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code key} currently has a canonical instance in the pool.
+     */
+    public boolean contains(String key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Returns the number of entries in the pool, including entries whose value has just been collected.
+     */
+    int size() {
+        expungeCollectedValues();
+        return pool.size();
+    }
+
+    private T get(String key) {
+        ValueReference<T> reference = pool.get(key);
+        return reference == null ? null : reference.get();
+    }
+
+    private void expungeCollectedValues() {
+        Object collected;
+        while ((collected = collectedValues.poll()) != null) {
+            ValueReference<?> reference = (ValueReference<?>) collected;
+            pool.remove(reference.key, reference);
+        }
+    }
+
+    /**
+     * A weak reference to a pooled value that remembers its key, so that its entry can be removed once the value
+     * has been collected.
+     */
+    private static final class ValueReference<T> extends WeakReference<T> {
+        private final String key;
+
+        ValueReference(String key, T value, ReferenceQueue<T> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +12,9 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -91,6 +95,44 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Returns a parser that reads the JSON in the given file as it goes, instead of reading the whole file first.
+     * Values read with {@link JsonParser#readValueAs(Class)} are bound with the same settings as
+     * {@link #readJsonFile(Path, Class)} uses. Closing the parser closes the file.
+     *
+     * @param filePath cannot be null.
+     * @throws IOException if the file cannot be opened.
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        // The mapper's own factory gives the parser the mapper as its codec
+        return objectMapper.getFactory().createParser(filePath.toFile());
+    }
+
+    /**
+     * Returns a generator that writes JSON to the given file as it goes, instead of building the whole file in memory
+     * first. Values written with {@link JsonGenerator#writeObject(Object)} are converted with the same settings as
+     * {@link #saveJsonFile(Object, Path)} uses. Overwrites the file if it exists, and closing the generator closes it.
+     *
+     * @param filePath cannot be null.
+     * @param isPrettyPrinted whether to indent the JSON over several lines, as {@link #toJsonString(Object)} does.
+     * @throws IOException if the file cannot be opened for writing.
+     */
+    public static JsonGenerator createGenerator(Path filePath, boolean isPrettyPrinted) throws IOException {
+        requireNonNull(filePath);
+        OutputStream output = Files.newOutputStream(filePath);
+        JsonGenerator generator;
+        try {
+            // The generator buffers its output, so the stream needs no buffer of its own
+            generator = objectMapper.getFactory().createGenerator(output, JsonEncoding.UTF8);
+        } catch (IOException e) {
+            output.close();
+            throw e;
+        }
+        // The generator owns the stream, so closing the generator must close the file
+        generator.enable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return isPrettyPrinted ? generator.useDefaultPrettyPrinter() : generator;
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -111,6 +153,17 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line, without
+     * indentation.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -0,0 +1,118 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * A map from string keys to non-null values that can enumerate all values whose keys start with a given prefix.
+ * Finding the values for a prefix costs O(prefix length) to reach the prefix, plus time proportional to the number
+ * of keys that extend it, independent of the total number of keys.
+ * Branches that no longer lead to any key are pruned on removal.
+ *
+ * @param <V> the type of values.
+ */
+public final class PrefixTrie<V> {
+
+    private final Node<V> root = new Node<>();
+    private int size = 0;
+
+    /**
+     * Associates {@code value} with {@code key}, replacing any previous value.
+     */
+    public void put(String key, V value) {
+        requireAllNonNull(key, value);
+        Node<V> node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), unused -> new Node<>());
+        }
+        if (node.value == null) {
+            size++;
+        }
+        node.value = value;
+    }
+
+    /**
+     * Returns the value associated with {@code key}, or null if there is none.
+     */
+    public V get(String key) {
+        requireNonNull(key);
+        Node<V> node = find(key);
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * Removes the value associated with {@code key}, if any.
+     */
+    public void remove(String key) {
+        requireNonNull(key);
+        Deque<Node<V>> path = new ArrayDeque<>();
+        Node<V> node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            path.push(node);
+            node = node.children.get(key.charAt(i));
+        }
+        if (node == null || node.value == null) {
+            return;
+        }
+        node.value = null;
+        size--;
+
+        for (int i = key.length() - 1; i >= 0 && node.isEmpty(); i--) {
+            node = path.pop();
+            node.children.remove(key.charAt(i));
+        }
+    }
+
+    /**
+     * Passes every value whose key starts with {@code prefix} to {@code action}, in no particular order.
+     */
+    public void forEachWithPrefix(String prefix, Consumer<? super V> action) {
+        requireAllNonNull(prefix, action);
+        Node<V> start = find(prefix);
+        if (start == null) {
+            return;
+        }
+
+        Deque<Node<V>> pending = new ArrayDeque<>();
+        pending.push(start);
+        while (!pending.isEmpty()) {
+            Node<V> node = pending.pop();
+            if (node.value != null) {
+                action.accept(node.value);
+            }
+            for (Node<V> child : node.children.values()) {
+                pending.push(child);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of keys in this trie.
+     */
+    public int size() {
+        return size;
+    }
+
+    private Node<V> find(String key) {
+        Node<V> node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+        return node;
+    }
+
+    private static final class Node<V> {
+        private final Map<Character, Node<V>> children = new HashMap<>(2);
+        private V value;
+
+        private boolean isEmpty() {
+            return value == null && children.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set of non-null elements, stored as a sorted array.
+ * Meant for the small sets held by every person, where it takes a fraction of the memory of a {@code HashSet}:
+ * there are no table or entry objects, empty sets share a single instance, and the hash code is cached.
+ * Lookups use binary search, and iteration follows the natural order of the elements.
+ *
+ * Mutators throw {@code UnsupportedOperationException}.
+ *
+ * @param <E> the type of elements, whose natural ordering must be consistent with equals.
+ */
+public final class SortedArraySet<E extends Comparable<? super E>> extends AbstractSet<E> {
+
+    private static final SortedArraySet<?> EMPTY = new SortedArraySet<>(new Comparable<?>[0]);
+
+    private final Object[] elements;
+    private final int hash;
+
+    private SortedArraySet(Object[] elements) {
+        this.elements = elements;
+        int hash = 0;
+        for (Object element : elements) {
+            hash += element.hashCode();
+        }
+        this.hash = hash;
+    }
+
+    /**
+     * Returns the empty set.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Comparable<? super E>> SortedArraySet<E> empty() {
+        return (SortedArraySet<E>) EMPTY;
+    }
+
+    /**
+     * Returns a set of the distinct elements of {@code elements}.
+     * If {@code elements} is itself a {@code SortedArraySet}, it is returned without copying.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Comparable<? super E>> SortedArraySet<E> copyOf(Collection<? extends E> elements) {
+        requireAllNonNull(elements);
+        if (elements instanceof SortedArraySet) {
+            return (SortedArraySet<E>) elements;
+        }
+        if (elements.isEmpty()) {
+            return empty();
+        }
+
+        Object[] sorted = elements.toArray();
+        Arrays.sort(sorted);
+        int distinct = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (((E) sorted[i]).compareTo((E) sorted[distinct - 1]) != 0) {
+                sorted[distinct++] = sorted[i];
+            }
+        }
+        return new SortedArraySet<>(distinct == sorted.length ? sorted : Arrays.copyOf(sorted, distinct));
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return elements.length == 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (o == null || elements.length == 0 || elements[0].getClass() != o.getClass()) {
+            return false;
+        }
+        return Arrays.binarySearch(elements, o) >= 0;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < elements.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (next >= elements.length) {
+                    throw new NoSuchElementException();
+                }
+                return (E) elements[next++];
+            }
+        };
+    }
+
+    @Override
+    public Object[] toArray() {
+        return elements.clone();
+    }
+
+    @Override
+    public boolean add(E e) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (other instanceof SortedArraySet) {
+            SortedArraySet<?> otherSet = (SortedArraySet<?>) other;
+            return hash == otherSet.hash && Arrays.equals(elements, otherSet.elements);
+        }
+
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
@@ -65,4 +65,37 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}: the least number of single-character
+     * insertions, deletions and substitutions that turn one into the other.
+     * Runs in O(mn) time and O(min(m, n)) space for strings of lengths m and n.
+     * @throws NullPointerException if either string is null.
+     */
+    public static int editDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+
+        String longer = first.length() >= second.length() ? first : second;
+        String shorter = longer == first ? second : first;
+        int[] previousRow = new int[shorter.length() + 1];
+        int[] currentRow = new int[shorter.length() + 1];
+        for (int j = 0; j <= shorter.length(); j++) {
+            previousRow[j] = j;
+        }
+
+        for (int i = 1; i <= longer.length(); i++) {
+            currentRow[0] = i;
+            char c = longer.charAt(i - 1);
+            for (int j = 1; j <= shorter.length(); j++) {
+                int substitutionCost = c == shorter.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(previousRow[j - 1] + substitutionCost,
+                        Math.min(previousRow[j], currentRow[j - 1]) + 1);
+            }
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return previousRow[shorter.length()];
+    }
 }
@@ -9,6 +9,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.FacetCounts;
 
 /**
  * API of the Logic component
@@ -23,6 +24,15 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Previews the results of a partially typed command in the filtered person list, if the command supports it.
+     * Once the text no longer supports a preview, or a command is executed, the list is filtered as it was before the
+     * preview again.
+     * @param commandText The command as typed by the user so far.
+     * @return true if the filtered person list now shows a preview for {@code commandText}.
+     */
+    boolean previewCommand(String commandText);
+
     /**
      * Returns the AddressBook.
      *
@@ -33,6 +43,20 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns the live counts of the persons with each faculty, module and tag in the address book.
+     *
+     * @see seedu.address.model.Model#getFacetCounts()
+     */
+    FacetCounts getFacetCounts();
+
+    /**
+     * Returns the live counts of the persons with each faculty, module and tag in the filtered list of persons.
+     *
+     * @see seedu.address.model.Model#getFilteredFacetCounts()
+     */
+    FacetCounts getFilteredFacetCounts();
+
     /**
      * Returns the user prefs' address book file path.
      */
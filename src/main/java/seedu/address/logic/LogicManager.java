@@ -3,6 +3,8 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -16,7 +18,9 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.FacetCounts;
 import seedu.address.storage.Storage;
+import seedu.address.storage.WriteBehindSaver;
 
 /**
  * The main LogicManager of the app.
@@ -32,14 +36,35 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    // The predicate of the preview shown, or null if no preview is shown
+    private Predicate<Person> previewPredicate;
+    // The filter of the person list before the preview shown, restored when the preview ends
+    private Predicate<Person> filterBeforePreview;
+
+    // Saves the address book in the background, or null to save on the calling thread
+    private final WriteBehindSaver saver;
+    // The version of the address book that was last saved or handed to the saver
+    private long savedVersion;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage} that saves the address book
+     * on the calling thread after each command that changes it.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage} that hands the address book
+     * to {@code saver} after each command that changes it, if {@code saver} is not null.
+     * The address book in {@code model} is taken to be saved already.
+     */
+    public LogicManager(Model model, Storage storage, WriteBehindSaver saver) {
         this.model = model;
         this.storage = storage;
+        this.saver = saver;
         addressBookParser = new AddressBookParser();
+        savedVersion = model.getAddressBookVersion();
     }
 
     @Override
@@ -47,18 +72,84 @@ public class LogicManager implements Logic {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
         CommandResult commandResult;
+        endPreview();
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        return saveIfChanged(commandResult);
+    }
+
+    /**
+     * Saves the address book if it has changed since it was last saved, so that commands that only read it do no
+     * disk I/O, and returns {@code commandResult}. With a {@code WriteBehindSaver}, the address book is only handed to
+     * it, and a failure of an earlier background save, which the saver retries by itself, is added to the feedback of
+     * {@code commandResult} instead of failing the command.
+     *
+     * @throws CommandException if the address book could not be saved on the calling thread.
+     */
+    private CommandResult saveIfChanged(CommandResult commandResult) throws CommandException {
+        long version = model.getAddressBookVersion();
+        if (saver == null) {
+            if (version == savedVersion) {
+                return commandResult;
+            }
+            try {
+                storage.saveAddressBook(model.getAddressBookSnapshot());
+            } catch (IOException ioe) {
+                throw new CommandException(toErrorMessage(ioe), ioe);
+            }
+            savedVersion = version;
+            return commandResult;
+        }
+
+        if (version != savedVersion) {
+            saver.submit(model.getAddressBookSnapshot());
+            savedVersion = version;
+        }
+        Optional<IOException> failure = saver.takeFailure();
+        if (failure.isEmpty()) {
+            return commandResult;
+        }
+        return new CommandResult(commandResult.getFeedbackToUser() + "\n" + toErrorMessage(failure.get()),
+                commandResult.isShowHelp(), commandResult.isExit());
+    }
+
+    private static String toErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
+    @Override
+    public boolean previewCommand(String commandText) {
+        Optional<Predicate<Person>> preview = addressBookParser.parsePreview(commandText);
+        if (preview.isEmpty()) {
+            endPreview();
+            return false;
+        }
+
+        if (previewPredicate == null) {
+            filterBeforePreview = model.getFilteredPersonListPredicate();
+        }
+        // Typing that leaves the keywords as they were, such as a space, does not filter the list again
+        if (!preview.get().equals(previewPredicate)) {
+            model.updateFilteredPersonList(preview.get());
+            previewPredicate = preview.get();
         }
+        return true;
+    }
 
-        return commandResult;
+    /**
+     * Restores the filter of the person list from before the preview shown, if any.
+     */
+    private void endPreview() {
+        if (previewPredicate == null) {
+            return;
+        }
+        model.updateFilteredPersonList(filterBeforePreview);
+        previewPredicate = null;
+        filterBeforePreview = null;
     }
 
     @Override
@@ -71,6 +162,16 @@ public class LogicManager implements Logic {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public FacetCounts getFacetCounts() {
+        return model.getFacetCounts();
+    }
+
+    @Override
+    public FacetCounts getFilteredFacetCounts() {
+        return model.getFilteredFacetCounts();
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
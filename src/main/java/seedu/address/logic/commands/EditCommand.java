@@ -11,8 +11,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -20,6 +18,7 @@ import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.CollectionUtil;
+import seedu.address.commons.util.SortedArraySet;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -93,6 +92,7 @@ public class EditCommand extends Command {
         }
 
         model.setPerson(personToEdit, editedPerson);
+        model.commitAddressBook();
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(editedPerson)));
     }
@@ -114,6 +114,7 @@ public class EditCommand extends Command {
         Favorite updatedFavorite = editPersonDescriptor.getFavorite().orElse(personToEdit.getFavorite());
 
         return new Person(
+            personToEdit.getId(),
             updatedName,
             updatedPhone,
             updatedEmail,
@@ -157,9 +158,9 @@ public class EditCommand extends Command {
         private Phone phone;
         private Email email;
         private Address address;
-        private Set<Tag> tags;
-        private Set<Module> modules;
-        private Set<Faculty> faculties;
+        private SortedArraySet<Tag> tags;
+        private SortedArraySet<Module> modules;
+        private SortedArraySet<Faculty> faculties;
         private Favorite favorite;
 
         public EditPersonDescriptor() {}
@@ -223,7 +224,7 @@ public class EditCommand extends Command {
          * A defensive copy of {@code tags} is used internally.
          */
         public void setTags(Set<Tag> tags) {
-            this.tags = (tags != null) ? new HashSet<>(tags) : null;
+            this.tags = (tags != null) ? SortedArraySet.copyOf(tags) : null;
         }
 
         /**
@@ -231,7 +232,7 @@ public class EditCommand extends Command {
          * A defensive copy of {@code modules} is used internally.
          */
         public void setModules(Set<Module> modules) {
-            this.modules = (modules != null) ? new HashSet<>(modules) : null;
+            this.modules = (modules != null) ? SortedArraySet.copyOf(modules) : null;
         }
 
         /**
@@ -239,7 +240,7 @@ public class EditCommand extends Command {
          * A defensive copy of {@code faculties} is used internally.
          */
         public void setFaculties(Set<Faculty> faculties) {
-            this.faculties = (faculties != null) ? new HashSet<>(faculties) : null;
+            this.faculties = (faculties != null) ? SortedArraySet.copyOf(faculties) : null;
         }
 
         /**
@@ -248,7 +249,7 @@ public class EditCommand extends Command {
          * Returns {@code Optional#empty()} if {@code tags} is null.
          */
         public Optional<Set<Tag>> getTags() {
-            return (tags != null) ? Optional.of(Collections.unmodifiableSet(tags)) : Optional.empty();
+            return Optional.ofNullable(tags);
         }
 
         /**
@@ -258,7 +259,7 @@ public class EditCommand extends Command {
          * Returns {@code Optional#empty()} if {@code modules} is null.
          */
         public Optional<Set<Module>> getModules() {
-            return (modules != null) ? Optional.of(Collections.unmodifiableSet(modules)) : Optional.empty();
+            return Optional.ofNullable(modules);
         }
 
         /**
@@ -268,7 +269,7 @@ public class EditCommand extends Command {
          * Returns {@code Optional#empty()} if {@code faculties} is null.
          */
         public Optional<Set<Faculty>> getFaculties() {
-            return (faculties != null) ? Optional.of(Collections.unmodifiableSet(faculties)) : Optional.empty();
+            return Optional.ofNullable(faculties);
         }
 
         public void setFavorite(Favorite favorite) {
@@ -0,0 +1,80 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.search.IndexedPredicate;
+import seedu.address.model.search.QueryPlan;
+
+/**
+ * Shows how a find query is answered: the order in which its criteria are looked up in the search index, with the
+ * estimated and actual number of persons left after each, without changing the displayed list.
+ */
+public class ExplainCommand extends Command {
+
+    public static final String COMMAND_WORD = "explain";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows how a find command is answered, most selective criterion first, "
+            + "without changing the displayed list.\n"
+            + "Parameters: " + FindCommand.COMMAND_WORD + " FIND_PARAMETERS\n"
+            + "Example: " + COMMAND_WORD + " " + FindCommand.COMMAND_WORD + " m/CS2103T f/computing";
+
+    public static final String MESSAGE_PLAN_HEADER = "Plan for %1$s:";
+    public static final String MESSAGE_STEP = "%1$d. %2$s: estimated %3$d, %4$d left";
+    public static final String MESSAGE_SKIPPED_STEP = "%1$d. %2$s: estimated %3$d, skipped";
+    public static final String MESSAGE_MATCH_COUNT = "%1$d persons would be listed.";
+
+    private final IndexedPredicate query;
+
+    /**
+     * Creates an ExplainCommand to explain the find query {@code query}.
+     */
+    public ExplainCommand(IndexedPredicate query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        QueryPlan plan = model.explainQuery(query);
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_PLAN_HEADER, query.describe()));
+        List<QueryPlan.Step> steps = plan.getSteps();
+        for (int i = 0; i < steps.size(); i++) {
+            QueryPlan.Step step = steps.get(i);
+            feedback.append('\n').append(step.isSkipped()
+                    ? String.format(MESSAGE_SKIPPED_STEP, i + 1, step.getDescription(), step.getEstimate())
+                    : String.format(MESSAGE_STEP, i + 1, step.getDescription(), step.getEstimate(),
+                            step.getRemaining()));
+        }
+        feedback.append('\n').append(String.format(MESSAGE_MATCH_COUNT, plan.getMatchCount()));
+        return new CommandResult(feedback.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExplainCommand)) {
+            return false;
+        }
+
+        ExplainCommand otherExplainCommand = (ExplainCommand) other;
+        return query.equals(otherExplainCommand.query);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .toString();
+    }
+}
@@ -5,7 +5,6 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
 import java.util.List;
 
 import seedu.address.commons.util.CsvUtil;
@@ -29,7 +28,7 @@ public class ExportCommand extends Command {
         requireNonNull(model);
         Path downloadPath = Paths.get(System.getProperty("user.home"), "Downloads",
                                       "CampusBook_contacts.csv");
-        List<Person> allContacts = new ArrayList<>(model.getAddressBook().getPersonList());
+        List<Person> allContacts = model.getAddressBookSnapshot().getPersonList();
 
         if (allContacts.isEmpty()) {
             return new CommandResult(EMPTY_ADDRESSBOOK);
@@ -1,9 +1,13 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FACULTY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FUZZY_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.function.Predicate;
@@ -23,14 +27,26 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
         + ": Finds all persons who match all of the specified criteria "
-        + "(name, tag, module, and/or faculty) and displays them as a list with index numbers.\n"
+        + "(name, tag, module, faculty, phone, email and/or address) and displays them as a list with index numbers.\n"
+        + "Use " + PREFIX_FUZZY_NAME + " instead of " + PREFIX_NAME + " to tolerate typos in names; "
+        + "the closest matches are listed first. Phone, email and address keywords match any part of the value.\n"
         + "Parameters: "
         + "[" + PREFIX_NAME + "NAME_KEYWORD [MORE_KEYWORDS]...] "
+        + "[" + PREFIX_FUZZY_NAME + "FUZZY_NAME_KEYWORD [MORE_KEYWORDS]...] "
         + "[" + PREFIX_TAG + "TAG_KEYWORD [MORE_KEYWORDS]...] "
         + "[" + PREFIX_MODULE + "MODULE_KEYWORD [MORE_KEYWORDS]...] "
-        + "[" + PREFIX_FACULTY + "FACULTY_KEYWORD [MORE_KEYWORDS]...]\n"
+        + "[" + PREFIX_FACULTY + "FACULTY_KEYWORD [MORE_KEYWORDS]...] "
+        + "[" + PREFIX_PHONE + "PHONE_PART [MORE_PARTS]...] "
+        + "[" + PREFIX_EMAIL + "EMAIL_PART [MORE_PARTS]...] "
+        + "[" + PREFIX_ADDRESS + "ADDRESS_PART [MORE_PARTS]...]\n"
         + "Example: " + COMMAND_WORD + " " + PREFIX_NAME + "alice "
-        + PREFIX_MODULE + "CS2103T " + PREFIX_FACULTY + "computing";
+        + PREFIX_MODULE + "CS2103T " + PREFIX_FACULTY + "computing\n"
+        + "Criteria can also be combined with AND, OR, NOT and parentheses, and \"quoted phrases\" match "
+        + "consecutive words.\n"
+        + "Example: " + COMMAND_WORD + " (" + PREFIX_MODULE + "CS2103T OR " + PREFIX_MODULE + "CS2101) AND NOT "
+        + PREFIX_TAG + "alumni";
+
+    public static final String MESSAGE_INVALID_QUERY = "Invalid find query: %1$s";
 
 
     private final Predicate<Person> predicate;
@@ -11,6 +11,7 @@ import com.opencsv.exceptions.CsvValidationException;
 import seedu.address.commons.util.CsvUtil;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.person.BatchAddResult;
 import seedu.address.model.person.Person;
 
 
@@ -49,14 +50,12 @@ public class ImportCommand extends Command {
         } catch (CsvValidationException | IOException e) {
             throw new CommandException(INVALID_PATH_ERROR);
         }
-        int addedCount = 0;
-        for (Person p : contacts) {
-            if (!model.hasPerson(p)) {
-                model.addPerson(p);
-                addedCount++;
-            }
+        BatchAddResult result = model.addPersons(contacts);
+        int addedCount = result.getAddedPersons().size();
+        int skippedCount = result.getSkippedPersons().size();
+        if (addedCount > 0) {
+            model.commitAddressBook();
         }
-        int skippedCount = contacts.size() - addedCount;
 
         String message = String.format(
                 "Imported %d contact(s). Skipped %d duplicate row(s).",
@@ -7,6 +7,7 @@ import java.util.List;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.person.BatchAddResult;
 import seedu.address.model.person.Person;
 import seedu.address.model.util.FacultyDataUtil;
 
@@ -54,13 +55,13 @@ public class SelectCommand extends Command {
             throw new CommandException(String.format(MESSAGE_INVALID_FACULTY, availableFaculties));
         }
 
+        BatchAddResult result = model.addPersons(facultyAdmins);
+        if (!result.getAddedPersons().isEmpty()) {
+            model.commitAddressBook();
+        }
         List<String> duplicateMessages = new ArrayList<>();
-        for (Person person : facultyAdmins) {
-            if (model.hasPerson(person)) {
-                duplicateMessages.add(String.format(MESSAGE_DUPLICATE_PERSON, person.getName()));
-            } else {
-                model.addPerson(person);
-            }
+        for (Person person : result.getSkippedPersons()) {
+            duplicateMessages.add(String.format(MESSAGE_DUPLICATE_PERSON, person.getName()));
         }
 
         String feedbackToUser = String.format(MESSAGE_SUCCESS, faculty);
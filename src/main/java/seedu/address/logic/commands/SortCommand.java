@@ -0,0 +1,88 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.sort.SortField;
+
+/**
+ * Orders the listed persons by one of their fields, or restores address book order.
+ * The order applies to every later listing until it is changed.
+ */
+public class SortCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort";
+
+    public static final String ASCENDING = "asc";
+    public static final String DESCENDING = "desc";
+    public static final String DEFAULT_ORDER = "default";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Sorts the listed persons by the given field, in ascending order unless specified otherwise. "
+            + "Persons with the same value are sorted by name. "
+            + "Use '" + DEFAULT_ORDER + "' to list persons in the order they were added again.\n"
+            + "Parameters: (name|email|phone|modules) [" + ASCENDING + "|" + DESCENDING + "]\n"
+            + "Example: " + COMMAND_WORD + " modules " + DESCENDING;
+
+    public static final String MESSAGE_SUCCESS = "Sorted persons by %1$s in %2$s order.";
+    public static final String MESSAGE_DEFAULT_ORDER = "Sorted persons in the order they were added.";
+
+    // The field to sort by, or null to restore address book order
+    private final SortField field;
+    private final boolean isAscending;
+
+    /**
+     * Creates a SortCommand to sort by {@code field}, ascending if {@code isAscending}.
+     */
+    public SortCommand(SortField field, boolean isAscending) {
+        requireNonNull(field);
+        this.field = field;
+        this.isAscending = isAscending;
+    }
+
+    /**
+     * Creates a SortCommand to restore address book order.
+     */
+    public SortCommand() {
+        this.field = null;
+        this.isAscending = true;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        if (field == null) {
+            model.sortFilteredPersonList(null);
+            return new CommandResult(MESSAGE_DEFAULT_ORDER);
+        }
+        model.sortFilteredPersonList(field.comparator(isAscending));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, field.getKeyword(),
+                isAscending ? "ascending" : "descending"));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortCommand)) {
+            return false;
+        }
+
+        SortCommand otherSortCommand = (SortCommand) other;
+        return Objects.equals(field, otherSortCommand.field) && isAscending == otherSortCommand.isAscending;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("field", field)
+                .add("isAscending", isAscending)
+                .toString();
+    }
+}
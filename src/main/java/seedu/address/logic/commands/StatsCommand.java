@@ -0,0 +1,51 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import seedu.address.model.Model;
+import seedu.address.model.search.Facet;
+import seedu.address.model.search.FacetCounts;
+
+/**
+ * Shows how many of the listed persons are in each faculty, take each module and have each tag, out of the persons in
+ * the whole address book.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows how many of the listed persons are in each faculty, take each module and have each tag, "
+            + "out of all persons in the address book.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_PERSON_COUNT = "%1$d of %2$d persons listed.";
+    public static final String MESSAGE_FACET = "%1$s: %2$s";
+    public static final String MESSAGE_VALUE = "%1$s %2$d/%3$d";
+    public static final String MESSAGE_NO_VALUES = "none";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        FacetCounts listed = model.getFilteredFacetCounts();
+        FacetCounts all = model.getFacetCounts();
+
+        StringBuilder feedback = new StringBuilder(
+                String.format(MESSAGE_PERSON_COUNT, listed.getPersonCount(), all.getPersonCount()));
+        for (Facet facet : Facet.values()) {
+            List<Map.Entry<String, Integer>> counts = listed.getCounts(facet);
+            String values = counts.isEmpty()
+                    ? MESSAGE_NO_VALUES
+                    : counts.stream()
+                            .map(entry -> String.format(MESSAGE_VALUE, entry.getKey(), entry.getValue(),
+                                    all.getCount(facet, entry.getKey())))
+                            .collect(Collectors.joining(", "));
+            feedback.append('\n').append(String.format(MESSAGE_FACET, facet.getDisplayName(), values));
+        }
+        return new CommandResult(feedback.toString());
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.ExplainCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ExplainCommand object.
+ */
+public class ExplainCommandParser implements Parser<ExplainCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExplainCommand
+     * and returns an ExplainCommand object for execution.
+     * The arguments must be a find command, whose own arguments are parsed as by {@link FindCommandParser}.
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    public ExplainCommand parse(String args) throws ParseException {
+        String[] commandAndArguments = args.trim().split("\\s+", 2);
+        if (!commandAndArguments[0].equals(FindCommand.COMMAND_WORD)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExplainCommand.MESSAGE_USAGE));
+        }
+
+        String findArguments = commandAndArguments.length > 1 ? " " + commandAndArguments[1] : "";
+        return new ExplainCommand(new FindCommandParser().parsePredicate(findArguments));
+    }
+}
@@ -1,13 +1,18 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FACULTY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FUZZY_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -16,32 +21,53 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.FacultyContainsKeywordsPredicate;
 import seedu.address.model.person.ModuleContainsKeywordsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameSimilarToKeywordsPredicate;
+import seedu.address.model.person.NameStartsWithKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.search.AllMatchPredicate;
+import seedu.address.model.search.IndexedPredicate;
+import seedu.address.model.search.SubstringField;
+import seedu.address.model.search.SubstringPredicate;
 
 /**
  * Parses input arguments and creates a new FindCommand object
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    private static final Prefix[] SEARCH_PREFIXES = {PREFIX_NAME, PREFIX_FUZZY_NAME, PREFIX_TAG, PREFIX_FACULTY,
+            PREFIX_MODULE, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS};
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_TAG, PREFIX_FACULTY, PREFIX_MODULE);
+        return new FindCommand(parsePredicate(args));
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindCommand
+     * and returns the query that it searches for.
+     * Arguments with operators, parentheses or quoted phrases are parsed by {@link QueryParser}.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public IndexedPredicate parsePredicate(String args) throws ParseException {
+        if (QueryParser.isBooleanQuery(args)) {
+            return QueryParser.parse(args);
+        }
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, SEARCH_PREFIXES);
 
-        if (!isAnyPrefixPresent(argMultimap, PREFIX_NAME, PREFIX_TAG, PREFIX_FACULTY, PREFIX_MODULE)
-                || !argMultimap.getPreamble().isEmpty()) {
+        if (!isAnyPrefixPresent(argMultimap, SEARCH_PREFIXES) || !argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
         // Throws ParseException if prefixes are repeated e.g. n/Alice n/Bob
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_TAG, PREFIX_FACULTY, PREFIX_MODULE);
+        argMultimap.verifyNoDuplicatePrefixesFor(SEARCH_PREFIXES);
 
-        List<Predicate<Person>> predicates = new ArrayList<>();
+        List<IndexedPredicate> predicates = new ArrayList<>();
 
         if (argMultimap.getValue(PREFIX_NAME).isPresent()) {
             String nameKeywords = argMultimap.getValue(PREFIX_NAME).get();
@@ -50,6 +76,13 @@ public class FindCommandParser implements Parser<FindCommand> {
             }
             predicates.add(new NameContainsKeywordsPredicate(List.of(nameKeywords.split("\\s+"))));
         }
+        if (argMultimap.getValue(PREFIX_FUZZY_NAME).isPresent()) {
+            String fuzzyNameKeywords = argMultimap.getValue(PREFIX_FUZZY_NAME).get();
+            if (fuzzyNameKeywords.isEmpty()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+            predicates.add(new NameSimilarToKeywordsPredicate(List.of(fuzzyNameKeywords.split("\\s+"))));
+        }
         if (argMultimap.getValue(PREFIX_TAG).isPresent()) {
             String tagKeywords = argMultimap.getValue(PREFIX_TAG).get();
             if (tagKeywords.isEmpty()) {
@@ -71,11 +104,56 @@ public class FindCommandParser implements Parser<FindCommand> {
             }
             predicates.add(new ModuleContainsKeywordsPredicate(List.of(moduleKeywords.split("\\s+"))));
         }
+        if (argMultimap.getValue(PREFIX_PHONE).isPresent()) {
+            predicates.add(parseSubstrings(SubstringField.PHONE, argMultimap.getValue(PREFIX_PHONE).get()));
+        }
+        if (argMultimap.getValue(PREFIX_EMAIL).isPresent()) {
+            predicates.add(parseSubstrings(SubstringField.EMAIL, argMultimap.getValue(PREFIX_EMAIL).get()));
+        }
+        if (argMultimap.getValue(PREFIX_ADDRESS).isPresent()) {
+            predicates.add(parseSubstrings(SubstringField.ADDRESS, argMultimap.getValue(PREFIX_ADDRESS).get()));
+        }
 
-        // Combine all predicates with an 'AND' logic
-        Predicate<Person> combinedPredicate = predicates.stream().reduce(Predicate::and).orElse(x -> true);
+        // Combine all predicates with an 'AND' logic, which the model answers as an intersection of index bitmaps,
+        // most selective first
+        return predicates.size() == 1
+                ? predicates.get(0)
+                : new AllMatchPredicate(predicates);
+    }
 
-        return new FindCommand(combinedPredicate);
+    /**
+     * Parses the given {@code String} of arguments of a partially typed FindCommand that only searches by name,
+     * and returns a predicate that matches names with a word starting with any of the keywords typed so far.
+     *
+     * @return the predicate, or an empty {@code Optional} if the arguments are not a name-only search with at least
+     *     one keyword.
+     */
+    public Optional<Predicate<Person>> parseNamePrefixes(String args) {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, SEARCH_PREFIXES);
+        if (!argMultimap.getPreamble().isEmpty()
+                || isAnyPrefixPresent(argMultimap, PREFIX_FUZZY_NAME, PREFIX_TAG, PREFIX_FACULTY, PREFIX_MODULE,
+                        PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS)
+                || argMultimap.getAllValues(PREFIX_NAME).size() != 1) {
+            return Optional.empty();
+        }
+
+        String nameKeywords = argMultimap.getValue(PREFIX_NAME).get();
+        if (nameKeywords.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new NameStartsWithKeywordsPredicate(List.of(nameKeywords.split("\\s+"))));
+    }
+
+    /**
+     * Parses the value of a phone, email or address prefix into a predicate that matches any of its
+     * whitespace-separated substrings in {@code field}.
+     * @throws ParseException if the value is empty
+     */
+    private static IndexedPredicate parseSubstrings(SubstringField field, String substrings) throws ParseException {
+        if (substrings.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        return new SubstringPredicate(field, List.of(substrings.split("\\s+")));
     }
 
     /**
@@ -110,7 +110,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -125,7 +125,7 @@ public class ParserUtil {
         if (!Module.isValidModuleName(trimmedModule)) {
             throw new ParseException(Module.MESSAGE_CONSTRAINTS);
         }
-        return new Module(trimmedModule);
+        return Module.of(trimmedModule);
     }
 
     /**
@@ -140,7 +140,7 @@ public class ParserUtil {
         if (!Faculty.isValidFacultyName(trimmedFaculty)) {
             throw new ParseException(Faculty.MESSAGE_CONSTRAINTS);
         }
-        return new Faculty(trimmedFaculty);
+        return Faculty.of(trimmedFaculty);
     }
 
     /**
@@ -0,0 +1,335 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FACULTY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FUZZY_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.FacultyContainsKeywordsPredicate;
+import seedu.address.model.person.ModuleContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameSimilarToKeywordsPredicate;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.search.AllMatchPredicate;
+import seedu.address.model.search.AnyMatchPredicate;
+import seedu.address.model.search.IndexedPredicate;
+import seedu.address.model.search.NotPredicate;
+import seedu.address.model.search.PhrasePredicate;
+import seedu.address.model.search.SearchField;
+import seedu.address.model.search.SubstringField;
+import seedu.address.model.search.SubstringPredicate;
+
+/**
+ * Parses the boolean query language of the find command into a tree of {@link IndexedPredicate}s, which the model
+ * answers with unions, intersections and differences of index bitmaps.
+ *
+ * <pre>
+ * query     := or
+ * or        := and ("OR" and)*
+ * and       := unary (["AND"] unary)*
+ * unary     := "NOT" unary | "(" or ")" | criterion
+ * criterion := PREFIX [KEYWORD | "PHRASE"] (KEYWORD | "PHRASE")*
+ * </pre>
+ *
+ * Operators must be written in upper case, and a word such as "AND" is only an operator where the grammar allows one,
+ * before a criterion, "NOT" or "("; elsewhere, as in {@code n/Tom AND Jerry}, it is a keyword. A criterion matches
+ * persons with any of its keywords or phrases in the field of its prefix, and criteria that follow each other without
+ * an operator must all match, as in a find command without operators. The keywords and phrases of a phone, email or
+ * address criterion are substrings of the value.
+ */
+public class QueryParser {
+
+    private static final Prefix[] PREFIXES = {PREFIX_NAME, PREFIX_FUZZY_NAME, PREFIX_TAG, PREFIX_FACULTY,
+            PREFIX_MODULE, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS};
+
+    private final List<Token> tokens;
+    private int position = 0;
+
+    private QueryParser(List<Token> tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * Returns true if {@code args} uses any of the operators, parentheses or quoted phrases of the query language,
+     * as opposed to only prefixed keywords.
+     */
+    public static boolean isBooleanQuery(String args) {
+        try {
+            return tokenize(args).stream().anyMatch(token -> token.kind != TokenKind.PREFIXED
+                    && token.kind != TokenKind.WORD);
+        } catch (ParseException pe) {
+            // An unclosed quotation mark is an attempt at a phrase
+            return true;
+        }
+    }
+
+    /**
+     * Parses {@code args} as a query.
+     * @throws ParseException if {@code args} is not a valid query
+     */
+    public static IndexedPredicate parse(String args) throws ParseException {
+        QueryParser parser = new QueryParser(tokenize(args));
+        if (parser.tokens.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        IndexedPredicate query = parser.parseOr();
+        if (parser.hasNext()) {
+            throw invalidQuery("unexpected " + parser.peek());
+        }
+        return query;
+    }
+
+    private IndexedPredicate parseOr() throws ParseException {
+        List<IndexedPredicate> alternatives = new ArrayList<>();
+        alternatives.add(parseAnd());
+        while (nextIs(TokenKind.OR)) {
+            position++;
+            alternatives.add(parseAnd());
+        }
+        return alternatives.size() == 1 ? alternatives.get(0) : new AnyMatchPredicate(alternatives);
+    }
+
+    private IndexedPredicate parseAnd() throws ParseException {
+        List<IndexedPredicate> criteria = new ArrayList<>();
+        criteria.add(parseUnary());
+        while (true) {
+            if (nextIs(TokenKind.AND)) {
+                position++;
+            } else if (!nextIs(TokenKind.NOT) && !nextIs(TokenKind.OPEN) && !nextIs(TokenKind.PREFIXED)) {
+                break;
+            }
+            criteria.add(parseUnary());
+        }
+        return criteria.size() == 1 ? criteria.get(0) : new AllMatchPredicate(criteria);
+    }
+
+    private IndexedPredicate parseUnary() throws ParseException {
+        if (!hasNext()) {
+            throw invalidQuery("expected a criterion such as " + PREFIX_NAME + "KEYWORD at the end");
+        }
+        Token token = tokens.get(position++);
+        switch (token.kind) {
+        case NOT:
+            return new NotPredicate(parseUnary());
+        case OPEN:
+            IndexedPredicate inner = parseOr();
+            if (!nextIs(TokenKind.CLOSE)) {
+                throw invalidQuery("missing )");
+            }
+            position++;
+            return inner;
+        case PREFIXED:
+            return parseCriterion(token);
+        case WORD:
+            throw invalidQuery(token + " must follow a prefix such as " + PREFIX_NAME);
+        default:
+            throw invalidQuery("expected a criterion such as " + PREFIX_NAME + "KEYWORD before " + token);
+        }
+    }
+
+    /**
+     * Parses the criterion that starts with the prefixed token {@code start}, together with the keywords and phrases
+     * that follow it.
+     */
+    private IndexedPredicate parseCriterion(Token start) throws ParseException {
+        List<String> keywords = new ArrayList<>();
+        List<String> phrases = new ArrayList<>();
+        if (!start.text.isEmpty()) {
+            keywords.add(start.text);
+        }
+        while (nextIs(TokenKind.WORD) || nextIs(TokenKind.PHRASE)) {
+            Token token = tokens.get(position++);
+            if (token.kind == TokenKind.WORD) {
+                keywords.add(token.text);
+            } else {
+                phrases.add(token.text);
+            }
+        }
+        if (keywords.isEmpty() && phrases.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+
+        Optional<SubstringField> substringField = substringFieldOf(start.prefix);
+        if (substringField.isPresent()) {
+            List<String> substrings = new ArrayList<>(keywords);
+            substrings.addAll(phrases);
+            return new SubstringPredicate(substringField.get(), substrings);
+        }
+
+        List<IndexedPredicate> alternatives = new ArrayList<>();
+        if (!keywords.isEmpty()) {
+            alternatives.add(createKeywordPredicate(start.prefix, keywords));
+        }
+        for (String phrase : phrases) {
+            alternatives.add(new PhrasePredicate(fieldOf(start.prefix), phrase));
+        }
+        return alternatives.size() == 1 ? alternatives.get(0) : new AnyMatchPredicate(alternatives);
+    }
+
+    private static IndexedPredicate createKeywordPredicate(Prefix prefix, List<String> keywords) {
+        if (prefix.equals(PREFIX_NAME)) {
+            return new NameContainsKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_FUZZY_NAME)) {
+            return new NameSimilarToKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_TAG)) {
+            return new TagContainsKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_FACULTY)) {
+            return new FacultyContainsKeywordsPredicate(keywords);
+        } else {
+            return new ModuleContainsKeywordsPredicate(keywords);
+        }
+    }
+
+    private static Optional<SubstringField> substringFieldOf(Prefix prefix) {
+        if (prefix.equals(PREFIX_PHONE)) {
+            return Optional.of(SubstringField.PHONE);
+        } else if (prefix.equals(PREFIX_EMAIL)) {
+            return Optional.of(SubstringField.EMAIL);
+        } else if (prefix.equals(PREFIX_ADDRESS)) {
+            return Optional.of(SubstringField.ADDRESS);
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private static SearchField fieldOf(Prefix prefix) throws ParseException {
+        if (prefix.equals(PREFIX_NAME)) {
+            return SearchField.NAME;
+        } else if (prefix.equals(PREFIX_TAG)) {
+            return SearchField.TAG;
+        } else if (prefix.equals(PREFIX_FACULTY)) {
+            return SearchField.FACULTY;
+        } else if (prefix.equals(PREFIX_MODULE)) {
+            return SearchField.MODULE;
+        } else {
+            throw invalidQuery("phrases cannot be matched with " + prefix);
+        }
+    }
+
+    private boolean hasNext() {
+        return position < tokens.size();
+    }
+
+    private boolean nextIs(TokenKind kind) {
+        return hasNext() && tokens.get(position).kind == kind;
+    }
+
+    private Token peek() {
+        return tokens.get(position);
+    }
+
+    private static ParseException invalidQuery(String reason) {
+        return new ParseException(String.format(FindCommand.MESSAGE_INVALID_QUERY, reason));
+    }
+
+    /**
+     * Splits {@code args} into tokens: parentheses, quoted phrases, and whitespace-separated words, which are
+     * operators, prefixed keywords or plain keywords. Operator words that are not followed by the start of a criterion
+     * are plain keywords.
+     */
+    private static List<Token> tokenize(String args) throws ParseException {
+        List<Token> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < args.length()) {
+            char c = args.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(' || c == ')') {
+                tokens.add(new Token(c == '(' ? TokenKind.OPEN : TokenKind.CLOSE, null, String.valueOf(c)));
+                i++;
+            } else if (c == '"') {
+                int end = args.indexOf('"', i + 1);
+                if (end < 0) {
+                    throw invalidQuery("missing closing \"");
+                }
+                String phrase = args.substring(i + 1, end).trim();
+                if (phrase.isEmpty()) {
+                    throw invalidQuery("empty phrase \"\"");
+                }
+                tokens.add(new Token(TokenKind.PHRASE, null, phrase));
+                i = end + 1;
+            } else {
+                int end = i;
+                while (end < args.length() && !Character.isWhitespace(args.charAt(end))
+                        && "()\"".indexOf(args.charAt(end)) < 0) {
+                    end++;
+                }
+                tokens.add(toWordToken(args.substring(i, end)));
+                i = end;
+            }
+        }
+
+        // From the end, so that the token after each operator word already has its final kind
+        for (int j = tokens.size() - 1; j >= 0; j--) {
+            Token token = tokens.get(j);
+            boolean isOperator = token.kind == TokenKind.AND || token.kind == TokenKind.OR
+                    || token.kind == TokenKind.NOT;
+            if (isOperator && (j + 1 == tokens.size() || !startsUnary(tokens.get(j + 1).kind))) {
+                tokens.set(j, new Token(TokenKind.WORD, null, token.text));
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean startsUnary(TokenKind kind) {
+        return kind == TokenKind.NOT || kind == TokenKind.OPEN || kind == TokenKind.PREFIXED;
+    }
+
+    private static Token toWordToken(String word) {
+        switch (word) {
+        case "AND":
+            return new Token(TokenKind.AND, null, word);
+        case "OR":
+            return new Token(TokenKind.OR, null, word);
+        case "NOT":
+            return new Token(TokenKind.NOT, null, word);
+        default:
+            for (Prefix prefix : PREFIXES) {
+                if (word.startsWith(prefix.getPrefix())) {
+                    return new Token(TokenKind.PREFIXED, prefix, word.substring(prefix.getPrefix().length()));
+                }
+            }
+            return new Token(TokenKind.WORD, null, word);
+        }
+    }
+
+    private enum TokenKind { OPEN, CLOSE, AND, OR, NOT, PREFIXED, WORD, PHRASE }
+
+    /**
+     * A token of a query. Prefixed tokens keep their prefix apart from the keyword that follows it, if any.
+     */
+    private static class Token {
+        private final TokenKind kind;
+        private final Prefix prefix;
+        private final String text;
+
+        Token(TokenKind kind, Prefix prefix, String text) {
+            this.kind = kind;
+            this.prefix = prefix;
+            this.text = text;
+        }
+
+        @Override
+        public String toString() {
+            switch (kind) {
+            case PREFIXED:
+                return "'" + prefix + text + "'";
+            case PHRASE:
+                return "'\"" + text + "\"'";
+            default:
+                return "'" + text + "'";
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Optional;
+
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.sort.SortField;
+
+/**
+ * Parses input arguments and creates a new SortCommand object.
+ */
+public class SortCommandParser implements Parser<SortCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SortCommand
+     * and returns a SortCommand object for execution.
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    public SortCommand parse(String args) throws ParseException {
+        String[] words = args.trim().split("\\s+");
+        if (words.length == 1 && words[0].equalsIgnoreCase(SortCommand.DEFAULT_ORDER)) {
+            return new SortCommand();
+        }
+
+        Optional<SortField> field = SortField.fromKeyword(words[0]);
+        if (field.isEmpty() || words.length > 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+        }
+        if (words.length == 1 || words[1].equalsIgnoreCase(SortCommand.ASCENDING)) {
+            return new SortCommand(field.get(), true);
+        } else if (words[1].equalsIgnoreCase(SortCommand.DESCENDING)) {
+            return new SortCommand(field.get(), false);
+        } else {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+        }
+    }
+}
@@ -2,16 +2,23 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.BatchAddResult;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonTree;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.search.PersonIndex;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ * Favorite persons are always listed before non-favorite persons
+ * Every person is given a stable ID that identifies it across edits (see {@link Person#getId()})
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
@@ -48,13 +55,31 @@ public class AddressBook implements ReadOnlyAddressBook {
         this.persons.setPersons(persons);
     }
 
+    /**
+     * Replaces the contents of the person list with the persons in {@code state}, each kept at its slot.
+     * The state is adopted without copying.
+     * No two persons in {@code state} may have the same name or ID, and each must be in a valid slot (see
+     * {@link UniquePersonList#isValidSlot(Person, long)}).
+     */
+    public void setPersons(PersonTree state) {
+        persons.setPersons(state);
+    }
+
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * If {@code newData} is an address book or a snapshot of one, its tree of persons is adopted as is, so that the
+     * states of the two share their structure, as a storage that compares saved states relies on.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
+        if (newData instanceof AddressBook) {
+            setPersons(((AddressBook) newData).getPersonTree());
+        } else if (newData instanceof AddressBookSnapshot) {
+            setPersons(((AddressBookSnapshot) newData).getPersonTree());
+        } else {
+            setPersons(newData.getPersonList());
+        }
     }
 
     //// person-level operations
@@ -67,14 +92,30 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person with the given {@code id}, if it is in the address book.
+     */
+    public Optional<Person> getPerson(long id) {
+        return persons.get(id);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
+     * The person is stored with a fresh ID unless it carries one that is not in use yet.
      */
     public void addPerson(Person p) {
         persons.add(p);
     }
 
+    /**
+     * Adds all of {@code toAdd} to the address book in a single update.
+     * Persons whose identity already exists in the address book, or appears earlier in {@code toAdd}, are skipped.
+     */
+    public BatchAddResult addPersons(Collection<Person> toAdd) {
+        return persons.addAll(toAdd);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -94,6 +135,38 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    /**
+     * Returns the live search index over the persons in this address book.
+     */
+    public PersonIndex getSearchIndex() {
+        return persons.getSearchIndex();
+    }
+
+    //// snapshot methods
+
+    /**
+     * Returns the number of modifications made to this address book so far.
+     */
+    public long getVersion() {
+        return persons.getVersion();
+    }
+
+    /**
+     * Returns the current contents of the person list as an immutable, structurally shared tree.
+     */
+    PersonTree getPersonTree() {
+        return persons.asTree();
+    }
+
+    /**
+     * Returns an immutable snapshot of the current contents of this address book.
+     * The snapshot is not affected by later changes and can be handed to other threads, e.g. for saving or exporting.
+     * Taking a snapshot does not copy the persons.
+     */
+    public AddressBookSnapshot snapshot() {
+        return new AddressBookSnapshot(persons.getVersion(), persons.asTree());
+    }
+
     //// util methods
 
     @Override
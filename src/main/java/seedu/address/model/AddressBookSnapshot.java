@@ -0,0 +1,78 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonTree;
+
+/**
+ * An immutable, point-in-time view of an {@code AddressBook}.
+ * Later changes to the address book do not affect the snapshot, so it can be read safely from any thread.
+ */
+public final class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final long version;
+    private final PersonTree tree;
+    private final ObservableList<Person> persons;
+
+    /**
+     * Creates a snapshot of the persons in {@code tree} taken at modification {@code version} of an address book.
+     */
+    AddressBookSnapshot(long version, PersonTree tree) {
+        requireNonNull(tree);
+        this.version = version;
+        this.tree = tree;
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(tree.asList()));
+    }
+
+    /**
+     * Returns the modification version of the address book at the time this snapshot was taken.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the persons of this snapshot as the persistent tree they are held in, which shares structure with the
+     * trees of other snapshots of the same address book.
+     */
+    public PersonTree getPersonTree() {
+        return tree;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookSnapshot)) {
+            return false;
+        }
+
+        AddressBookSnapshot otherSnapshot = (AddressBookSnapshot) other;
+        return persons.equals(otherSnapshot.persons);
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("version", version)
+                .add("persons", persons)
+                .toString();
+    }
+}
@@ -1,11 +1,17 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.BatchAddResult;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.FacetCounts;
+import seedu.address.model.search.IndexedPredicate;
+import seedu.address.model.search.QueryPlan;
 
 /**
  * The API of the Model component.
@@ -52,6 +58,17 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable snapshot of the AddressBook that is safe to read from other threads.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
+    /**
+     * Returns the number of modifications made to the address book so far, including those made by undo and redo.
+     * The version changes exactly when the contents of the address book may have changed.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -69,6 +86,14 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds all of the given persons in a single update.
+     * Persons whose identity already exists in the address book, or appears earlier in {@code persons}, are skipped.
+     *
+     * @return a report of the added and skipped persons.
+     */
+    BatchAddResult addPersons(Collection<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -76,6 +101,31 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Returns true if the model has previous address book states to restore.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if the model has undone address book states to restore.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Restores the model's address book to its previous state.
+     */
+    void undoAddressBook();
+
+    /**
+     * Restores the model's address book to its previously undone state.
+     */
+    void redoAddressBook();
+
+    /**
+     * Saves the current address book state for undo/redo.
+     */
+    void commitAddressBook();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -84,4 +134,33 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Returns the predicate that the filtered person list was last filtered by.
+     */
+    Predicate<Person> getFilteredPersonListPredicate();
+
+    /**
+     * Orders the filtered person list by {@code comparator}, or in address book order if it is null.
+     * The order stays in place when the filter changes.
+     */
+    void sortFilteredPersonList(Comparator<Person> comparator);
+
+    /**
+     * Returns how {@code query} is answered against the current address book, without changing the filtered list.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    QueryPlan explainQuery(IndexedPredicate query);
+
+    /**
+     * Returns the number of persons with each faculty, module and tag in the address book.
+     * The counts are live: they follow every later change to the address book.
+     */
+    FacetCounts getFacetCounts();
+
+    /**
+     * Returns the number of persons with each faculty, module and tag in the filtered person list.
+     * The counts are live: they follow every later change to the filtered person list.
+     */
+    FacetCounts getFilteredFacetCounts();
 }
@@ -4,16 +4,21 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.BatchAddResult;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.FacetCounts;
+import seedu.address.model.search.IndexedPredicate;
+import seedu.address.model.search.QueryPlan;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -21,9 +26,19 @@ import seedu.address.model.person.Person;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
-    private final AddressBook addressBook;
+    private final VersionedAddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> displayedPersons;
+    private final FacetCounts facetCounts;
+    private final FacetCounts filteredFacetCounts;
+
+    // The order chosen by the user, or null for address book order
+    private Comparator<Person> sortOrder;
+    // The predicate the filtered list was last filtered by
+    private Predicate<Person> filter = PREDICATE_SHOW_ALL_PERSONS;
+    // The ranking of the current filter, or null if it does not rank its matches
+    private Comparator<Person> ranking;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -33,12 +48,14 @@ public class ModelManager implements Model {
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
+        this.addressBook = new VersionedAddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        // The counts listen to each list before the lists derived from it, so that they are up to date by the time
+        // the displayed list changes
+        facetCounts = FacetCounts.of(this.addressBook.getPersonList());
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-
-        // Sort the address book by favorite status on initialization
-        sortByFavoriteStatus();
+        filteredFacetCounts = FacetCounts.of(filteredPersons);
+        displayedPersons = new SortedList<>(filteredPersons);
     }
 
     public ModelManager() {
@@ -92,6 +109,16 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return addressBook.snapshot();
+    }
+
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -107,102 +134,121 @@ public class ModelManager implements Model {
     public void addPerson(Person person) {
         addressBook.addPerson(person);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
 
-        // If adding a favorite contact, place it at the top
-        if (person.getFavorite().getIsFavorite()) {
-            sortByFavoriteStatus(person);
-        }
+    @Override
+    public BatchAddResult addPersons(Collection<Person> persons) {
+        requireNonNull(persons);
+        BatchAddResult result = addressBook.addPersons(persons);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        return result;
     }
 
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        // Check if favorite status has actually changed
-        boolean favoriteStatusChanged = !target.getFavorite().equals(editedPerson.getFavorite());
-
-        // Update the person data
         addressBook.setPerson(target, editedPerson);
+    }
 
-        // Only sort if favorite status has changed
-        if (favoriteStatusChanged) {
-            sortByFavoriteStatus(editedPerson);
-        }
+    //=========== Undo/Redo ==================================================================================
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return addressBook.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return addressBook.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        addressBook.undo();
+    }
+
+    @Override
+    public void redoAddressBook() {
+        addressBook.redo();
+    }
+
+    @Override
+    public void commitAddressBook() {
+        addressBook.commit();
     }
 
     //=========== Filtered Person List Accessors =============================================================
 
     /**
      * Returns an unmodifiable view of the filtered list of {@code Person}.
+     * The matches of a filter that ranks them are listed in the order of its ranking, with ties in the order set by
+     * {@link #sortFilteredPersonList(Comparator)}; any other persons are listed in that order, which is address book
+     * order unless set otherwise.
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return displayedPersons;
     }
 
+    /**
+     * {@inheritDoc}
+     * An {@link IndexedPredicate} is answered from the search index of the address book instead of being tested
+     * against every person, and its matches are listed in the order of its ranking, if it has one.
+     * The list is filtered on the calling thread, as answering from the index is fast enough at large sizes not to
+     * hold up the UI (see {@code FilterBenchmark}).
+     */
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        filter = predicate;
+        if (predicate instanceof IndexedPredicate) {
+            IndexedPredicate indexedPredicate = (IndexedPredicate) predicate;
+            filteredPersons.setPredicate(addressBook.getSearchIndex().filter(indexedPredicate));
+            ranking = indexedPredicate.getRanking().orElse(null);
+        } else {
+            filteredPersons.setPredicate(predicate);
+            ranking = null;
+        }
+        updateComparator();
     }
 
-    //=========== Sorting Methods ============================================================================
+    @Override
+    public Predicate<Person> getFilteredPersonListPredicate() {
+        return filter;
+    }
 
-    /**
-     * Sorts the entire address book by favorite status.
-     * Favorite contacts appear first, followed by non-favorites.
-     * Within each group, the original order is preserved.
-     */
-    private void sortByFavoriteStatus() {
-        sortByFavoriteStatus(null);
+    @Override
+    public void sortFilteredPersonList(Comparator<Person> comparator) {
+        sortOrder = comparator;
+        updateComparator();
     }
 
     /**
-     * Sorts the address book by favorite status, with special handling for the edited person.
-     * If a person is newly favorited, they are placed at the top of the favorites group.
-     * If a person is unfavorited, they are placed at the bottom of the non-favorites group.
-     *
-     * @param editedPerson The person whose favorite status was changed, or null for general sorting
+     * Orders the displayed list by the ranking of the current filter, if any, then by the sort order, if any.
      */
-    private void sortByFavoriteStatus(Person editedPerson) {
-        // Get the complete underlying list (not affected by filters)
-        ObservableList<Person> personList = addressBook.getPersonList();
-        List<Person> allPersons = new ArrayList<>(personList);
-
-        List<Person> favorites = new ArrayList<>();
-        List<Person> nonFavorites = new ArrayList<>();
-
-        // If editedPerson is newly favorited, add them first
-        if (editedPerson != null && editedPerson.getFavorite().getIsFavorite()) {
-            favorites.add(editedPerson);
-        }
-
-        // Separate remaining contacts, preserving original order within each group
-        for (Person person : allPersons) {
-            // Skip the editedPerson as it's already handled
-            if (editedPerson != null && person.equals(editedPerson)) {
-                continue;
-            }
-
-            if (person.getFavorite().getIsFavorite()) {
-                favorites.add(person);
-            } else {
-                nonFavorites.add(person);
-            }
+    private void updateComparator() {
+        if (ranking == null) {
+            displayedPersons.setComparator(sortOrder);
+        } else {
+            displayedPersons.setComparator(sortOrder == null ? ranking : ranking.thenComparing(sortOrder));
         }
+    }
 
-        // If editedPerson is unfavorited, add them last to non-favorites
-        if (editedPerson != null && !editedPerson.getFavorite().getIsFavorite()) {
-            nonFavorites.add(editedPerson);
-        }
+    @Override
+    public QueryPlan explainQuery(IndexedPredicate query) {
+        requireNonNull(query);
+        return QueryPlan.of(query, addressBook.getSearchIndex());
+    }
 
-        // Recombine: favorites first, then non-favorites
-        List<Person> sortedList = new ArrayList<>();
-        sortedList.addAll(favorites);
-        sortedList.addAll(nonFavorites);
+    @Override
+    public FacetCounts getFacetCounts() {
+        return facetCounts;
+    }
 
-        // Update the underlying list
-        addressBook.setPersons(sortedList);
+    @Override
+    public FacetCounts getFilteredFacetCounts() {
+        return filteredFacetCounts;
     }
 
     @Override
@@ -219,7 +265,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons);
+                && displayedPersons.equals(otherModelManager.displayedPersons);
     }
 
 }
@@ -13,4 +13,16 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns true if the address book file is saved without line breaks and indentation, which makes it smaller and
+     * quicker to write, but harder to read and edit by hand.
+     */
+    boolean isCompactDataFile();
+
+    /**
+     * Returns true if the address book is saved in a binary file next to the address book file, with the same name but
+     * the extension {@code .bin}, which is smaller and quicker to read, but cannot be read or edited by hand.
+     */
+    boolean isBinaryDataFile();
+
 }
@@ -15,6 +15,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private boolean compactDataFile = false;
+    private boolean binaryDataFile = false;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +38,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setCompactDataFile(newUserPrefs.isCompactDataFile());
+        setBinaryDataFile(newUserPrefs.isBinaryDataFile());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +60,22 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public boolean isCompactDataFile() {
+        return compactDataFile;
+    }
+
+    public void setCompactDataFile(boolean compactDataFile) {
+        this.compactDataFile = compactDataFile;
+    }
+
+    public boolean isBinaryDataFile() {
+        return binaryDataFile;
+    }
+
+    public void setBinaryDataFile(boolean binaryDataFile) {
+        this.binaryDataFile = binaryDataFile;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +89,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && compactDataFile == otherUserPrefs.compactDataFile
+                && binaryDataFile == otherUserPrefs.binaryDataFile;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, compactDataFile, binaryDataFile);
     }
 
     @Override
@@ -82,6 +104,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nCompact data file : " + compactDataFile);
+        sb.append("\nBinary data file : " + binaryDataFile);
         return sb.toString();
     }
 
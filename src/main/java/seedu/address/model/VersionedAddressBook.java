@@ -0,0 +1,95 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.person.PersonTree;
+
+/**
+ * {@code AddressBook} that keeps track of its own history.
+ * Each committed state is a persistent {@code PersonTree} that shares structure with its neighbours, so a commit
+ * after a single-person change costs O(log n) memory instead of a full copy of the address book.
+ */
+public class VersionedAddressBook extends AddressBook {
+
+    private final List<PersonTree> addressBookStateList = new ArrayList<>();
+    private int currentStatePointer;
+
+    /**
+     * Creates a {@code VersionedAddressBook} using the Persons in {@code initialState}, with that state as the only
+     * entry of its history.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState) {
+        super(initialState);
+        addressBookStateList.add(getPersonTree());
+        currentStatePointer = 0;
+    }
+
+    /**
+     * Saves the current address book state in the history.
+     * Undone states are removed from the history.
+     */
+    public void commit() {
+        removeStatesAfterCurrentPointer();
+        addressBookStateList.add(getPersonTree());
+        currentStatePointer++;
+    }
+
+    private void removeStatesAfterCurrentPointer() {
+        addressBookStateList.subList(currentStatePointer + 1, addressBookStateList.size()).clear();
+    }
+
+    /**
+     * Restores the address book to its previous state.
+     */
+    public void undo() {
+        if (!canUndo()) {
+            throw new NoUndoableStateException();
+        }
+        currentStatePointer--;
+        setPersons(addressBookStateList.get(currentStatePointer));
+    }
+
+    /**
+     * Restores the address book to its previously undone state.
+     */
+    public void redo() {
+        if (!canRedo()) {
+            throw new NoRedoableStateException();
+        }
+        currentStatePointer++;
+        setPersons(addressBookStateList.get(currentStatePointer));
+    }
+
+    /**
+     * Returns true if {@code undo()} has address book states to undo.
+     */
+    public boolean canUndo() {
+        return currentStatePointer > 0;
+    }
+
+    /**
+     * Returns true if {@code redo()} has address book states to redo.
+     */
+    public boolean canRedo() {
+        return currentStatePointer < addressBookStateList.size() - 1;
+    }
+
+    /**
+     * Thrown when trying to {@code undo()} but can't.
+     */
+    public static class NoUndoableStateException extends RuntimeException {
+        private NoUndoableStateException() {
+            super("Current state pointer at start of addressBookState list, unable to undo.");
+        }
+    }
+
+    /**
+     * Thrown when trying to {@code redo()} but can't.
+     */
+    public static class NoRedoableStateException extends RuntimeException {
+        private NoRedoableStateException() {
+            super("Current state pointer at end of addressBookState list, unable to redo.");
+        }
+    }
+}
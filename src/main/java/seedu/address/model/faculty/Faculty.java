@@ -3,20 +3,26 @@ package seedu.address.model.faculty;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.InternPool;
+import seedu.address.model.validation.FieldValidators;
+
 /**
  * Represents a Faculty in the address book.
  * Guarantees: immutable; name is valid as declared in
  * {@link #isValidFacultyName(String)}
  */
-public class Faculty {
+public class Faculty implements Comparable<Faculty> {
 
     public static final String MESSAGE_CONSTRAINTS = "Faculty names should be only contain alphabets and spaces";
     public static final String VALIDATION_REGEX = "^[a-zA-Z ]+$";
 
+    private static final InternPool<Faculty> POOL = new InternPool<>(Faculty::new);
+
     public final String facultyName;
 
     /**
      * Constructs a {@code Faculty}.
+     * Prefer {@link #of(String)}, which returns a shared instance for equal names.
      *
      * @param facultyName A valid faculty name.
      */
@@ -26,11 +32,21 @@ public class Faculty {
         this.facultyName = facultyName;
     }
 
+    /**
+     * Returns the canonical {@code Faculty} with the given name.
+     * The name is only validated the first time it is seen, while an equal {@code Faculty} is still in use.
+     *
+     * @param facultyName A valid faculty name.
+     */
+    public static Faculty of(String facultyName) {
+        return POOL.intern(facultyName);
+    }
+
     /**
      * Returns true if a given string is a valid faculty name.
      */
     public static boolean isValidFacultyName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return POOL.contains(test) || FieldValidators.isValidFacultyName(test);
     }
 
     @Override
@@ -53,6 +69,14 @@ public class Faculty {
         return facultyName.hashCode();
     }
 
+    /**
+     * Orders faculties by name, consistently with {@link #equals(Object)}.
+     */
+    @Override
+    public int compareTo(Faculty other) {
+        return facultyName.compareTo(other.facultyName);
+    }
+
     /**
      * Format state as text for viewing.
      */
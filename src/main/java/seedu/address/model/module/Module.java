@@ -3,12 +3,15 @@ package seedu.address.model.module;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.InternPool;
+import seedu.address.model.validation.FieldValidators;
+
 /**
  * Represents a Module in the address book.
  * Guarantees: immutable; name is valid as declared in
  * {@link #isValidModuleName(String)}
  */
-public class Module {
+public class Module implements Comparable<Module> {
 
     public static final String MESSAGE_CONSTRAINTS = "Module names should consist of 2 to 4 uppercase letters, "
             + "followed by 4 digits, "
@@ -16,10 +19,13 @@ public class Module {
             + "For example, CS2103T, GESS1101, CS2040DE.";
     public static final String VALIDATION_REGEX = "^[A-Z]{2,4}\\d{4}[A-Z]?[A-Z]?$";
 
+    private static final InternPool<Module> POOL = new InternPool<>(Module::new);
+
     public final String moduleName;
 
     /**
      * Constructs a {@code Module}.
+     * Prefer {@link #of(String)}, which returns a shared instance for equal names.
      *
      * @param moduleName A valid module name.
      */
@@ -29,11 +35,21 @@ public class Module {
         this.moduleName = moduleName;
     }
 
+    /**
+     * Returns the canonical {@code Module} with the given name.
+     * The name is only validated the first time it is seen, while an equal {@code Module} is still in use.
+     *
+     * @param moduleName A valid module name.
+     */
+    public static Module of(String moduleName) {
+        return POOL.intern(moduleName);
+    }
+
     /**
      * Returns true if a given string is a valid module name.
      */
     public static boolean isValidModuleName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return POOL.contains(test) || FieldValidators.isValidModuleName(test);
     }
 
     @Override
@@ -56,6 +72,14 @@ public class Module {
         return moduleName.hashCode();
     }
 
+    /**
+     * Orders modules by name, consistently with {@link #equals(Object)}.
+     */
+    @Override
+    public int compareTo(Module other) {
+        return moduleName.compareTo(other.moduleName);
+    }
+
     /**
      * Format state as text for viewing.
      */
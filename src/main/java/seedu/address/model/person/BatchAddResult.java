@@ -0,0 +1,72 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Reports the outcome of adding several persons to the address book in a single batch.
+ * Guarantees: immutable.
+ */
+public class BatchAddResult {
+
+    private final List<Person> addedPersons;
+    private final List<Person> skippedPersons;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public BatchAddResult(List<Person> addedPersons, List<Person> skippedPersons) {
+        requireNonNull(addedPersons);
+        requireNonNull(skippedPersons);
+        this.addedPersons = List.copyOf(addedPersons);
+        this.skippedPersons = List.copyOf(skippedPersons);
+    }
+
+    /**
+     * Returns the persons that were added, in the order they were given.
+     */
+    public List<Person> getAddedPersons() {
+        return Collections.unmodifiableList(addedPersons);
+    }
+
+    /**
+     * Returns the persons that were skipped because a person with the same identity already exists,
+     * in the order they were given.
+     */
+    public List<Person> getSkippedPersons() {
+        return Collections.unmodifiableList(skippedPersons);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BatchAddResult)) {
+            return false;
+        }
+
+        BatchAddResult otherResult = (BatchAddResult) other;
+        return addedPersons.equals(otherResult.addedPersons)
+                && skippedPersons.equals(otherResult.skippedPersons);
+    }
+
+    @Override
+    public int hashCode() {
+        return addedPersons.hashCode() * 31 + skippedPersons.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("addedPersons", addedPersons)
+                .add("skippedPersons", skippedPersons)
+                .toString();
+    }
+}
@@ -1,29 +1,47 @@
 package seedu.address.model.person;
 
+import java.util.BitSet;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.search.IndexedPredicate;
+import seedu.address.model.search.PersonIndex;
+import seedu.address.model.search.SearchField;
 
 /**
  * Tests that a {@code Person}'s {@code Faculty} matches any of the keywords given.
  */
-public class FacultyContainsKeywordsPredicate implements Predicate<Person> {
+public class FacultyContainsKeywordsPredicate implements IndexedPredicate {
     private final List<String> keywords;
+    private final Set<String> foldedKeywords;
 
+    /**
+     * Creates a predicate that matches any of {@code keywords}.
+     */
     public FacultyContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.foldedKeywords = SearchField.FACULTY.foldKeywords(keywords);
     }
 
     @Override
     public boolean test(Person person) {
-        if (keywords.isEmpty()) {
-            return false;
-        }
-        return person.getFaculties().stream()
-                .anyMatch(faculty -> keywords.stream()
-                        .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(faculty.facultyName, keyword)));
+        return SearchField.FACULTY.matchesAny(person, foldedKeywords);
+    }
+
+    @Override
+    public BitSet evaluate(PersonIndex index) {
+        return index.findAny(SearchField.FACULTY, keywords);
+    }
+
+    @Override
+    public int estimateMatches(PersonIndex index) {
+        return index.countAny(SearchField.FACULTY, keywords);
+    }
+
+    @Override
+    public String describe() {
+        return "faculty contains any of " + keywords;
     }
 
     @Override
@@ -38,7 +56,12 @@ public class FacultyContainsKeywordsPredicate implements Predicate<Person> {
         }
 
         FacultyContainsKeywordsPredicate otherPredicate = (FacultyContainsKeywordsPredicate) other;
-        return keywords.equals(otherPredicate.keywords);
+        return foldedKeywords.equals(otherPredicate.foldedKeywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return foldedKeywords.hashCode();
     }
 
     @Override
@@ -1,28 +1,47 @@
 package seedu.address.model.person;
 
+import java.util.BitSet;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.search.IndexedPredicate;
+import seedu.address.model.search.PersonIndex;
+import seedu.address.model.search.SearchField;
 
 /**
  * Tests that a {@code Person}'s {@code Module} matches any of the keywords given.
  */
-public class ModuleContainsKeywordsPredicate implements Predicate<Person> {
+public class ModuleContainsKeywordsPredicate implements IndexedPredicate {
     private final List<String> keywords;
+    private final Set<String> foldedKeywords;
 
+    /**
+     * Creates a predicate that matches any of {@code keywords}.
+     */
     public ModuleContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.foldedKeywords = SearchField.MODULE.foldKeywords(keywords);
     }
 
     @Override
     public boolean test(Person person) {
-        if (keywords.isEmpty()) {
-            return false;
-        }
-        return person.getModules().stream()
-                .anyMatch(module -> keywords.stream()
-                        .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(module.moduleName, keyword)));
+        return SearchField.MODULE.matchesAny(person, foldedKeywords);
+    }
+
+    @Override
+    public BitSet evaluate(PersonIndex index) {
+        return index.findAny(SearchField.MODULE, keywords);
+    }
+
+    @Override
+    public int estimateMatches(PersonIndex index) {
+        return index.countAny(SearchField.MODULE, keywords);
+    }
+
+    @Override
+    public String describe() {
+        return "module contains any of " + keywords;
     }
 
     @Override
@@ -37,6 +56,16 @@ public class ModuleContainsKeywordsPredicate implements Predicate<Person> {
         }
 
         ModuleContainsKeywordsPredicate otherPredicate = (ModuleContainsKeywordsPredicate) other;
-        return keywords.equals(otherPredicate.keywords);
+        return foldedKeywords.equals(otherPredicate.foldedKeywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return foldedKeywords.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
     }
 }
@@ -1,25 +1,47 @@
 package seedu.address.model.person;
 
+import java.util.BitSet;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.search.IndexedPredicate;
+import seedu.address.model.search.PersonIndex;
+import seedu.address.model.search.SearchField;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements IndexedPredicate {
     private final List<String> keywords;
+    private final Set<String> foldedKeywords;
 
+    /**
+     * Creates a predicate that matches any of {@code keywords}.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.foldedKeywords = SearchField.NAME.foldKeywords(keywords);
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        return SearchField.NAME.matchesAny(person, foldedKeywords);
+    }
+
+    @Override
+    public BitSet evaluate(PersonIndex index) {
+        return index.findAny(SearchField.NAME, keywords);
+    }
+
+    @Override
+    public int estimateMatches(PersonIndex index) {
+        return index.countAny(SearchField.NAME, keywords);
+    }
+
+    @Override
+    public String describe() {
+        return "name contains any of " + keywords;
     }
 
     @Override
@@ -34,7 +56,12 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
         }
 
         NameContainsKeywordsPredicate otherNameContainsKeywordsPredicate = (NameContainsKeywordsPredicate) other;
-        return keywords.equals(otherNameContainsKeywordsPredicate.keywords);
+        return foldedKeywords.equals(otherNameContainsKeywordsPredicate.foldedKeywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return foldedKeywords.hashCode();
     }
 
     @Override
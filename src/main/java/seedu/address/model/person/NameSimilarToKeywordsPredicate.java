@@ -0,0 +1,116 @@
+package seedu.address.model.person;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.search.IndexedPredicate;
+import seedu.address.model.search.PersonIndex;
+import seedu.address.model.search.SearchField;
+
+/**
+ * Tests that a word of a {@code Person}'s {@code Name} is within a few typos of any of the keywords given,
+ * ignoring case.
+ * The number of typos tolerated grows with the length of the keyword (see {@link #maxDistance(String)}).
+ * Matches are ranked by the edit distance of their closest name word, closest first.
+ */
+public class NameSimilarToKeywordsPredicate implements IndexedPredicate {
+    private static final int NO_MATCH = Integer.MAX_VALUE;
+
+    private final List<String> keywords;
+    private final String[] foldedKeywords;
+
+    /**
+     * Creates a predicate that matches words similar to any of {@code keywords}.
+     */
+    public NameSimilarToKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+        this.foldedKeywords = SearchField.NAME.foldKeywords(keywords).toArray(new String[0]);
+        Arrays.sort(foldedKeywords);
+    }
+
+    /**
+     * Returns the largest edit distance at which a word still matches {@code keyword}.
+     * Keywords of up to 2 characters must match exactly, 3 characters allow one typo and longer keywords allow two.
+     */
+    public static int maxDistance(String keyword) {
+        if (keyword.length() <= 2) {
+            return 0;
+        }
+        return keyword.length() == 3 ? 1 : 2;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return distanceTo(person) != NO_MATCH;
+    }
+
+    @Override
+    public BitSet evaluate(PersonIndex index) {
+        BitSet result = new BitSet();
+        for (String keyword : keywords) {
+            index.findSimilar(SearchField.NAME, keyword, maxDistance(keyword)).keySet().forEach(result::set);
+        }
+        return result;
+    }
+
+    @Override
+    public String describe() {
+        return "name is similar to any of " + keywords;
+    }
+
+    @Override
+    public Optional<Comparator<Person>> getRanking() {
+        // Weak keys, so that the distances of persons that were deleted or edited do not outlive them
+        Map<Person, Integer> distances = new WeakHashMap<>();
+        return Optional.of(Comparator.comparingInt(person -> distances.computeIfAbsent(person, this::distanceTo)));
+    }
+
+    /**
+     * Returns the smallest edit distance between a name word of {@code person} and a keyword it matches,
+     * or {@code NO_MATCH} if it matches none.
+     */
+    private int distanceTo(Person person) {
+        int best = NO_MATCH;
+        for (String word : SearchField.NAME.termsOf(person)) {
+            for (String keyword : foldedKeywords) {
+                int distance = StringUtil.editDistance(word, keyword);
+                if (distance <= maxDistance(keyword)) {
+                    best = Math.min(best, distance);
+                }
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameSimilarToKeywordsPredicate)) {
+            return false;
+        }
+
+        NameSimilarToKeywordsPredicate otherPredicate = (NameSimilarToKeywordsPredicate) other;
+        return Arrays.equals(foldedKeywords, otherPredicate.foldedKeywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(foldedKeywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
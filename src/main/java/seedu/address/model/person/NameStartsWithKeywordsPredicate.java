@@ -0,0 +1,79 @@
+package seedu.address.model.person;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.search.IndexedPredicate;
+import seedu.address.model.search.PersonIndex;
+import seedu.address.model.search.SearchField;
+
+/**
+ * Tests that a word of a {@code Person}'s {@code Name} starts with any of the keywords given, ignoring case.
+ */
+public class NameStartsWithKeywordsPredicate implements IndexedPredicate {
+    private final List<String> keywords;
+    private final String[] foldedKeywords;
+
+    /**
+     * Creates a predicate that matches words starting with any of {@code keywords}.
+     */
+    public NameStartsWithKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+        this.foldedKeywords = SearchField.NAME.foldKeywords(keywords).toArray(new String[0]);
+        Arrays.sort(foldedKeywords);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (String word : SearchField.NAME.termsOf(person)) {
+            for (String keyword : foldedKeywords) {
+                if (word.startsWith(keyword)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public BitSet evaluate(PersonIndex index) {
+        return index.findAnyByPrefix(SearchField.NAME, keywords);
+    }
+
+    @Override
+    public int estimateMatches(PersonIndex index) {
+        return index.countAnyByPrefix(SearchField.NAME, keywords);
+    }
+
+    @Override
+    public String describe() {
+        return "name has a word starting with any of " + keywords;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameStartsWithKeywordsPredicate)) {
+            return false;
+        }
+
+        NameStartsWithKeywordsPredicate otherPredicate = (NameStartsWithKeywordsPredicate) other;
+        return Arrays.equals(foldedKeywords, otherPredicate.foldedKeywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(foldedKeywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
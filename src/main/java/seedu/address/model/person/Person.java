@@ -2,23 +2,38 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
+import seedu.address.commons.util.SortedArraySet;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.faculty.Faculty;
 import seedu.address.model.favorite.Favorite;
 import seedu.address.model.module.Module;
+import seedu.address.model.search.SearchKeys;
+import seedu.address.model.sort.SortKeys;
 import seedu.address.model.tag.Tag;
 
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * A person stored in an address book also carries a stable surrogate ID, assigned by the address book and kept
+ * across edits, undo/redo and saving. The ID is bookkeeping only and takes no part in equality.
  */
 public class Person {
 
+    /** The ID of a person that has not been assigned one by an address book yet. */
+    public static final long UNASSIGNED_ID = 0;
+
+    /**
+     * The largest ID a person may have: the largest integer that a double holds exactly, so that IDs are kept as they
+     * are by tools that read the numbers of a JSON data file as doubles.
+     */
+    public static final long MAX_ID = (1L << 53) - 1;
+
+    private final long id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -26,15 +41,41 @@ public class Person {
 
     // Data fields
     private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
-    private final Set<Module> modules = new HashSet<>();
-    private final Set<Faculty> faculties = new HashSet<>();
+    private final SortedArraySet<Tag> tags;
+    private final SortedArraySet<Module> modules;
+    private final SortedArraySet<Faculty> faculties;
     private final Favorite favorite;
 
+    // Cached hash code, computed on first use; 0 means not computed yet
+    private int hash;
+
+    // Cached search terms, computed on first use; SearchKeys is immutable, so racing computations are harmless
+    private SearchKeys searchKeys;
+
+    // Cached collation keys, computed on first use; an edited person is a new Person, so its keys are computed afresh
+    private SortKeys sortKeys;
+
     /**
      * Every field must be present and not null.
+     * The person has no ID until it is added to an address book.
      */
     public Person(
+        Name name,
+        Phone phone,
+        Email email,
+        Address address,
+        Set<Tag> tags,
+        Set<Module> modules,
+        Set<Faculty> faculties,
+        Favorite favorite) {
+        this(UNASSIGNED_ID, name, phone, email, address, tags, modules, faculties, favorite);
+    }
+
+    /**
+     * Every field must be present and not null.
+     */
+    public Person(
+        long id,
         Name name,
         Phone phone,
         Email email,
@@ -45,16 +86,41 @@ public class Person {
         Favorite favorite) {
         requireAllNonNull(name, phone, email, address, tags, modules, faculties, favorite);
 
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.tags.addAll(tags);
-        this.modules.addAll(modules);
-        this.faculties.addAll(faculties);
+        this.tags = SortedArraySet.copyOf(tags);
+        this.modules = SortedArraySet.copyOf(modules);
+        this.faculties = SortedArraySet.copyOf(faculties);
         this.favorite = favorite;
     }
 
+    /**
+     * Returns true if {@code id} is an ID that a person stored in an address book may have.
+     */
+    public static boolean isValidId(long id) {
+        return id > UNASSIGNED_ID && id <= MAX_ID;
+    }
+
+    /**
+     * Returns the ID of this person, or {@link #UNASSIGNED_ID} if it has none.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Returns a person with the same fields as this person and the given {@code id}.
+     */
+    public Person withId(long id) {
+        if (id == this.id) {
+            return this;
+        }
+        return new Person(id, name, phone, email, address, tags, modules, faculties, favorite);
+    }
+
     public Name getName() {
         return name;
     }
@@ -76,7 +142,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
@@ -84,7 +150,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Module> getModules() {
-        return Collections.unmodifiableSet(modules);
+        return modules;
     }
 
     /**
@@ -92,13 +158,37 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Faculty> getFaculties() {
-        return Collections.unmodifiableSet(faculties);
+        return faculties;
     }
 
     public Favorite getFavorite() {
         return favorite;
     }
 
+    /**
+     * Returns the case-folded search terms of this person, computed on first use.
+     */
+    public SearchKeys getSearchKeys() {
+        SearchKeys keys = searchKeys;
+        if (keys == null) {
+            keys = SearchKeys.of(this);
+            searchKeys = keys;
+        }
+        return keys;
+    }
+
+    /**
+     * Returns the collation keys of this person for sorting, computed on first use.
+     */
+    public SortKeys getSortKeys() {
+        SortKeys keys = sortKeys;
+        if (keys == null) {
+            keys = SortKeys.of(this);
+            sortKeys = keys;
+        }
+        return keys;
+    }
+
     /**
      * Returns true if both persons have the same name.
      * This defines a weaker notion of equality between two persons.
@@ -128,7 +218,8 @@ public class Person {
         }
 
         Person otherPerson = (Person) other;
-        return name.equals(otherPerson.name)
+        return hashCode() == otherPerson.hashCode()
+                && name.equals(otherPerson.name)
                 && phone.equals(otherPerson.phone)
                 && email.equals(otherPerson.email)
                 && address.equals(otherPerson.address)
@@ -140,8 +231,13 @@ public class Person {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags, modules, faculties, favorite);
+        int h = hash;
+        if (h == 0) {
+            // use this method for custom fields hashing instead of implementing your own
+            h = Objects.hash(name, phone, email, address, tags, modules, faculties, favorite);
+            hash = h;
+        }
+        return h;
     }
 
     @Override
@@ -0,0 +1,436 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * A persistent (immutable, structurally shared) sequence of persons, ordered by a {@code long} slot key.
+ * Every update returns a new tree that shares all untouched nodes with the old one, so keeping many versions alive
+ * costs O(log n) memory per update instead of a full copy.
+ *
+ * Backed by an AVL tree whose nodes are augmented with their subtree size, which allows positional access and
+ * slot-to-position lookups in O(log n).
+ */
+public final class PersonTree {
+
+    private static final PersonTree EMPTY = new PersonTree(null);
+
+    private final Node root;
+
+    private PersonTree(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty tree.
+     */
+    public static PersonTree empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a tree holding {@code persons[i]} at {@code slots[i]}.
+     * {@code slots} must be strictly increasing and of the same length as {@code persons}.
+     */
+    public static PersonTree of(long[] slots, Person[] persons) {
+        assert slots.length == persons.length;
+        return new PersonTree(build(slots, persons, 0, persons.length));
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the person at {@code index} in slot order.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    public Person get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        Node node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.person;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns the person stored at {@code slot}, or null if there is none.
+     */
+    public Person find(long slot) {
+        Node node = root;
+        while (node != null) {
+            if (slot < node.slot) {
+                node = node.left;
+            } else if (slot > node.slot) {
+                node = node.right;
+            } else {
+                return node.person;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the number of entries whose slot is strictly less than {@code slot}.
+     * If {@code slot} is present, this is its position in the sequence.
+     */
+    int countBefore(long slot) {
+        int count = 0;
+        Node node = root;
+        while (node != null) {
+            if (slot <= node.slot) {
+                node = node.left;
+            } else {
+                count += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the smallest slot in this tree, or 0 if the tree is empty.
+     */
+    long firstSlot() {
+        if (root == null) {
+            return 0;
+        }
+        Node node = root;
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node.slot;
+    }
+
+    /**
+     * Returns the largest slot in this tree, or 0 if the tree is empty.
+     */
+    long lastSlot() {
+        if (root == null) {
+            return 0;
+        }
+        Node node = root;
+        while (node.right != null) {
+            node = node.right;
+        }
+        return node.slot;
+    }
+
+    /**
+     * Performs {@code action} on every person and its slot, in slot order.
+     */
+    public void forEachEntry(ObjLongConsumer<Person> action) {
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        while (node != null || !path.isEmpty()) {
+            while (node != null) {
+                path.push(node);
+                node = node.left;
+            }
+            node = path.pop();
+            action.accept(node.person, node.slot);
+            node = node.right;
+        }
+    }
+
+    /**
+     * Returns the slots of this tree in slot order, the slot of the person at each index of {@link #asList()}.
+     */
+    public long[] slots() {
+        long[] slots = new long[size()];
+        int[] index = {0};
+        forEachEntry((person, slot) -> slots[index[0]++] = slot);
+        return slots;
+    }
+
+    /**
+     * Returns a tree with {@code person} stored at {@code slot}, replacing any person already stored there.
+     */
+    public PersonTree put(long slot, Person person) {
+        requireNonNull(person);
+        return new PersonTree(put(root, slot, person));
+    }
+
+    /**
+     * Returns a tree without the entry at {@code slot}.
+     */
+    public PersonTree remove(long slot) {
+        return new PersonTree(remove(root, slot));
+    }
+
+    /**
+     * Returns an immutable {@code List} view of this tree in slot order.
+     * Positional access costs O(log n) and iteration costs O(n).
+     */
+    public List<Person> asList() {
+        return new AbstractList<>() {
+            @Override
+            public Person get(int index) {
+                return PersonTree.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return PersonTree.this.size();
+            }
+
+            @Override
+            public Iterator<Person> iterator() {
+                return new InOrderIterator(root);
+            }
+        };
+    }
+
+    /**
+     * Reports how this tree differs from {@code older}, in slot order: {@code onRemoved} is given every person of
+     * {@code older} that this tree does not hold at the same slot, and {@code onAdded} every person of this tree that
+     * {@code older} does not hold at the same slot. An edited person is reported as both removed and added.
+     * Subtrees that the two trees share are skipped without being visited, so comparing a tree with an earlier version
+     * of itself costs O(k log n) for k changes between them.
+     */
+    public void diff(PersonTree older, Consumer<Person> onRemoved, Consumer<Person> onAdded) {
+        requireAllNonNull(onRemoved, onAdded);
+        diffEntries(older, (person, slot) -> onRemoved.accept(person), (person, slot) -> onAdded.accept(person));
+    }
+
+    /**
+     * Reports how this tree differs from {@code older} as {@link #diff(PersonTree, Consumer, Consumer)} does, giving
+     * the slot of every reported person along with it.
+     */
+    public void diffEntries(PersonTree older, ObjLongConsumer<Person> onRemoved, ObjLongConsumer<Person> onAdded) {
+        requireNonNull(older);
+        DiffCursor before = new DiffCursor(older.root);
+        DiffCursor after = new DiffCursor(root);
+        while (!before.isDone() || !after.isDone()) {
+            Node removed = before.peek();
+            Node added = after.peek();
+            if (before.isAtSubtree() && after.isAtSubtree() && removed == added) {
+                before.pop();
+                after.pop();
+            } else if (before.isAtSubtree() && (!after.isAtSubtree() || size(removed) >= size(added))) {
+                before.expand();
+            } else if (after.isAtSubtree()) {
+                after.expand();
+            } else if (added == null || (removed != null && removed.slot < added.slot)) {
+                onRemoved.accept(removed.person, removed.slot);
+                before.pop();
+            } else if (removed == null || added.slot < removed.slot) {
+                onAdded.accept(added.person, added.slot);
+                after.pop();
+            } else {
+                if (!isSameEntry(removed.person, added.person)) {
+                    onRemoved.accept(removed.person, removed.slot);
+                    onAdded.accept(added.person, added.slot);
+                }
+                before.pop();
+                after.pop();
+            }
+        }
+    }
+
+    private static boolean isSameEntry(Person person, Person otherPerson) {
+        return person == otherPerson || (person.getId() == otherPerson.getId() && person.equals(otherPerson));
+    }
+
+    //// tree algorithms
+
+    private static Node build(long[] slots, Person[] persons, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node(slots[mid], persons[mid],
+                build(slots, persons, from, mid), build(slots, persons, mid + 1, to));
+    }
+
+    private static Node put(Node node, long slot, Person person) {
+        if (node == null) {
+            return new Node(slot, person, null, null);
+        }
+        if (slot < node.slot) {
+            return balance(node.slot, node.person, put(node.left, slot, person), node.right);
+        } else if (slot > node.slot) {
+            return balance(node.slot, node.person, node.left, put(node.right, slot, person));
+        } else {
+            return new Node(slot, person, node.left, node.right);
+        }
+    }
+
+    private static Node remove(Node node, long slot) {
+        if (node == null) {
+            return null;
+        }
+        if (slot < node.slot) {
+            return balance(node.slot, node.person, remove(node.left, slot), node.right);
+        } else if (slot > node.slot) {
+            return balance(node.slot, node.person, node.left, remove(node.right, slot));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            return balance(successor.slot, successor.person, node.left, remove(node.right, successor.slot));
+        }
+    }
+
+    private static Node balance(long slot, Person person, Node left, Node right) {
+        int diff = height(left) - height(right);
+        if (diff > 1) {
+            if (height(left.left) < height(left.right)) {
+                left = rotateLeft(left.slot, left.person, left.left, left.right);
+            }
+            return rotateRight(slot, person, left, right);
+        } else if (diff < -1) {
+            if (height(right.right) < height(right.left)) {
+                right = rotateRight(right.slot, right.person, right.left, right.right);
+            }
+            return rotateLeft(slot, person, left, right);
+        }
+        return new Node(slot, person, left, right);
+    }
+
+    private static Node rotateRight(long slot, Person person, Node left, Node right) {
+        return new Node(left.slot, left.person, left.left, new Node(slot, person, left.right, right));
+    }
+
+    private static Node rotateLeft(long slot, Person person, Node left, Node right) {
+        return new Node(right.slot, right.person, new Node(slot, person, left, right.left), right.right);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * An immutable tree node.
+     */
+    private static final class Node {
+        private final long slot;
+        private final Person person;
+        private final Node left;
+        private final Node right;
+        private final int height;
+        private final int size;
+
+        Node(long slot, Person person, Node left, Node right) {
+            this.slot = slot;
+            this.person = person;
+            this.left = left;
+            this.right = right;
+            this.height = Math.max(height(left), height(right)) + 1;
+            this.size = size(left) + size(right) + 1;
+        }
+    }
+
+    /**
+     * Walks a tree in slot order for {@link #diff(PersonTree, Consumer, Consumer)}. The walk is a stack of whole
+     * subtrees, which can be skipped in one step, and of single entries, whose left subtrees have been walked already.
+     */
+    private static final class DiffCursor {
+        private final Deque<Node> stack = new ArrayDeque<>();
+        private final Deque<Boolean> isSubtree = new ArrayDeque<>();
+
+        DiffCursor(Node root) {
+            push(root, true);
+        }
+
+        boolean isDone() {
+            return stack.isEmpty();
+        }
+
+        /** Returns the next subtree or entry, or null if the walk is done. */
+        Node peek() {
+            return stack.peek();
+        }
+
+        boolean isAtSubtree() {
+            return !stack.isEmpty() && isSubtree.peek();
+        }
+
+        void pop() {
+            stack.pop();
+            isSubtree.pop();
+        }
+
+        /** Replaces the subtree at the top by its left subtree, its root entry and its right subtree. */
+        void expand() {
+            Node node = stack.peek();
+            pop();
+            push(node.right, true);
+            push(node, false);
+            push(node.left, true);
+        }
+
+        private void push(Node node, boolean isWholeSubtree) {
+            if (node != null) {
+                stack.push(node);
+                isSubtree.push(isWholeSubtree);
+            }
+        }
+    }
+
+    /**
+     * Iterates over the persons of a tree in slot order.
+     */
+    private static final class InOrderIterator implements Iterator<Person> {
+        private final Deque<Node> path = new ArrayDeque<>();
+
+        InOrderIterator(Node root) {
+            pushLeftPath(root);
+        }
+
+        private void pushLeftPath(Node node) {
+            while (node != null) {
+                path.push(node);
+                node = node.left;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public Person next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node node = path.pop();
+            pushLeftPath(node.right);
+            return node.person;
+        }
+    }
+}
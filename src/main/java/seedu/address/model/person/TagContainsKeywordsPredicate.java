@@ -1,25 +1,47 @@
 package seedu.address.model.person;
 
+import java.util.BitSet;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.search.IndexedPredicate;
+import seedu.address.model.search.PersonIndex;
+import seedu.address.model.search.SearchField;
 
 /**
  * Tests that a {@code Person}'s {@code Tag} matches any of the keywords given.
  */
-public class TagContainsKeywordsPredicate implements Predicate<Person> {
+public class TagContainsKeywordsPredicate implements IndexedPredicate {
     private final List<String> keywords;
+    private final Set<String> foldedKeywords;
 
+    /**
+     * Creates a predicate that matches any of {@code keywords}.
+     */
     public TagContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.foldedKeywords = SearchField.TAG.foldKeywords(keywords);
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> person.getTags().stream()
-                        .anyMatch(tag -> tag.tagName.equalsIgnoreCase(keyword)));
+        return SearchField.TAG.matchesAny(person, foldedKeywords);
+    }
+
+    @Override
+    public BitSet evaluate(PersonIndex index) {
+        return index.findAny(SearchField.TAG, keywords);
+    }
+
+    @Override
+    public int estimateMatches(PersonIndex index) {
+        return index.countAny(SearchField.TAG, keywords);
+    }
+
+    @Override
+    public String describe() {
+        return "tag is any of " + keywords;
     }
 
     @Override
@@ -34,7 +56,12 @@ public class TagContainsKeywordsPredicate implements Predicate<Person> {
         }
 
         TagContainsKeywordsPredicate otherTagContainsKeywordsPredicate = (TagContainsKeywordsPredicate) other;
-        return keywords.equals(otherTagContainsKeywordsPredicate.keywords);
+        return foldedKeywords.equals(otherTagContainsKeywordsPredicate.foldedKeywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return foldedKeywords.hashCode();
     }
 
     @Override
@@ -3,13 +3,19 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.search.PersonIndex;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -18,6 +24,27 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * The contents are held in a persistent {@link PersonTree}, in which every person occupies a {@code long} slot.
+ * A name-keyed hash index maps each person to its slot, so that identity checks do not need to scan the list and
+ * the position of an existing person can be found in O(log n). The {@code ObservableList} handed out to the UI is kept
+ * in sync with the tree through fine-grained changes.
+ *
+ * Every stored person also carries a stable ID (see {@link Person#getId()}), handed out by this list when the person
+ * is added without one and kept when the person is edited. An ID-keyed hash index resolves the target of an update
+ * without hashing or comparing names.
+ *
+ * A {@link PersonIndex} over the stored persons is updated along with every change, before the change is made visible
+ * through the {@code ObservableList}, so that searches can be answered from it at any time.
+ *
+ * The list is partitioned into two regions: favorite persons come first, followed by non-favorite persons.
+ * Newly added or newly favorited persons are placed at the top of the favorites region, while newly unfavorited
+ * persons are moved to the bottom of the list. The relative order of all other persons is preserved.
+ * Favorites occupy negative slots and all other persons occupy positive slots, handed out so that slot order matches
+ * list order.
+ *
+ * Every mutation bumps a modification version. Because the tree is immutable, snapshots and saved states are free
+ * to take and share structure with the live list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,45 +54,131 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Long> slotsByName = new HashMap<>();
+    private final Map<Long, Long> slotsById = new HashMap<>();
+    private final PersonIndex searchIndex = new PersonIndex();
+    private PersonTree tree = PersonTree.empty();
+    private long nextFavoriteSlot = -1;
+    private long nextSlot = 1;
+    private long nextId = 1;
+    private long version = 0;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return slotsByName.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the person with the given {@code id}, if it is in the list.
+     */
+    public Optional<Person> get(long id) {
+        Long slot = slotsById.get(id);
+        return slot == null ? Optional.empty() : Optional.of(tree.find(slot));
     }
 
     /**
      * Adds a person to the list.
      * The person must not already exist in the list.
+     * A favorite person is placed at the top of the favorites region, any other person at the end of the list.
+     * The person is stored with a fresh ID unless it carries one that is not in use yet.
      */
     public void add(Person toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        Person person = withAvailableId(toAdd);
+        insert(allocateSlot(person), person);
+        version++;
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the list, skipping any person whose identity already exists in the list or
+     * appears earlier in {@code toAdd}.
+     * Added favorite persons are placed at the top of the favorites region in the order given, and all other added
+     * persons are appended to the end of the list. Listeners of the list are notified of at most one addition to
+     * each region.
+     * IDs are assigned as in {@link #add(Person)}.
+     *
+     * @return a report of the added persons, as stored with their IDs, and of the skipped persons.
+     */
+    public BatchAddResult addAll(Collection<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        List<Person> added = new ArrayList<>();
+        List<Person> skipped = new ArrayList<>();
+        List<Person> addedFavorites = new ArrayList<>();
+        List<Person> addedNonFavorites = new ArrayList<>();
+
+        for (Person candidate : toAdd) {
+            if (slotsByName.putIfAbsent(candidate.getName(), 0L) != null) {
+                skipped.add(candidate);
+                continue;
+            }
+            Person person = withAvailableId(candidate);
+            slotsById.put(person.getId(), 0L);
+            added.add(person);
+            if (isFavorite(person)) {
+                addedFavorites.add(person);
+            } else {
+                addedNonFavorites.add(person);
+            }
+        }
+
+        // Favorites are given slots from the bottom up so that the first of them ends up at the top of the list
+        for (int i = addedFavorites.size() - 1; i >= 0; i--) {
+            putInTree(nextFavoriteSlot--, addedFavorites.get(i));
+        }
+        for (Person person : addedNonFavorites) {
+            putInTree(nextSlot++, person);
+        }
+
+        // Each region grows by one contiguous block, so each is a single insertion rather than a replacement
+        if (!addedFavorites.isEmpty()) {
+            internalList.addAll(0, addedFavorites);
+        }
+        if (!addedNonFavorites.isEmpty()) {
+            internalList.addAll(addedNonFavorites);
+        }
+        if (!added.isEmpty()) {
+            version++;
+        }
+
+        return new BatchAddResult(added, skipped);
     }
 
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     * If the favorite status changes, {@code editedPerson} is moved into the other region of the list instead of
+     * being replaced in place.
+     * {@code editedPerson} takes over the ID of {@code target}.
      */
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new PersonNotFoundException();
-        }
+        long slot = slotOf(target);
 
         if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Person storedTarget = tree.find(slot);
+        Person person = editedPerson.withId(storedTarget.getId());
+        if (isFavorite(target) == isFavorite(person)) {
+            slotsByName.remove(target.getName());
+            tree = tree.put(slot, person);
+            searchIndex.update(storedTarget, person);
+            internalList.set(tree.countBefore(slot), person);
+            slotsByName.put(person.getName(), slot);
+        } else {
+            delete(slot);
+            insert(allocateSlot(person), person);
+        }
+        version++;
     }
 
     /**
@@ -74,27 +187,178 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new PersonNotFoundException();
-        }
+        delete(slotOf(toRemove));
+        version++;
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setPersons(replacement.tree);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * Favorite persons are moved ahead of non-favorite persons, preserving their relative order.
+     * Persons keep their IDs where these are distinct; the others are given fresh IDs.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        Map<Name, Long> replacementIndex = new HashMap<>();
+        Map<Long, Long> replacementIdIndex = new HashMap<>();
+        for (Person person : persons) {
+            if (replacementIndex.putIfAbsent(person.getName(), 0L) != null) {
+                throw new DuplicatePersonException();
+            }
+            nextId = Math.max(nextId, person.getId() + 1);
+        }
+
+        int favoriteCount = 0;
+        for (Person person : persons) {
+            if (isFavorite(person)) {
+                favoriteCount++;
+            }
+        }
+
+        int size = persons.size();
+        long[] slots = new long[size];
+        Person[] partitioned = new Person[size];
+        long favoriteSlot = nextFavoriteSlot - favoriteCount + 1;
+        int favoriteIndex = 0;
+        int nonFavoriteIndex = favoriteCount;
+        for (Person candidate : persons) {
+            boolean hasAvailableId = candidate.getId() != Person.UNASSIGNED_ID
+                    && !replacementIdIndex.containsKey(candidate.getId());
+            Person person = hasAvailableId ? candidate : candidate.withId(nextId++);
+            int index = isFavorite(person) ? favoriteIndex++ : nonFavoriteIndex++;
+            slots[index] = isFavorite(person) ? favoriteSlot++ : nextSlot++;
+            partitioned[index] = person;
+            replacementIndex.put(person.getName(), slots[index]);
+            replacementIdIndex.put(person.getId(), slots[index]);
+        }
+        nextFavoriteSlot -= favoriteCount;
+
+        tree = PersonTree.of(slots, partitioned);
+        searchIndex.setAll(tree.asList());
+        internalList.setAll(partitioned);
+        slotsByName.clear();
+        slotsByName.putAll(replacementIndex);
+        slotsById.clear();
+        slotsById.putAll(replacementIdIndex);
+        version++;
+    }
+
+    /**
+     * Replaces the contents of this list with the persons in {@code state}, typically obtained earlier from
+     * {@link #asTree()}.
+     * The state is adopted as is, without copying. Only the persons in which it differs from the current contents,
+     * found by comparing the two trees, are removed from and added to the indexes and the observable list, so that
+     * restoring a state that shares most of its tree with the current one, as undo and redo do, costs O(k log n) for
+     * k changed persons.
+     * No two persons in {@code state} may have the same name or ID, and each must be in a valid slot (see
+     * {@link #isValidSlot(Person, long)}).
+     */
+    public void setPersons(PersonTree state) {
+        requireNonNull(state);
+        if (tree.isEmpty()) {
+            // Nothing is shared with an empty list, so the state is adopted whole, as when loading an address book
+            state.forEachEntry((person, slot) -> {
+                rememberSlot(person, slot);
+                searchIndex.add(person);
+            });
+            internalList.setAll(state.asList());
+        } else {
+            applyChanges(state);
+        }
+        tree = state;
+        nextFavoriteSlot = Math.min(nextFavoriteSlot, state.firstSlot() - 1);
+        nextSlot = Math.max(nextSlot, state.lastSlot() + 1);
+        version++;
+    }
+
+    /**
+     * Makes the changes that turn the current contents into those of {@code state} to the indexes and the observable
+     * list, leaving {@code tree} with the same entries as {@code state}.
+     */
+    private void applyChanges(PersonTree state) {
+        List<Person> removed = new ArrayList<>();
+        List<Long> removedSlots = new ArrayList<>();
+        List<Person> added = new ArrayList<>();
+        List<Long> addedSlots = new ArrayList<>();
+        state.diffEntries(tree, (person, slot) -> {
+            removed.add(person);
+            removedSlots.add(slot);
+        }, (person, slot) -> {
+            added.add(person);
+            addedSlots.add(slot);
+        });
+
+        // All removals go first, as an edited person keeps its ID and the index holds each ID at most once
+        removed.forEach(searchIndex::remove);
+        added.forEach(searchIndex::add);
+
+        // The changes are made in slot order, so that the position of each slot in the tree built so far is its
+        // position in the observable list
+        int i = 0;
+        int j = 0;
+        while (i < removed.size() || j < added.size()) {
+            boolean hasRemoval = i < removed.size();
+            boolean hasAddition = j < added.size();
+            if (hasRemoval && hasAddition && removedSlots.get(i).equals(addedSlots.get(j))) {
+                long slot = addedSlots.get(j);
+                Person person = added.get(j++);
+                forgetSlot(removed.get(i++), slot);
+                rememberSlot(person, slot);
+                tree = tree.put(slot, person);
+                internalList.set(tree.countBefore(slot), person);
+            } else if (hasRemoval && (!hasAddition || removedSlots.get(i) < addedSlots.get(j))) {
+                long slot = removedSlots.get(i);
+                forgetSlot(removed.get(i++), slot);
+                int position = tree.countBefore(slot);
+                tree = tree.remove(slot);
+                internalList.remove(position);
+            } else {
+                long slot = addedSlots.get(j);
+                Person person = added.get(j++);
+                rememberSlot(person, slot);
+                tree = tree.put(slot, person);
+                internalList.add(tree.countBefore(slot), person);
+            }
         }
+    }
 
-        internalList.setAll(persons);
+    /**
+     * Returns the current contents of this list as a persistent tree.
+     * The tree is immutable and is not affected by later modifications of this list.
+     */
+    public PersonTree asTree() {
+        return tree;
+    }
+
+    /**
+     * Returns the number of modifications made to this list so far.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns an immutable view of the current contents of this list.
+     * The view is backed by the persistent tree and is not affected by later modifications of this list.
+     */
+    public List<Person> snapshot() {
+        return tree.asList();
+    }
+
+    /**
+     * Returns the search index over the current contents of this list.
+     * The index is live: it reflects every later modification of this list.
+     */
+    public PersonIndex getSearchIndex() {
+        return searchIndex;
     }
 
     /**
@@ -135,16 +399,91 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns true if {@code slot} lies in the region of the list that {@code person} belongs to: the negative slots
+     * for a favorite person, and the positive slots for any other person.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
+    public static boolean isValidSlot(Person person, long slot) {
+        return isFavorite(person) ? slot < 0 : slot > 0;
+    }
+
+    private static boolean isFavorite(Person person) {
+        return person.getFavorite().getIsFavorite();
+    }
+
+    /**
+     * Returns the slot of {@code person}, found by its ID or, failing that, by its name.
+     *
+     * @throws PersonNotFoundException if no person equal to {@code person} is in the list.
+     */
+    private long slotOf(Person person) {
+        Long slot = slotsById.get(person.getId());
+        if (slot == null || !person.equals(tree.find(slot))) {
+            slot = slotsByName.get(person.getName());
         }
-        return true;
+        if (slot == null || !person.equals(tree.find(slot))) {
+            throw new PersonNotFoundException();
+        }
+        return slot;
+    }
+
+    /**
+     * Returns {@code person} if its ID is assigned and not in use in this list, or {@code person} with a fresh ID
+     * otherwise.
+     */
+    private Person withAvailableId(Person person) {
+        long id = person.getId();
+        if (id == Person.UNASSIGNED_ID || slotsById.containsKey(id)) {
+            return person.withId(nextId++);
+        }
+        nextId = Math.max(nextId, id + 1);
+        return person;
+    }
+
+    /**
+     * Returns a fresh slot that places {@code person} at the top of the favorites region if it is a favorite,
+     * or at the end of the list otherwise.
+     */
+    private long allocateSlot(Person person) {
+        return isFavorite(person) ? nextFavoriteSlot-- : nextSlot++;
+    }
+
+    /**
+     * Maps the name and ID of {@code person} to {@code slot}.
+     */
+    private void rememberSlot(Person person, long slot) {
+        slotsByName.put(person.getName(), slot);
+        slotsById.put(person.getId(), slot);
+        nextId = Math.max(nextId, person.getId() + 1);
+    }
+
+    /**
+     * Unmaps the name and ID of {@code person} from {@code slot}, leaving them alone if they were mapped to another
+     * slot since.
+     */
+    private void forgetSlot(Person person, long slot) {
+        slotsByName.remove(person.getName(), slot);
+        slotsById.remove(person.getId(), slot);
+    }
+
+    private void putInTree(long slot, Person person) {
+        tree = tree.put(slot, person);
+        slotsByName.put(person.getName(), slot);
+        slotsById.put(person.getId(), slot);
+        searchIndex.add(person);
+    }
+
+    private void insert(long slot, Person person) {
+        putInTree(slot, person);
+        internalList.add(tree.countBefore(slot), person);
+    }
+
+    private void delete(long slot) {
+        Person person = tree.find(slot);
+        slotsByName.remove(person.getName());
+        slotsById.remove(person.getId());
+        searchIndex.remove(person);
+        int position = tree.countBefore(slot);
+        tree = tree.remove(slot);
+        internalList.remove(position);
     }
 }
@@ -0,0 +1,115 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} satisfies all of the given criteria.
+ * Against an index, the criteria are answered one by one in the order of {@link #plan(PersonIndex)}, most selective
+ * first, and their bitmaps intersected, stopping as soon as the intersection is empty. Negated criteria are subtracted
+ * from the intersection rather than complemented first.
+ * Matches are ranked by the first criterion that ranks its matches, if any.
+ */
+public class AllMatchPredicate implements IndexedPredicate {
+    private final List<IndexedPredicate> criteria;
+
+    /**
+     * Creates a predicate that requires all of {@code criteria}, which must not be empty.
+     */
+    public AllMatchPredicate(List<? extends IndexedPredicate> criteria) {
+        requireAllNonNull(criteria);
+        if (criteria.isEmpty()) {
+            throw new IllegalArgumentException("At least one criterion is required");
+        }
+        this.criteria = List.copyOf(criteria);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return criteria.stream().allMatch(criterion -> criterion.test(person));
+    }
+
+    @Override
+    public BitSet evaluate(PersonIndex index) {
+        List<IndexedPredicate> plan = plan(index);
+        BitSet result = plan.get(0).evaluate(index);
+        for (int i = 1; i < plan.size() && !result.isEmpty(); i++) {
+            IndexedPredicate criterion = plan.get(i);
+            if (criterion instanceof NotPredicate) {
+                result.andNot(((NotPredicate) criterion).getNegated().evaluate(index));
+            } else {
+                result.and(criterion.evaluate(index));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the criteria in the order in which they should be answered against {@code index}: by their estimated
+     * number of matches, fewest first, so that the intersection shrinks as early as possible.
+     * Criteria with the same estimate keep the order in which they were given.
+     */
+    public List<IndexedPredicate> plan(PersonIndex index) {
+        requireNonNull(index);
+        List<IndexedPredicate> plan = new ArrayList<>(criteria);
+        Map<IndexedPredicate, Integer> estimates = new IdentityHashMap<>();
+        plan.forEach(criterion -> estimates.put(criterion, criterion.estimateMatches(index)));
+        plan.sort(Comparator.comparingInt(estimates::get));
+        return plan;
+    }
+
+    @Override
+    public int estimateMatches(PersonIndex index) {
+        return criteria.stream().mapToInt(criterion -> criterion.estimateMatches(index)).min().getAsInt();
+    }
+
+    @Override
+    public String describe() {
+        return criteria.stream().map(IndexedPredicate::describe).collect(Collectors.joining(" and "));
+    }
+
+    @Override
+    public Optional<Comparator<Person>> getRanking() {
+        return criteria.stream()
+                .map(IndexedPredicate::getRanking)
+                .flatMap(Optional::stream)
+                .findFirst();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AllMatchPredicate)) {
+            return false;
+        }
+
+        AllMatchPredicate otherPredicate = (AllMatchPredicate) other;
+        return criteria.equals(otherPredicate.criteria);
+    }
+
+    @Override
+    public int hashCode() {
+        return criteria.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("criteria", criteria).toString();
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.model.search;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} satisfies at least one of the given alternatives.
+ * Against an index, the alternatives are answered one by one and their bitmaps united.
+ */
+public class AnyMatchPredicate implements IndexedPredicate {
+    private final List<IndexedPredicate> alternatives;
+
+    /**
+     * Creates a predicate that requires any of {@code alternatives}, which must not be empty.
+     */
+    public AnyMatchPredicate(List<? extends IndexedPredicate> alternatives) {
+        requireAllNonNull(alternatives);
+        if (alternatives.isEmpty()) {
+            throw new IllegalArgumentException("At least one alternative is required");
+        }
+        this.alternatives = List.copyOf(alternatives);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return alternatives.stream().anyMatch(alternative -> alternative.test(person));
+    }
+
+    @Override
+    public BitSet evaluate(PersonIndex index) {
+        BitSet result = alternatives.get(0).evaluate(index);
+        for (int i = 1; i < alternatives.size(); i++) {
+            result.or(alternatives.get(i).evaluate(index));
+        }
+        return result;
+    }
+
+    @Override
+    public int estimateMatches(PersonIndex index) {
+        long sum = alternatives.stream().mapToLong(alternative -> alternative.estimateMatches(index)).sum();
+        return (int) Math.min(sum, index.size());
+    }
+
+    @Override
+    public String describe() {
+        return alternatives.stream().map(IndexedPredicate::describe).collect(Collectors.joining(" or ", "(", ")"));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AnyMatchPredicate)) {
+            return false;
+        }
+
+        AnyMatchPredicate otherPredicate = (AnyMatchPredicate) other;
+        return alternatives.equals(otherPredicate.alternatives);
+    }
+
+    @Override
+    public int hashCode() {
+        return alternatives.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("alternatives", alternatives).toString();
+    }
+}
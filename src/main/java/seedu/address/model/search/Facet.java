@@ -0,0 +1,41 @@
+package seedu.address.model.search;
+
+import java.util.List;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A field of a person whose values group persons into categories that can be counted, such as the modules they take.
+ */
+public enum Facet {
+    /** The person's faculties. */
+    FACULTY("Faculties", SearchField.FACULTY),
+
+    /** The person's modules. */
+    MODULE("Modules", SearchField.MODULE),
+
+    /** The person's tags. */
+    TAG("Tags", SearchField.TAG);
+
+    private final String displayName;
+    private final SearchField field;
+
+    Facet(String displayName, SearchField field) {
+        this.displayName = displayName;
+        this.field = field;
+    }
+
+    /**
+     * Returns the distinct values of {@code person} in this facet.
+     */
+    public List<String> valuesOf(Person person) {
+        return field.valuesOf(person);
+    }
+
+    /**
+     * Returns the name of this facet as shown to the user.
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+}
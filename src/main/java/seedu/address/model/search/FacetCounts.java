@@ -0,0 +1,118 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+
+/**
+ * The number of persons in a list with each value of every {@link Facet}, such as the number of persons in each
+ * faculty.
+ * The counts follow the list they are attached to: each change to the list adjusts the counts of the persons that
+ * were added or removed by it, so reading the counts costs time proportional to the number of distinct values rather
+ * than to the number of persons.
+ */
+public class FacetCounts implements ListChangeListener<Person> {
+
+    /** Orders values by descending count, and values with the same count alphabetically. */
+    private static final Comparator<Map.Entry<String, Integer>> BY_COUNT_THEN_VALUE =
+            Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey());
+
+    private final Map<Facet, Map<String, Integer>> counts = new EnumMap<>(Facet.class);
+    private int personCount = 0;
+
+    private FacetCounts() {
+        for (Facet facet : Facet.values()) {
+            counts.put(facet, new HashMap<>());
+        }
+    }
+
+    /**
+     * Returns the counts of the persons in {@code persons}, which are kept up to date with every later change to
+     * {@code persons}.
+     * Listeners of {@code persons} that read the counts must be added after this.
+     */
+    public static FacetCounts of(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        FacetCounts facetCounts = new FacetCounts();
+        persons.forEach(facetCounts::add);
+        persons.addListener(facetCounts);
+        return facetCounts;
+    }
+
+    @Override
+    public void onChanged(Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                // The same persons are in the list
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    /**
+     * Returns the number of persons counted.
+     */
+    public int getPersonCount() {
+        return personCount;
+    }
+
+    /**
+     * Returns the number of persons with {@code value} in {@code facet}.
+     */
+    public int getCount(Facet facet, String value) {
+        requireAllNonNull(facet, value);
+        return counts.get(facet).getOrDefault(value, 0);
+    }
+
+    /**
+     * Returns the number of distinct values of {@code facet} that at least one person has.
+     */
+    public int getValueCount(Facet facet) {
+        requireNonNull(facet);
+        return counts.get(facet).size();
+    }
+
+    /**
+     * Returns every value of {@code facet} that at least one person has, with the number of persons who have it,
+     * most common first.
+     */
+    public List<Map.Entry<String, Integer>> getCounts(Facet facet) {
+        requireNonNull(facet);
+        List<Map.Entry<String, Integer>> entries = new ArrayList<>(counts.get(facet).size());
+        counts.get(facet).forEach((value, count) -> entries.add(Map.entry(value, count)));
+        entries.sort(BY_COUNT_THEN_VALUE);
+        return entries;
+    }
+
+    private void add(Person person) {
+        for (Facet facet : Facet.values()) {
+            Map<String, Integer> facetCounts = counts.get(facet);
+            for (String value : facet.valuesOf(person)) {
+                facetCounts.merge(value, 1, Integer::sum);
+            }
+        }
+        personCount++;
+    }
+
+    private void remove(Person person) {
+        for (Facet facet : Facet.values()) {
+            Map<String, Integer> facetCounts = counts.get(facet);
+            for (String value : facet.valuesOf(person)) {
+                facetCounts.computeIfPresent(value, (unused, count) -> count == 1 ? null : count - 1);
+            }
+        }
+        personCount--;
+    }
+}
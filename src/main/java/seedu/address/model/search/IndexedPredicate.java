@@ -0,0 +1,48 @@
+package seedu.address.model.search;
+
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code Predicate<Person>} that can also be answered from a {@link PersonIndex} without testing every person.
+ * Both ways of evaluating the predicate must agree for every person in the index.
+ * Predicates that are bound to match the same persons, such as those with the same keywords in a different case,
+ * should be equal and have equal hash codes, as their matches are cached per predicate (see {@link QueryCache}).
+ */
+public interface IndexedPredicate extends Predicate<Person> {
+
+    /**
+     * Returns the ordinals of the persons in {@code index} that satisfy this predicate.
+     * The returned bitmap belongs to the caller.
+     */
+    BitSet evaluate(PersonIndex index);
+
+    /**
+     * Returns the order in which the persons that satisfy this predicate should be listed, best match first,
+     * or an empty {@code Optional} if all matches are equally good.
+     */
+    default Optional<Comparator<Person>> getRanking() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns an estimate of the number of persons in {@code index} that satisfy this predicate, which should not be
+     * less than the actual number.
+     * Queries use this to answer their most selective criteria first. Predicates that cannot estimate their matches
+     * cheaply may keep the default, which is the number of persons in the index.
+     */
+    default int estimateMatches(PersonIndex index) {
+        return index.size();
+    }
+
+    /**
+     * Returns a short description of this predicate for the user, such as in a query plan.
+     */
+    default String describe() {
+        return toString();
+    }
+}
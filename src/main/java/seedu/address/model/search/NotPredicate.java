@@ -0,0 +1,71 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} does not satisfy the given predicate.
+ * Against an index, this is the difference between all persons and the matches of the negated predicate; within an
+ * {@link AllMatchPredicate}, it is subtracted from the matches of the other criteria instead.
+ */
+public class NotPredicate implements IndexedPredicate {
+    private final IndexedPredicate negated;
+
+    /**
+     * Creates a predicate that matches the persons that {@code negated} does not.
+     */
+    public NotPredicate(IndexedPredicate negated) {
+        requireNonNull(negated);
+        this.negated = negated;
+    }
+
+    public IndexedPredicate getNegated() {
+        return negated;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return !negated.test(person);
+    }
+
+    @Override
+    public BitSet evaluate(PersonIndex index) {
+        BitSet result = index.findAll();
+        result.andNot(negated.evaluate(index));
+        return result;
+    }
+
+    @Override
+    public String describe() {
+        return "not " + negated.describe();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NotPredicate)) {
+            return false;
+        }
+
+        NotPredicate otherPredicate = (NotPredicate) other;
+        return negated.equals(otherPredicate.negated);
+    }
+
+    @Override
+    public int hashCode() {
+        return ~negated.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("negated", negated).toString();
+    }
+}
@@ -0,0 +1,395 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.BkTree;
+import seedu.address.commons.util.PrefixTrie;
+import seedu.address.model.person.Person;
+
+/**
+ * An inverted index from the search terms of every {@link SearchField} to the persons that have them.
+ * Each person in the index is numbered by an ordinal, and each term maps to a posting bitmap in which bit {@code i}
+ * is set if the person with ordinal {@code i} has the term. Ordinals are separate from the stored IDs of persons: a
+ * person takes the lowest ordinal not in use when added, so the bitmaps stay as small as the index however large or
+ * sparse the IDs are. A lookup costs one hash probe per keyword, while combining criteria is a word-wise union or
+ * intersection of bitmaps.
+ * The terms of each field are also kept in a {@link PrefixTrie} that shares the posting bitmaps, so that the persons
+ * with a term starting with a given prefix can be found without looking at the terms that do not.
+ * Likewise, a {@link BkTree} over the terms of each field finds the terms within a small edit distance of a keyword
+ * without computing the distance to every term. As a BK-tree cannot drop keys, terms that go out of use stay in it
+ * with an empty posting, until they outnumber the terms in use and the tree is rebuilt.
+ *
+ * The index is kept up to date incrementally by the {@code UniquePersonList} that owns it; it must be told about
+ * every person that is added or removed, before the change becomes visible to listeners of the list.
+ * Every update bumps a modification version, which filters obtained from {@link #filter(IndexedPredicate)} use to
+ * re-evaluate their query lazily. Queries answered through {@link #find(IndexedPredicate)} are remembered in a
+ * {@link QueryCache}, which single-person updates keep up to date, so that repeating a query costs a copy of its
+ * matches.
+ *
+ * The value of every {@link SubstringField} is indexed by its trigrams in a {@link TrigramIndex}, so that the persons
+ * whose value contains a substring can be found by checking only the few candidates that have all of its trigrams.
+ *
+ * The size of each posting doubles as the cardinality statistic of its term, which {@link #countAny} and
+ * {@link #countAnyByPrefix} expose so that queries can estimate how many persons a criterion matches before
+ * answering it.
+ */
+public class PersonIndex {
+
+    private static final int MIN_UNUSED_TERMS_BEFORE_REBUILD = 16;
+    private static final int QUERY_CACHE_CAPACITY = 32;
+
+    private final Map<SearchField, Map<String, BitSet>> postings = new EnumMap<>(SearchField.class);
+    private final Map<SearchField, PrefixTrie<BitSet>> termTries = new EnumMap<>(SearchField.class);
+    private final Map<SearchField, BkTree<BitSet>> termTrees = new EnumMap<>(SearchField.class);
+    private final Map<SubstringField, TrigramIndex> trigramIndexes = new EnumMap<>(SubstringField.class);
+    private final QueryCache queryCache = new QueryCache(QUERY_CACHE_CAPACITY);
+    private final BitSet allOrdinals = new BitSet();
+    private final List<Person> personsByOrdinal = new ArrayList<>();
+    private final Map<Long, Integer> ordinalsById = new HashMap<>();
+    // No ordinal below this one is free
+    private int lowestFreeOrdinal = 0;
+    private int size = 0;
+    private long version = 0;
+
+    /**
+     * Creates an empty index.
+     */
+    public PersonIndex() {
+        for (SearchField field : SearchField.values()) {
+            postings.put(field, new HashMap<>());
+            termTries.put(field, new PrefixTrie<>());
+            termTrees.put(field, new BkTree<>());
+        }
+        for (SubstringField field : SubstringField.values()) {
+            trigramIndexes.put(field, new TrigramIndex());
+        }
+    }
+
+    /**
+     * Adds the terms of {@code person} to the index.
+     * The person must have an assigned ID that is not in the index yet.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        int ordinal = allOrdinals.nextClearBit(lowestFreeOrdinal);
+        lowestFreeOrdinal = ordinal + 1;
+        for (SearchField field : SearchField.values()) {
+            Map<String, BitSet> fieldPostings = postings.get(field);
+            for (String term : field.termsOf(person)) {
+                fieldPostings.computeIfAbsent(term, newTerm -> {
+                    BitSet posting = new BitSet();
+                    termTries.get(field).put(newTerm, posting);
+                    termTrees.get(field).put(newTerm, posting);
+                    return posting;
+                }).set(ordinal);
+            }
+        }
+        for (SubstringField field : SubstringField.values()) {
+            trigramIndexes.get(field).add(ordinal, field.foldedValueOf(person));
+        }
+        allOrdinals.set(ordinal);
+        if (ordinal == personsByOrdinal.size()) {
+            personsByOrdinal.add(person);
+        } else {
+            personsByOrdinal.set(ordinal, person);
+        }
+        ordinalsById.put(person.getId(), ordinal);
+        size++;
+        version++;
+        queryCache.personAdded(person, ordinal, version - 1, version);
+    }
+
+    /**
+     * Removes the terms of {@code person} from the index.
+     * {@code person} must be the person that was added to the index with the same ID.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        int ordinal = ordinalsById.remove(person.getId());
+        for (SearchField field : SearchField.values()) {
+            Map<String, BitSet> fieldPostings = postings.get(field);
+            for (String term : field.termsOf(person)) {
+                BitSet posting = fieldPostings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                posting.clear(ordinal);
+                if (posting.isEmpty()) {
+                    fieldPostings.remove(term);
+                    termTries.get(field).remove(term);
+                }
+            }
+            if (termTrees.get(field).size() > 2 * fieldPostings.size() + MIN_UNUSED_TERMS_BEFORE_REBUILD) {
+                rebuildTermTree(field);
+            }
+        }
+        for (SubstringField field : SubstringField.values()) {
+            trigramIndexes.get(field).remove(ordinal, field.foldedValueOf(person));
+        }
+        allOrdinals.clear(ordinal);
+        personsByOrdinal.set(ordinal, null);
+        // Drops the trailing free ordinals, so that the list shrinks along with the index
+        while (!personsByOrdinal.isEmpty() && personsByOrdinal.get(personsByOrdinal.size() - 1) == null) {
+            personsByOrdinal.remove(personsByOrdinal.size() - 1);
+        }
+        lowestFreeOrdinal = Math.min(lowestFreeOrdinal, ordinal);
+        size--;
+        version++;
+        queryCache.personRemoved(ordinal, version - 1, version);
+    }
+
+    /**
+     * Replaces the terms of {@code target} with those of {@code editedPerson}, which must have the same ID.
+     */
+    public void update(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        remove(target);
+        add(editedPerson);
+    }
+
+    /**
+     * Replaces the contents of the index with the terms of {@code persons}.
+     */
+    public void setAll(Iterable<Person> persons) {
+        requireNonNull(persons);
+        for (SearchField field : SearchField.values()) {
+            postings.get(field).clear();
+            termTries.put(field, new PrefixTrie<>());
+            termTrees.put(field, new BkTree<>());
+        }
+        trigramIndexes.values().forEach(TrigramIndex::clear);
+        allOrdinals.clear();
+        personsByOrdinal.clear();
+        ordinalsById.clear();
+        lowestFreeOrdinal = 0;
+        size = 0;
+        queryCache.clear();
+        for (Person person : persons) {
+            add(person);
+        }
+        version++;
+    }
+
+    /**
+     * Returns the ordinals of the persons in this index that satisfy {@code query}, from the query cache if it was
+     * answered before.
+     * The returned bitmap is a fresh copy that the caller may modify.
+     */
+    public BitSet find(IndexedPredicate query) {
+        requireNonNull(query);
+        Optional<BitSet> cached = queryCache.get(query, version);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        BitSet matches = query.evaluate(this);
+        queryCache.put(query, matches, version);
+        return matches;
+    }
+
+    /**
+     * Returns the ordinals of all persons in this index.
+     * The returned bitmap is a fresh copy that the caller may modify.
+     */
+    public BitSet findAll() {
+        return (BitSet) allOrdinals.clone();
+    }
+
+    /**
+     * Clears the ordinals in {@code candidates} of the persons that do not satisfy {@code predicate}, for queries that
+     * can narrow down their matches with the postings but must test the remaining candidates to be exact.
+     * {@code candidates} must only contain ordinals of persons in this index.
+     */
+    public void retainMatching(BitSet candidates, Predicate<? super Person> predicate) {
+        requireAllNonNull(candidates, predicate);
+        for (int ordinal = candidates.nextSetBit(0); ordinal >= 0; ordinal = candidates.nextSetBit(ordinal + 1)) {
+            if (!predicate.test(personsByOrdinal.get(ordinal))) {
+                candidates.clear(ordinal);
+            }
+        }
+    }
+
+    /**
+     * Returns the ordinals of the persons who have any of the terms that {@code keywords} normalize to in
+     * {@code field}.
+     * The returned bitmap is a fresh copy that the caller may modify.
+     */
+    public BitSet findAny(SearchField field, Collection<String> keywords) {
+        requireAllNonNull(field, keywords);
+        Map<String, BitSet> fieldPostings = postings.get(field);
+        BitSet result = new BitSet();
+        for (String keyword : field.foldKeywords(keywords)) {
+            BitSet posting = fieldPostings.get(keyword);
+            if (posting != null) {
+                result.or(posting);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the ordinals of the persons who have a term in {@code field} that starts with the normalized form of any
+     * of {@code prefixes}.
+     * Each prefix costs time proportional to its length and to the number of terms that extend it.
+     * The returned bitmap is a fresh copy that the caller may modify.
+     */
+    public BitSet findAnyByPrefix(SearchField field, Collection<String> prefixes) {
+        requireAllNonNull(field, prefixes);
+        PrefixTrie<BitSet> fieldTerms = termTries.get(field);
+        BitSet result = new BitSet();
+        for (String prefix : prefixes) {
+            fieldTerms.forEachWithPrefix(SearchField.normalize(prefix), result::or);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the ordinals of the persons who have a term in {@code field} within {@code maxDistance} edits of the
+     * normalized form of {@code keyword}, each mapped to the edit distance of their closest such term.
+     */
+    public Map<Integer, Integer> findSimilar(SearchField field, String keyword, int maxDistance) {
+        requireAllNonNull(field, keyword);
+        Map<Integer, Integer> distances = new HashMap<>();
+        termTrees.get(field).search(SearchField.normalize(keyword), maxDistance, (term, posting, distance) -> {
+            for (int ordinal = posting.nextSetBit(0); ordinal >= 0; ordinal = posting.nextSetBit(ordinal + 1)) {
+                distances.merge(ordinal, distance, Math::min);
+            }
+        });
+        return distances;
+    }
+
+    /**
+     * Returns the ordinals of the persons whose value in {@code field} contains the normalized form of
+     * {@code substring}.
+     * Substrings of at least {@value TrigramIndex#GRAM_LENGTH} characters are looked up in the trigram index, and only
+     * the candidates found there are checked; shorter substrings are checked against every person.
+     * The returned bitmap is a fresh copy that the caller may modify.
+     */
+    public BitSet findContaining(SubstringField field, String substring) {
+        requireAllNonNull(field, substring);
+        String foldedSubstring = SearchField.normalize(substring);
+        BitSet candidates = foldedSubstring.length() < TrigramIndex.GRAM_LENGTH
+                ? findAll()
+                : trigramIndexes.get(field).findCandidates(foldedSubstring);
+        retainMatching(candidates, person -> field.contains(person, foldedSubstring));
+        return candidates;
+    }
+
+    /**
+     * Returns an upper bound on the number of persons whose value in {@code field} contains the normalized form of
+     * {@code substring}, computed from the posting sizes of its trigrams without combining any postings.
+     */
+    public int countContaining(SubstringField field, String substring) {
+        requireAllNonNull(field, substring);
+        String foldedSubstring = SearchField.normalize(substring);
+        return foldedSubstring.length() < TrigramIndex.GRAM_LENGTH
+                ? size
+                : trigramIndexes.get(field).countCandidates(foldedSubstring);
+    }
+
+    /**
+     * Returns the total number of persons who have any of the terms that {@code keywords} normalize to in
+     * {@code field}, counting a person once for every such term.
+     * This is an upper bound on the size of {@link #findAny} that is exact for a single keyword, and is computed from
+     * the posting sizes without combining any postings.
+     */
+    public int countAny(SearchField field, Collection<String> keywords) {
+        requireAllNonNull(field, keywords);
+        Map<String, BitSet> fieldPostings = postings.get(field);
+        int count = 0;
+        for (String keyword : field.foldKeywords(keywords)) {
+            BitSet posting = fieldPostings.get(keyword);
+            if (posting != null) {
+                count += posting.cardinality();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the total number of persons who have a term in {@code field} that starts with the normalized form of any
+     * of {@code prefixes}, counting a person once for every such term.
+     * This is an upper bound on the size of {@link #findAnyByPrefix}.
+     */
+    public int countAnyByPrefix(SearchField field, Collection<String> prefixes) {
+        requireAllNonNull(field, prefixes);
+        PrefixTrie<BitSet> fieldTerms = termTries.get(field);
+        int[] count = new int[1];
+        for (String prefix : prefixes) {
+            fieldTerms.forEachWithPrefix(SearchField.normalize(prefix), posting -> count[0] += posting.cardinality());
+        }
+        return count[0];
+    }
+
+    /**
+     * Returns the number of persons in this index.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of modifications made to this index so far.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns a predicate that accepts exactly the persons in this index that satisfy {@code query}.
+     * The query is answered through {@link #find(IndexedPredicate)}, and answered again only after the index has
+     * changed, so testing each person of the list costs a single bit lookup.
+     */
+    public Predicate<Person> filter(IndexedPredicate query) {
+        requireNonNull(query);
+        return new Predicate<>() {
+            private long evaluatedVersion = -1;
+            private BitSet matches;
+
+            @Override
+            public boolean test(Person person) {
+                if (evaluatedVersion != version) {
+                    matches = find(query);
+                    evaluatedVersion = version;
+                }
+                // A person no longer in the index, such as one held on to from before an undo, matches nothing
+                int ordinal = ordinalOf(person);
+                return ordinal >= 0 && matches.get(ordinal);
+            }
+        };
+    }
+
+    /**
+     * Returns the cache of query results of this index.
+     */
+    QueryCache getQueryCache() {
+        return queryCache;
+    }
+
+    /**
+     * Rebuilds the BK-tree of {@code field} from the terms in use, dropping the terms that went out of use.
+     */
+    private void rebuildTermTree(SearchField field) {
+        BkTree<BitSet> rebuilt = new BkTree<>();
+        postings.get(field).forEach(rebuilt::put);
+        termTrees.put(field, rebuilt);
+    }
+
+    /**
+     * Returns the ordinal of {@code person}, or -1 if no person with its ID is in this index.
+     */
+    int ordinalOf(Person person) {
+        Integer ordinal = ordinalsById.get(person.getId());
+        return ordinal == null ? -1 : ordinal;
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.model.search;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a value of a {@code Person} in a {@link SearchField} contains the words of a phrase consecutively and in
+ * order, ignoring case.
+ * Against an index, the persons with every word of the phrase are found from the postings, and only those candidates
+ * are tested for the phrase itself.
+ */
+public class PhrasePredicate implements IndexedPredicate {
+    private final SearchField field;
+    private final String phrase;
+    private final List<String> foldedWords;
+
+    /**
+     * Creates a predicate that matches {@code phrase}, which must contain at least one word, in {@code field}.
+     */
+    public PhrasePredicate(SearchField field, String phrase) {
+        requireAllNonNull(field, phrase);
+        List<String> words = new ArrayList<>();
+        for (String word : phrase.trim().split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(SearchField.normalize(word));
+            }
+        }
+        if (words.isEmpty()) {
+            throw new IllegalArgumentException("A phrase must contain at least one word");
+        }
+        this.field = field;
+        this.phrase = phrase;
+        this.foldedWords = List.copyOf(words);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return field.containsPhrase(person, foldedWords);
+    }
+
+    @Override
+    public BitSet evaluate(PersonIndex index) {
+        BitSet candidates;
+        if (field.isSplitIntoWords()) {
+            candidates = index.findAny(field, List.of(foldedWords.get(0)));
+            for (int i = 1; i < foldedWords.size() && !candidates.isEmpty(); i++) {
+                candidates.and(index.findAny(field, List.of(foldedWords.get(i))));
+            }
+        } else {
+            candidates = index.findAny(field, List.of(String.join(" ", foldedWords)));
+        }
+        index.retainMatching(candidates, this);
+        return candidates;
+    }
+
+    @Override
+    public int estimateMatches(PersonIndex index) {
+        if (!field.isSplitIntoWords()) {
+            return index.countAny(field, List.of(String.join(" ", foldedWords)));
+        }
+        return foldedWords.stream().mapToInt(word -> index.countAny(field, List.of(word))).min().getAsInt();
+    }
+
+    @Override
+    public String describe() {
+        return field.name().toLowerCase() + " contains \"" + String.join(" ", foldedWords) + "\"";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PhrasePredicate)) {
+            return false;
+        }
+
+        PhrasePredicate otherPredicate = (PhrasePredicate) other;
+        return field.equals(otherPredicate.field) && foldedWords.equals(otherPredicate.foldedWords);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * field.hashCode() + foldedWords.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("field", field).add("phrase", phrase).toString();
+    }
+}
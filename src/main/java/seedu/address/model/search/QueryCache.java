@@ -0,0 +1,140 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A least-recently-used cache of the matches of queries against a {@link PersonIndex}, keyed by the queries
+ * themselves, so that queries that are equal (such as the same keywords in a different case) share an entry.
+ *
+ * The cache is valid for one modification version of the index. A change to a single person is applied to every
+ * entry in place by testing the person against each cached query, which keeps the entries valid for the new version;
+ * any other change clears the cache. Entries looked up at any other version are discarded, so a missed update can
+ * never serve stale matches.
+ */
+public class QueryCache {
+
+    private final int capacity;
+    private final LinkedHashMap<IndexedPredicate, BitSet> entries;
+    private long validVersion = -1;
+    private long hitCount = 0;
+    private long missCount = 0;
+
+    /**
+     * Creates an empty cache that holds the matches of at most {@code capacity} queries.
+     */
+    public QueryCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<IndexedPredicate, BitSet> eldest) {
+                return size() > QueryCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns a copy of the cached matches of {@code query} at index version {@code version}, if any.
+     */
+    public Optional<BitSet> get(IndexedPredicate query, long version) {
+        requireNonNull(query);
+        if (version != validVersion) {
+            entries.clear();
+            validVersion = version;
+        }
+        BitSet matches = entries.get(query);
+        if (matches == null) {
+            missCount++;
+            return Optional.empty();
+        }
+        hitCount++;
+        return Optional.of((BitSet) matches.clone());
+    }
+
+    /**
+     * Caches a copy of {@code matches} as the matches of {@code query} at index version {@code version}.
+     */
+    public void put(IndexedPredicate query, BitSet matches, long version) {
+        requireAllNonNull(query, matches);
+        if (version != validVersion) {
+            entries.clear();
+            validVersion = version;
+        }
+        entries.put(query, (BitSet) matches.clone());
+    }
+
+    /**
+     * Updates every entry for {@code person}, which has just been added to the index with ordinal {@code ordinal}, as
+     * the change from index version {@code fromVersion} to {@code toVersion}.
+     */
+    public void personAdded(Person person, int ordinal, long fromVersion, long toVersion) {
+        requireNonNull(person);
+        if (!advance(fromVersion, toVersion)) {
+            return;
+        }
+        entries.forEach((query, matches) -> matches.set(ordinal, query.test(person)));
+    }
+
+    /**
+     * Updates every entry for the person with ordinal {@code ordinal}, who has just been removed from the index, as the
+     * change from index version {@code fromVersion} to {@code toVersion}.
+     */
+    public void personRemoved(int ordinal, long fromVersion, long toVersion) {
+        if (!advance(fromVersion, toVersion)) {
+            return;
+        }
+        entries.values().forEach(matches -> matches.clear(ordinal));
+    }
+
+    /**
+     * Discards every entry.
+     */
+    public void clear() {
+        entries.clear();
+        validVersion = -1;
+    }
+
+    /**
+     * Returns the number of queries cached.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the number of lookups that found cached matches so far.
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of lookups that found no cached matches so far.
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Moves the entries from {@code fromVersion} to {@code toVersion}, returning false if they were not valid for
+     * {@code fromVersion} and have been discarded instead.
+     */
+    private boolean advance(long fromVersion, long toVersion) {
+        if (fromVersion != validVersion) {
+            clear();
+            return false;
+        }
+        validVersion = toVersion;
+        return true;
+    }
+}
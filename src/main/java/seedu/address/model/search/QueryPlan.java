@@ -0,0 +1,165 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The order in which a query is answered against a {@link PersonIndex}, together with the estimated and actual number
+ * of matches at every step, for explaining how a search was carried out.
+ * Immutable.
+ */
+public class QueryPlan {
+
+    private final List<Step> steps;
+
+    private QueryPlan(List<Step> steps) {
+        this.steps = List.copyOf(steps);
+    }
+
+    /**
+     * Plans {@code query} against {@code index} and answers it step by step, the way the index would.
+     * An {@link AllMatchPredicate} is answered one criterion at a time in its planned order; steps that are not
+     * needed because no person is left are marked as skipped.
+     */
+    public static QueryPlan of(IndexedPredicate query, PersonIndex index) {
+        requireAllNonNull(query, index);
+        List<IndexedPredicate> criteria = query instanceof AllMatchPredicate
+                ? ((AllMatchPredicate) query).plan(index)
+                : List.of(query);
+
+        List<Step> steps = new ArrayList<>();
+        BitSet remaining = null;
+        for (IndexedPredicate criterion : criteria) {
+            int estimate = criterion.estimateMatches(index);
+            if (remaining != null && remaining.isEmpty()) {
+                steps.add(new Step(criterion.describe(), estimate, Step.SKIPPED));
+                continue;
+            }
+            BitSet matches = criterion.evaluate(index);
+            if (remaining == null) {
+                remaining = matches;
+            } else {
+                remaining.and(matches);
+            }
+            steps.add(new Step(criterion.describe(), estimate, remaining.cardinality()));
+        }
+        return new QueryPlan(steps);
+    }
+
+    /**
+     * Returns the steps of this plan, in the order in which they are answered.
+     */
+    public List<Step> getSteps() {
+        return steps;
+    }
+
+    /**
+     * Returns the number of persons that satisfy the whole query.
+     */
+    public int getMatchCount() {
+        Step last = steps.get(steps.size() - 1);
+        return last.isSkipped() ? 0 : last.getRemaining();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QueryPlan)) {
+            return false;
+        }
+
+        QueryPlan otherPlan = (QueryPlan) other;
+        return steps.equals(otherPlan.steps);
+    }
+
+    @Override
+    public int hashCode() {
+        return steps.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("steps", steps).toString();
+    }
+
+    /**
+     * A criterion of a query plan.
+     */
+    public static class Step {
+        /** The number of persons remaining after a step that was skipped. */
+        public static final int SKIPPED = -1;
+
+        private final String description;
+        private final int estimate;
+        private final int remaining;
+
+        /**
+         * Creates a step that is estimated to match {@code estimate} persons and leaves {@code remaining} persons
+         * matching the query so far, or {@link #SKIPPED} if it was not answered.
+         */
+        public Step(String description, int estimate, int remaining) {
+            requireNonNull(description);
+            this.description = description;
+            this.estimate = estimate;
+            this.remaining = remaining;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public int getEstimate() {
+            return estimate;
+        }
+
+        public int getRemaining() {
+            return remaining;
+        }
+
+        public boolean isSkipped() {
+            return remaining == SKIPPED;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Step)) {
+                return false;
+            }
+
+            Step otherStep = (Step) other;
+            return description.equals(otherStep.description)
+                    && estimate == otherStep.estimate
+                    && remaining == otherStep.remaining;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(description, estimate, remaining);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("description", description)
+                    .add("estimate", estimate)
+                    .add("remaining", remaining)
+                    .toString();
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package seedu.address.model.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A field of a person that can be searched through a {@link PersonIndex}.
+ * Each field breaks a person down into case-folded search terms, which are matched exactly against case-folded
+ * keywords.
+ */
+public enum SearchField {
+    /** The words of the person's name. */
+    NAME(true, person -> List.of(person.getName().fullName)),
+
+    /** The person's tag names, each as a whole. */
+    TAG(false, person -> person.getTags().stream().map(tag -> tag.tagName).collect(Collectors.toList())),
+
+    /** The words of the person's module names. */
+    MODULE(true, person -> person.getModules().stream()
+            .map(module -> module.moduleName).collect(Collectors.toList())),
+
+    /** The words of the person's faculty names. */
+    FACULTY(true, person -> person.getFaculties().stream()
+            .map(faculty -> faculty.facultyName).collect(Collectors.toList()));
+
+    private static final String[] NO_TERMS = new String[0];
+
+    private final boolean isSplitIntoWords;
+    private final Function<Person, List<String>> valueExtractor;
+
+    SearchField(boolean isSplitIntoWords, Function<Person, List<String>> valueExtractor) {
+        this.isSplitIntoWords = isSplitIntoWords;
+        this.valueExtractor = valueExtractor;
+    }
+
+    /**
+     * Returns the distinct case-folded search terms of {@code person} in this field.
+     * The terms are computed once per person and cached (see {@link Person#getSearchKeys()}), so the returned array
+     * is shared and must not be modified.
+     */
+    public String[] termsOf(Person person) {
+        return person.getSearchKeys().termsOf(this);
+    }
+
+    /**
+     * Returns the values of {@code person} in this field, as they are stored, before they are broken into terms.
+     */
+    List<String> valuesOf(Person person) {
+        return valueExtractor.apply(person);
+    }
+
+    /**
+     * Computes the distinct case-folded search terms of {@code person} in this field, in order of appearance.
+     */
+    String[] extractTerms(Person person) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String value : valuesOf(person)) {
+            if (isSplitIntoWords) {
+                addWords(value, terms);
+            } else {
+                terms.add(normalize(value));
+            }
+        }
+        return terms.isEmpty() ? NO_TERMS : terms.toArray(NO_TERMS);
+    }
+
+    /**
+     * Returns the search terms that {@code keywords} match in this field, as a set to test terms against.
+     * As with {@link seedu.address.commons.util.StringUtil#containsWordIgnoreCase(String, String)}, keywords for
+     * fields that are split into words are trimmed first.
+     * Predicates fold their keywords once, when they are created, so that testing a person against them does not
+     * allocate.
+     */
+    public Set<String> foldKeywords(Collection<String> keywords) {
+        Set<String> folded = new HashSet<>();
+        for (String keyword : keywords) {
+            folded.add(normalize(isSplitIntoWords ? keyword.trim() : keyword));
+        }
+        return folded;
+    }
+
+    /**
+     * Returns true if any search term of {@code person} in this field is in {@code foldedKeywords}, which should be
+     * obtained from {@link #foldKeywords(Collection)}.
+     * Once the terms of the person are cached, this does not allocate.
+     */
+    public boolean matchesAny(Person person, Set<String> foldedKeywords) {
+        if (foldedKeywords.isEmpty()) {
+            return false;
+        }
+        for (String term : termsOf(person)) {
+            if (foldedKeywords.contains(term)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if a value of {@code person} in this field contains {@code foldedWords} as consecutive words,
+     * where the words have been normalized by {@link #normalize(String)}.
+     * Fields that are not split into words must match the phrase as a whole.
+     * Unlike {@link #matchesAny(Person, Set)}, this looks at the values of the person rather than its cached terms,
+     * which do not record the order of the words.
+     */
+    public boolean containsPhrase(Person person, List<String> foldedWords) {
+        if (foldedWords.isEmpty()) {
+            return false;
+        }
+        String phrase = String.join(" ", foldedWords);
+        for (String value : valueExtractor.apply(person)) {
+            if (!isSplitIntoWords) {
+                if (normalize(value).equals(phrase)) {
+                    return true;
+                }
+                continue;
+            }
+            List<String> words = new ArrayList<>();
+            addWords(value, words);
+            if (Collections.indexOfSubList(words, foldedWords) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the values of this field are split into words, each of which is a search term.
+     */
+    public boolean isSplitIntoWords() {
+        return isSplitIntoWords;
+    }
+
+    /**
+     * Returns the search term that {@code keyword} matches.
+     * Every character is folded by mapping it to upper case and back to lower case, so two strings normalize to the
+     * same term exactly when they are equal ignoring case, as defined by {@link String#equalsIgnoreCase(String)}.
+     */
+    public static String normalize(String keyword) {
+        char[] chars = keyword.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Adds the normalized whitespace-separated words of {@code sentence} to {@code terms}.
+     */
+    private static void addWords(String sentence, Collection<String> terms) {
+        for (String word : sentence.split("\\s+")) {
+            if (!word.isEmpty()) {
+                terms.add(normalize(word));
+            }
+        }
+    }
+}
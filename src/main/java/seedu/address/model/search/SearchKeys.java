@@ -0,0 +1,55 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.person.Person;
+
+/**
+ * The case-folded search terms of a person in every {@link SearchField}, and the case-folded values of the person in
+ * every {@link SubstringField}, computed once so that searches do not have to split and fold the fields of the person
+ * again on every test.
+ * Immutable; the term arrays are shared and must not be modified.
+ */
+public final class SearchKeys {
+
+    private final String[][] termsByField;
+    private final String[] valuesBySubstringField;
+
+    private SearchKeys(String[][] termsByField, String[] valuesBySubstringField) {
+        this.termsByField = termsByField;
+        this.valuesBySubstringField = valuesBySubstringField;
+    }
+
+    /**
+     * Computes the search keys of {@code person}.
+     */
+    public static SearchKeys of(Person person) {
+        requireNonNull(person);
+        SearchField[] fields = SearchField.values();
+        String[][] termsByField = new String[fields.length][];
+        for (SearchField field : fields) {
+            termsByField[field.ordinal()] = field.extractTerms(person);
+        }
+
+        SubstringField[] substringFields = SubstringField.values();
+        String[] valuesBySubstringField = new String[substringFields.length];
+        for (SubstringField field : substringFields) {
+            valuesBySubstringField[field.ordinal()] = field.extractFoldedValue(person);
+        }
+        return new SearchKeys(termsByField, valuesBySubstringField);
+    }
+
+    /**
+     * Returns the distinct search terms in {@code field}.
+     */
+    public String[] termsOf(SearchField field) {
+        return termsByField[field.ordinal()];
+    }
+
+    /**
+     * Returns the case-folded value in {@code field}.
+     */
+    public String foldedValueOf(SubstringField field) {
+        return valuesBySubstringField[field.ordinal()];
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.model.search;
+
+import java.util.function.Function;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A field of a person that can be searched for substrings through a {@link PersonIndex}, such as the digits of a
+ * phone number or the domain of an email address.
+ * Unlike a {@link SearchField}, the value of the field is not broken down into terms, but matched as a whole.
+ */
+public enum SubstringField {
+    /** The person's phone number. */
+    PHONE(person -> person.getPhone().value),
+
+    /** The person's email address. */
+    EMAIL(person -> person.getEmail().value),
+
+    /** The person's address. */
+    ADDRESS(person -> person.getAddress().value);
+
+    private final Function<Person, String> valueExtractor;
+
+    SubstringField(Function<Person, String> valueExtractor) {
+        this.valueExtractor = valueExtractor;
+    }
+
+    /**
+     * Returns the case-folded value of {@code person} in this field.
+     * The value is computed once per person and cached (see {@link Person#getSearchKeys()}).
+     */
+    public String foldedValueOf(Person person) {
+        return person.getSearchKeys().foldedValueOf(this);
+    }
+
+    /**
+     * Computes the case-folded value of {@code person} in this field.
+     */
+    String extractFoldedValue(Person person) {
+        return SearchField.normalize(valueExtractor.apply(person));
+    }
+
+    /**
+     * Returns true if the value of {@code person} in this field contains {@code foldedSubstring}, which has been
+     * normalized by {@link SearchField#normalize(String)}.
+     */
+    public boolean contains(Person person, String foldedSubstring) {
+        return foldedValueOf(person).contains(foldedSubstring);
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.address.model.search;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.BitSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that the value of a {@code Person} in a {@link SubstringField} contains any of the given substrings, ignoring
+ * case.
+ * Against an index, each substring is looked up in the trigram index of the field (see
+ * {@link PersonIndex#findContaining(SubstringField, String)}).
+ */
+public class SubstringPredicate implements IndexedPredicate {
+    private final SubstringField field;
+    private final List<String> substrings;
+    private final Set<String> foldedSubstrings;
+
+    /**
+     * Creates a predicate that matches any of {@code substrings}, which must not be empty, in {@code field}.
+     */
+    public SubstringPredicate(SubstringField field, List<String> substrings) {
+        requireAllNonNull(field, substrings);
+        Set<String> folded = new LinkedHashSet<>();
+        for (String substring : substrings) {
+            if (substring.isEmpty()) {
+                throw new IllegalArgumentException("A substring must not be empty");
+            }
+            folded.add(SearchField.normalize(substring));
+        }
+        if (folded.isEmpty()) {
+            throw new IllegalArgumentException("At least one substring is required");
+        }
+        this.field = field;
+        this.substrings = List.copyOf(substrings);
+        this.foldedSubstrings = folded;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (String foldedSubstring : foldedSubstrings) {
+            if (field.contains(person, foldedSubstring)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public BitSet evaluate(PersonIndex index) {
+        BitSet result = new BitSet();
+        for (String foldedSubstring : foldedSubstrings) {
+            result.or(index.findContaining(field, foldedSubstring));
+        }
+        return result;
+    }
+
+    @Override
+    public int estimateMatches(PersonIndex index) {
+        long sum = foldedSubstrings.stream().mapToLong(substring -> index.countContaining(field, substring)).sum();
+        return (int) Math.min(sum, index.size());
+    }
+
+    @Override
+    public String describe() {
+        return field.name().toLowerCase() + " contains any of " + substrings;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SubstringPredicate)) {
+            return false;
+        }
+
+        SubstringPredicate otherPredicate = (SubstringPredicate) other;
+        return field.equals(otherPredicate.field) && foldedSubstrings.equals(otherPredicate.foldedSubstrings);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * field.hashCode() + foldedSubstrings.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("field", field).add("substrings", substrings).toString();
+    }
+}
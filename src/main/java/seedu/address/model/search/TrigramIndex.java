@@ -0,0 +1,117 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An inverted index from the trigrams (substrings of {@value #GRAM_LENGTH} characters) of one case-folded value per
+ * person to the persons whose value contains them, for finding the values that contain a given substring.
+ * A value can only contain a substring if it contains every trigram of the substring, so intersecting the postings of
+ * those trigrams narrows the persons down to a few candidates, which are then checked for the substring itself.
+ * Substrings shorter than a trigram have no trigrams to narrow them down, and cannot be looked up here.
+ */
+public class TrigramIndex {
+
+    /** The number of characters in each gram of a value. */
+    public static final int GRAM_LENGTH = 3;
+
+    private final Map<String, BitSet> postings = new HashMap<>();
+
+    /**
+     * Adds the trigrams of {@code foldedValue} as those of the person with ordinal {@code ordinal}.
+     */
+    public void add(int ordinal, String foldedValue) {
+        requireNonNull(foldedValue);
+        for (int i = 0; i + GRAM_LENGTH <= foldedValue.length(); i++) {
+            postings.computeIfAbsent(foldedValue.substring(i, i + GRAM_LENGTH), gram -> new BitSet()).set(ordinal);
+        }
+    }
+
+    /**
+     * Removes the trigrams of {@code foldedValue} as those of the person with ordinal {@code ordinal}.
+     * {@code foldedValue} must be the value that was added for the person.
+     */
+    public void remove(int ordinal, String foldedValue) {
+        requireNonNull(foldedValue);
+        for (int i = 0; i + GRAM_LENGTH <= foldedValue.length(); i++) {
+            String gram = foldedValue.substring(i, i + GRAM_LENGTH);
+            BitSet posting = postings.get(gram);
+            if (posting == null) {
+                continue;
+            }
+            posting.clear(ordinal);
+            if (posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Removes every value from the index.
+     */
+    public void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the ordinals of the persons whose value contains every trigram of {@code foldedSubstring}, which is a
+     * superset of those whose value contains {@code foldedSubstring}.
+     * The postings are intersected from the smallest, so the work done is bounded by the rarest trigram.
+     * {@code foldedSubstring} must have at least {@value #GRAM_LENGTH} characters.
+     * The returned bitmap is a fresh copy that the caller may modify.
+     */
+    public BitSet findCandidates(String foldedSubstring) {
+        List<BitSet> gramPostings = postingsOf(foldedSubstring);
+        if (gramPostings.isEmpty()) {
+            return new BitSet();
+        }
+        gramPostings.sort(Comparator.comparingInt(BitSet::cardinality));
+        BitSet candidates = (BitSet) gramPostings.get(0).clone();
+        for (int i = 1; i < gramPostings.size() && !candidates.isEmpty(); i++) {
+            candidates.and(gramPostings.get(i));
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the number of persons whose value contains the rarest trigram of {@code foldedSubstring}, which is an
+     * upper bound on the size of {@link #findCandidates(String)}.
+     * {@code foldedSubstring} must have at least {@value #GRAM_LENGTH} characters.
+     */
+    public int countCandidates(String foldedSubstring) {
+        return postingsOf(foldedSubstring).stream().mapToInt(BitSet::cardinality).min().orElse(0);
+    }
+
+    /**
+     * Returns the number of distinct trigrams in the index.
+     */
+    public int size() {
+        return postings.size();
+    }
+
+    /**
+     * Returns the postings of the trigrams of {@code foldedSubstring}, or an empty list if any of them is not in the
+     * index, since no value can contain the substring then.
+     */
+    private List<BitSet> postingsOf(String foldedSubstring) {
+        requireNonNull(foldedSubstring);
+        if (foldedSubstring.length() < GRAM_LENGTH) {
+            throw new IllegalArgumentException("A substring must have at least " + GRAM_LENGTH + " characters");
+        }
+        List<BitSet> gramPostings = new ArrayList<>();
+        for (int i = 0; i + GRAM_LENGTH <= foldedSubstring.length(); i++) {
+            BitSet posting = postings.get(foldedSubstring.substring(i, i + GRAM_LENGTH));
+            if (posting == null) {
+                return List.of();
+            }
+            gramPostings.add(posting);
+        }
+        return gramPostings;
+    }
+}
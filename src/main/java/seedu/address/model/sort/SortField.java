@@ -0,0 +1,62 @@
+package seedu.address.model.sort;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.Optional;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A field of a person that the person list can be sorted by.
+ * Text fields are compared by their cached collation keys (see {@link Person#getSortKeys()}).
+ */
+public enum SortField {
+    NAME("name", Comparator.comparing(person -> person.getSortKeys().getNameKey())),
+
+    EMAIL("email", Comparator.comparing(person -> person.getSortKeys().getEmailKey())),
+
+    /** Phone numbers are compared as numbers: shorter numbers first, then digit by digit. */
+    PHONE("phone", Comparator.<Person>comparingInt(person -> person.getPhone().value.length())
+            .thenComparing(person -> person.getPhone().value)),
+
+    /** The number of modules the person takes. */
+    MODULES("modules", Comparator.comparingInt(person -> person.getModules().size()));
+
+    private final String keyword;
+    private final Comparator<Person> order;
+
+    SortField(String keyword, Comparator<Person> order) {
+        this.keyword = keyword;
+        this.order = order;
+    }
+
+    /**
+     * Returns the field that the user refers to by {@code keyword}, ignoring case.
+     */
+    public static Optional<SortField> fromKeyword(String keyword) {
+        requireNonNull(keyword);
+        for (SortField field : values()) {
+            if (field.keyword.equalsIgnoreCase(keyword)) {
+                return Optional.of(field);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the word that the user refers to this field by.
+     */
+    public String getKeyword() {
+        return keyword;
+    }
+
+    /**
+     * Returns the order of persons by this field, ascending or descending. Persons with equal values in this field
+     * are ordered by name, ascending either way.
+     */
+    public Comparator<Person> comparator(boolean isAscending) {
+        Comparator<Person> primary = isAscending ? order : order.reversed();
+        return this == NAME ? primary : primary.thenComparing(NAME.order);
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.model.sort;
+
+import static java.util.Objects.requireNonNull;
+
+import java.text.CollationKey;
+import java.text.Collator;
+
+import seedu.address.model.person.Person;
+
+/**
+ * The collation keys of the text fields of a person that the person list can be sorted by, computed once so that
+ * sorting compares the bytes of precomputed keys instead of comparing the strings with a {@link Collator} every time.
+ * Keys from the same collator order strings the same way as the collator does.
+ * Immutable.
+ */
+public final class SortKeys {
+
+    // Collators are not thread-safe, so keys are created while holding its lock
+    private static final Collator COLLATOR = Collator.getInstance();
+
+    private final CollationKey nameKey;
+    private final CollationKey emailKey;
+
+    private SortKeys(CollationKey nameKey, CollationKey emailKey) {
+        this.nameKey = nameKey;
+        this.emailKey = emailKey;
+    }
+
+    /**
+     * Computes the sort keys of {@code person} with the collator of the default locale.
+     */
+    public static SortKeys of(Person person) {
+        requireNonNull(person);
+        synchronized (COLLATOR) {
+            return new SortKeys(COLLATOR.getCollationKey(person.getName().fullName),
+                    COLLATOR.getCollationKey(person.getEmail().value));
+        }
+    }
+
+    public CollationKey getNameKey() {
+        return nameKey;
+    }
+
+    public CollationKey getEmailKey() {
+        return emailKey;
+    }
+}
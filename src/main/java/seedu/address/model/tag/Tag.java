@@ -3,19 +3,25 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.InternPool;
+import seedu.address.model.validation.FieldValidators;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
  */
-public class Tag {
+public class Tag implements Comparable<Tag> {
 
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final InternPool<Tag> POOL = new InternPool<>(Tag::new);
+
     public final String tagName;
 
     /**
      * Constructs a {@code Tag}.
+     * Prefer {@link #of(String)}, which returns a shared instance for equal names.
      *
      * @param tagName A valid tag name.
      */
@@ -25,11 +31,21 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the canonical {@code Tag} with the given name.
+     * The name is only validated the first time it is seen, while an equal {@code Tag} is still in use.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        return POOL.intern(tagName);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return POOL.contains(test) || FieldValidators.isValidTagName(test);
     }
 
     @Override
@@ -52,6 +68,14 @@ public class Tag {
         return tagName.hashCode();
     }
 
+    /**
+     * Orders tags by name, consistently with {@link #equals(Object)}.
+     */
+    @Override
+    public int compareTo(Tag other) {
+        return tagName.compareTo(other.tagName);
+    }
+
     /**
      * Format state as text for viewing.
      */
@@ -91,7 +91,7 @@ public class FacultyDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Tag::new)
+                .map(Tag::of)
                 .collect(Collectors.toSet());
     }
 
@@ -100,7 +100,7 @@ public class FacultyDataUtil {
      */
     public static Set<Faculty> getFacultySet(String... strings) {
         return Arrays.stream(strings)
-                .map(Faculty::new)
+                .map(Faculty::of)
                 .collect(Collectors.toSet());
     }
 
@@ -113,7 +113,7 @@ public class FacultyDataUtil {
             return Set.of();
         }
         return Arrays.stream(strings)
-                .map(Module::new)
+                .map(Module::of)
                 .collect(Collectors.toSet());
     }
 }
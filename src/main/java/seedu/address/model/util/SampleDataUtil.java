@@ -92,7 +92,7 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Tag::new)
+                .map(Tag::of)
                 .collect(Collectors.toSet());
     }
 
@@ -101,7 +101,7 @@ public class SampleDataUtil {
      */
     public static Set<Module> getModuleSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Module::new)
+                .map(Module::of)
                 .collect(Collectors.toSet());
     }
 
@@ -110,7 +110,7 @@ public class SampleDataUtil {
      */
     public static Set<Faculty> getFacultySet(String... strings) {
         return Arrays.stream(strings)
-                .map(Faculty::new)
+                .map(Faculty::of)
                 .collect(Collectors.toSet());
     }
 
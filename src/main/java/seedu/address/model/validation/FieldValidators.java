@@ -0,0 +1,222 @@
+package seedu.address.model.validation;
+
+/**
+ * Hand-written validators for the fields of a person.
+ * Each validator accepts exactly the strings matched by the {@code VALIDATION_REGEX} of the corresponding model class,
+ * but runs in a single pass over the input without compiling a {@code Pattern} or backtracking.
+ */
+public final class FieldValidators {
+
+    private static final String EMAIL_SPECIAL_CHARACTERS = "+_.-";
+    private static final int MIN_PHONE_LENGTH = 3;
+    private static final int MIN_MODULE_PREFIX_LENGTH = 2;
+    private static final int MAX_MODULE_PREFIX_LENGTH = 4;
+    private static final int MODULE_NUMBER_LENGTH = 4;
+    private static final int MAX_MODULE_SUFFIX_LENGTH = 2;
+
+    private FieldValidators() {} // prevents instantiation
+
+    /**
+     * Returns true if {@code test} is a valid name: alphanumeric characters and spaces, starting with an
+     * alphanumeric character.
+     */
+    public static boolean isValidName(String test) {
+        if (test.isEmpty() || !isAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (!isAlphanumeric(c) && c != ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is a valid phone number: at least 3 digits and nothing else.
+     */
+    public static boolean isValidPhone(String test) {
+        return test.length() >= MIN_PHONE_LENGTH && countDigits(test, 0) == test.length();
+    }
+
+    /**
+     * Returns true if {@code test} is a valid email address of the form local-part@domain.
+     *
+     * @see seedu.address.model.person.Email#MESSAGE_CONSTRAINTS
+     */
+    public static boolean isValidEmail(String test) {
+        int at = test.indexOf('@');
+        return at >= 0 && isValidLocalPart(test, at) && isValidDomain(test, at + 1);
+    }
+
+    /**
+     * Returns true if {@code test} is a valid address: it does not start with whitespace and does not contain any
+     * line terminator after its first character.
+     */
+    public static boolean isValidAddress(String test) {
+        if (test.isEmpty() || isWhitespace(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            if (isLineTerminator(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is a valid tag name: one or more alphanumeric characters.
+     */
+    public static boolean isValidTagName(String test) {
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isAlphanumeric(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is a valid module name: 2 to 4 uppercase letters, followed by 4 digits and at
+     * most 2 more uppercase letters.
+     */
+    public static boolean isValidModuleName(String test) {
+        int prefixLength = countUppercaseLetters(test, 0);
+        if (prefixLength < MIN_MODULE_PREFIX_LENGTH || prefixLength > MAX_MODULE_PREFIX_LENGTH) {
+            return false;
+        }
+        int numberLength = countDigits(test, prefixLength);
+        if (numberLength != MODULE_NUMBER_LENGTH) {
+            return false;
+        }
+        int suffixStart = prefixLength + numberLength;
+        int suffixLength = countUppercaseLetters(test, suffixStart);
+        return suffixLength <= MAX_MODULE_SUFFIX_LENGTH && suffixStart + suffixLength == test.length();
+    }
+
+    /**
+     * Returns true if {@code test} is a valid faculty name: one or more letters and spaces.
+     */
+    public static boolean isValidFacultyName(String test) {
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (!isLetter(c) && c != ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test[0, end)} consists of alphanumeric runs separated by single special characters.
+     */
+    private static boolean isValidLocalPart(String test, int end) {
+        boolean previousIsAlphanumeric = false;
+        for (int i = 0; i < end; i++) {
+            char c = test.charAt(i);
+            if (isAlphanumeric(c)) {
+                previousIsAlphanumeric = true;
+            } else if (previousIsAlphanumeric && EMAIL_SPECIAL_CHARACTERS.indexOf(c) >= 0) {
+                previousIsAlphanumeric = false;
+            } else {
+                return false;
+            }
+        }
+        return previousIsAlphanumeric;
+    }
+
+    /**
+     * Returns true if {@code test[start, length)} consists of dot-separated domain labels.
+     */
+    private static boolean isValidDomain(String test, int start) {
+        int labelStart = start;
+        for (int i = start; i <= test.length(); i++) {
+            boolean isLastLabel = i == test.length();
+            if (isLastLabel || test.charAt(i) == '.') {
+                if (!isValidDomainLabel(test, labelStart, i, isLastLabel)) {
+                    return false;
+                }
+                labelStart = i + 1;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test[start, end)} consists of alphanumeric runs separated by single hyphens.
+     * The last label must also have a run of at least 2 characters.
+     */
+    private static boolean isValidDomainLabel(String test, int start, int end, boolean isLastLabel) {
+        boolean previousIsAlphanumeric = false;
+        int runLength = 0;
+        int longestRunLength = 0;
+        for (int i = start; i < end; i++) {
+            char c = test.charAt(i);
+            if (isAlphanumeric(c)) {
+                previousIsAlphanumeric = true;
+                runLength++;
+                longestRunLength = Math.max(longestRunLength, runLength);
+            } else if (previousIsAlphanumeric && c == '-') {
+                previousIsAlphanumeric = false;
+                runLength = 0;
+            } else {
+                return false;
+            }
+        }
+        return previousIsAlphanumeric && (!isLastLabel || longestRunLength >= 2);
+    }
+
+    private static int countDigits(String test, int start) {
+        int i = start;
+        while (i < test.length() && isDigit(test.charAt(i))) {
+            i++;
+        }
+        return i - start;
+    }
+
+    private static int countUppercaseLetters(String test, int start) {
+        int i = start;
+        while (i < test.length() && isUppercaseLetter(test.charAt(i))) {
+            i++;
+        }
+        return i - start;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isUppercaseLetter(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean isLetter(char c) {
+        return isUppercaseLetter(c) || (c >= 'a' && c <= 'z');
+    }
+
+    private static boolean isAlphanumeric(char c) {
+        return isLetter(c) || isDigit(c);
+    }
+
+    /**
+     * Returns true if {@code c} is matched by {@code \s} in a regular expression.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true if {@code c} is not matched by {@code .} in a regular expression.
+     */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
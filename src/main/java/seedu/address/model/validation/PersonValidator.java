@@ -0,0 +1,65 @@
+package seedu.address.model.validation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.model.faculty.Faculty;
+import seedu.address.model.module.Module;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Validates the raw fields of a person record in bulk.
+ */
+public final class PersonValidator {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
+
+    private PersonValidator() {} // prevents instantiation
+
+    /**
+     * Validates every field of a person record and returns the error messages of all invalid fields, in field order.
+     * A null field is reported as missing. Null collections are treated as empty.
+     *
+     * @return the error messages, or an empty list if the record is valid.
+     */
+    public static List<String> validateRow(String name, String phone, String email, String address,
+            Collection<String> tags, Collection<String> modules, Collection<String> faculties) {
+        List<String> errors = new ArrayList<>();
+        validateField(name, Name.class, Name::isValidName, Name.MESSAGE_CONSTRAINTS, errors);
+        validateField(phone, Phone.class, Phone::isValidPhone, Phone.MESSAGE_CONSTRAINTS, errors);
+        validateField(email, Email.class, Email::isValidEmail, Email.MESSAGE_CONSTRAINTS, errors);
+        validateField(address, Address.class, Address::isValidAddress, Address.MESSAGE_CONSTRAINTS, errors);
+        validateAll(tags, Tag::isValidTagName, Tag.MESSAGE_CONSTRAINTS, errors);
+        validateAll(modules, Module::isValidModuleName, Module.MESSAGE_CONSTRAINTS, errors);
+        validateAll(faculties, Faculty::isValidFacultyName, Faculty.MESSAGE_CONSTRAINTS, errors);
+        return errors;
+    }
+
+    private static void validateField(String value, Class<?> fieldType, Predicate<String> isValid,
+            String constraints, List<String> errors) {
+        if (value == null) {
+            errors.add(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldType.getSimpleName()));
+        } else if (!isValid.test(value)) {
+            errors.add(constraints);
+        }
+    }
+
+    private static void validateAll(Collection<String> values, Predicate<String> isValid, String constraints,
+            List<String> errors) {
+        if (values == null) {
+            return;
+        }
+        for (String value : values) {
+            if (value == null || !isValid.test(value)) {
+                errors.add(constraints);
+                return;
+            }
+        }
+    }
+}
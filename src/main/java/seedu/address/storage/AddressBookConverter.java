@@ -0,0 +1,68 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts the address book file of one {@link AddressBookStorage} into the format of another, such as from JSON to
+ * binary, when the format of the data file chosen in the user prefs changes.
+ */
+public class AddressBookConverter {
+
+    public static final String BACKUP_FILE_EXTENSION = ".bak";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookConverter.class);
+
+    private AddressBookConverter() {} // prevents instantiation
+
+    /**
+     * Saves the address book of {@code source} with {@code target}, if only the files of {@code source} exist.
+     * The address book is read as {@code source} reads it, so changes kept in a journal next to its data file are
+     * converted too. Every file of {@code source} is then renamed to end in {@value #BACKUP_FILE_EXTENSION}. They are
+     * kept as a backup, and no longer exist under their own names, so that the file of {@code target}, which is the
+     * newer one from then on, is converted back if the format is changed back, and an old journal is never applied
+     * to it.
+     *
+     * @return true if the address book was converted.
+     * @throws DataLoadingException if the files of {@code source} could not be read.
+     * @throws IOException if the file of {@code target} could not be written, or those of {@code source} renamed.
+     */
+    public static boolean convertIfOnlySourceExists(AddressBookStorage source, AddressBookStorage target)
+            throws DataLoadingException, IOException {
+        requireAllNonNull(source, target);
+        if (!anyExists(source.getAddressBookFilePaths()) || anyExists(target.getAddressBookFilePaths())) {
+            return false;
+        }
+
+        Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+        if (addressBook.isEmpty()) {
+            return false;
+        }
+        target.saveAddressBook(addressBook.get());
+        for (Path sourceFilePath : source.getAddressBookFilePaths()) {
+            if (Files.exists(sourceFilePath)) {
+                Files.move(sourceFilePath,
+                        sourceFilePath.resolveSibling(sourceFilePath.getFileName() + BACKUP_FILE_EXTENSION),
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        logger.info("Converted data file " + source.getAddressBookFilePath() + " into "
+                + target.getAddressBookFilePath());
+        return true;
+    }
+
+    private static boolean anyExists(List<Path> paths) {
+        return paths.stream().anyMatch(Files::exists);
+    }
+}
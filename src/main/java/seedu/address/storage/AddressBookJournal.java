@@ -0,0 +1,144 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonTree;
+
+/**
+ * An append-only journal of the changes made to an address book since it was last saved in full, kept in a file next
+ * to the address book file. Each entry is one line of JSON (see {@link JsonAdaptedJournalEntry}), and is forced to
+ * the disk before {@link #append(List, List)} returns, so that a saved change survives a crash.
+ *
+ * Entries are idempotent, so replaying the journal over an address book file that was saved in full after some of
+ * them, as happens if the app stops between saving the file and clearing the journal, gives the same address book.
+ */
+class AddressBookJournal {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookJournal.class);
+
+    private final Path path;
+
+    /**
+     * Creates a journal kept in the file at {@code path}.
+     */
+    AddressBookJournal(Path path) {
+        requireNonNull(path);
+        this.path = path;
+    }
+
+    /**
+     * Returns the journal of the address book file at {@code addressBookFilePath}.
+     */
+    static AddressBookJournal of(Path addressBookFilePath) {
+        Path fileName = addressBookFilePath.getFileName();
+        return new AddressBookJournal(addressBookFilePath.resolveSibling(fileName + ".journal"));
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    boolean exists() {
+        return Files.exists(path);
+    }
+
+    /**
+     * Returns the size of the journal in bytes, or 0 if it does not exist.
+     */
+    long size() throws IOException {
+        return exists() ? Files.size(path) : 0;
+    }
+
+    /**
+     * Appends an entry that deletes the persons {@code removed} and puts the persons {@code added}, each at the slot
+     * it is mapped from, and forces it to the disk. A person in both is an edited person, and is only put.
+     */
+    void append(List<Person> removed, Map<Long, Person> added) throws IOException {
+        Set<Long> addedIds = added.values().stream().map(Person::getId).collect(Collectors.toSet());
+        List<Long> deletedIds = removed.stream()
+                .map(Person::getId)
+                .filter(id -> !addedIds.contains(id))
+                .collect(Collectors.toList());
+        String line = JsonUtil.toCompactJsonString(JsonAdaptedJournalEntry.of(deletedIds, added)) + "\n";
+
+        FileUtil.createParentDirsOfFile(path);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Applies every entry of the journal to {@code addressBook}, in the order they were appended.
+     * Each person is put back at the slot it was journaled with, so that the address book lists its persons in the
+     * order they had when they were saved. A last entry that was only partly written when the app stopped is ignored.
+     *
+     * @throws IOException if the journal could not be read or an entry other than the last is malformed.
+     * @throws IllegalValueException if there were any data constraints violated in an entry, or the entries leave
+     *     two persons with the same name.
+     */
+    void replay(AddressBook addressBook) throws IOException, IllegalValueException {
+        if (!exists()) {
+            return;
+        }
+        PersonTree tree = addressBook.snapshot().getPersonTree();
+        Map<Long, Long> slotsById = new HashMap<>();
+        tree.forEachEntry((person, slot) -> slotsById.put(person.getId(), slot));
+        addressBook.setPersons(replay(tree, slotsById));
+    }
+
+    private PersonTree replay(PersonTree tree, Map<Long, Long> slotsById) throws IOException, IllegalValueException {
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            while (line != null) {
+                String nextLine = reader.readLine();
+                JsonAdaptedJournalEntry entry;
+                try {
+                    entry = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+                } catch (IOException e) {
+                    if (nextLine != null) {
+                        throw e;
+                    }
+                    logger.warning("Ignoring incomplete last entry of journal " + path + ": " + e.getMessage());
+                    break;
+                }
+                tree = entry.applyTo(tree, slotsById);
+                line = nextLine;
+            }
+        }
+        JsonSerializableAddressBook.checkNoDuplicates(tree.asList());
+        return tree;
+    }
+
+    /**
+     * Deletes every entry of the journal.
+     */
+    void clear() throws IOException {
+        Files.deleteIfExists(path);
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
@@ -17,6 +18,14 @@ public interface AddressBookStorage {
      */
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the paths of all the files that the data is kept in, the data file first, such as a journal of
+     * changes kept next to the data file.
+     */
+    default List<Path> getAddressBookFilePaths() {
+        return List.of(getAddressBookFilePath());
+    }
+
     /**
      * Returns AddressBook data as a {@link ReadOnlyAddressBook}.
      * Returns {@code Optional.empty()} if storage file is not found.
@@ -0,0 +1,266 @@
+package seedu.address.storage;
+
+import java.io.DataOutput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.faculty.Faculty;
+import seedu.address.model.favorite.Favorite;
+import seedu.address.model.module.Module;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes address books in a compact, versioned binary format. It is quicker to read than JSON, as there are
+ * no field names to parse and no reflection, and each distinct tag, module and faculty name is stored, read and
+ * validated only once, in a dictionary that persons refer to by index.
+ *
+ * <pre>
+ * file       := MAGIC VERSION dictionary(tags) dictionary(modules) dictionary(faculties) count person*
+ * dictionary := count string*
+ * person     := id name phone email address favorite references(tags) references(modules) references(faculties)
+ * references := count index*
+ * string     := length UTF-8-bytes
+ * </pre>
+ *
+ * The magic number, version and ids are big-endian integers of 4, 4 and 8 bytes, and favorite is a byte of 0 or 1.
+ * Counts, lengths and indices are unsigned variable-length integers of 7 bits per byte, lowest bits first, so the small
+ * numbers that make up most of them take a single byte.
+ */
+class BinarySerializableAddressBook {
+
+    public static final String MESSAGE_NOT_BINARY_ADDRESS_BOOK = "Not a binary address book file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book version %1$d is not supported";
+    public static final String MESSAGE_INVALID_INDEX = "Dictionary index %1$d is out of range";
+    public static final String MESSAGE_INVALID_NUMBER = "Malformed variable-length number";
+    public static final String MESSAGE_ENDS_EARLY = "Binary address book ends early";
+
+    /** The first bytes of every file, "AB3B" in ASCII. */
+    static final int MAGIC = 0x41423342;
+    static final int VERSION = 1;
+
+    private BinarySerializableAddressBook() {} // prevents instantiation
+
+    /**
+     * Reads an address book in the binary format of this class from the whole of {@code input} into the model's
+     * {@code AddressBook} object.
+     * The input is a buffer rather than a stream, so that reading each of the many small numbers and strings is a
+     * plain array access.
+     *
+     * @throws IOException if the input ends early or is not in the format of this class.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readModelType(ByteBuffer input) throws IOException, IllegalValueException {
+        try {
+            return readAddressBook(input);
+        } catch (BufferUnderflowException e) {
+            throw new EOFException(MESSAGE_ENDS_EARLY);
+        }
+    }
+
+    private static AddressBook readAddressBook(ByteBuffer input) throws IOException, IllegalValueException {
+        if (input.getInt() != MAGIC) {
+            throw new IOException(MESSAGE_NOT_BINARY_ADDRESS_BOOK);
+        }
+        int version = input.getInt();
+        if (version != VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        List<Tag> tags = readDictionary(input, Tag::isValidTagName, Tag.MESSAGE_CONSTRAINTS, Tag::of);
+        List<Module> modules = readDictionary(input, Module::isValidModuleName, Module.MESSAGE_CONSTRAINTS,
+                Module::of);
+        List<Faculty> faculties = readDictionary(input, Faculty::isValidFacultyName, Faculty.MESSAGE_CONSTRAINTS,
+                Faculty::of);
+
+        int personCount = readUnsignedVarInt(input);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < personCount; i++) {
+            persons.add(readPerson(input, tags, modules, faculties));
+        }
+        return JsonSerializableAddressBook.toAddressBook(persons);
+    }
+
+    private static Person readPerson(ByteBuffer input, List<Tag> tags, List<Module> modules, List<Faculty> faculties)
+            throws IOException, IllegalValueException {
+        long id = input.getLong();
+        if (!Person.isValidId(id)) {
+            throw new IllegalValueException(JsonAdaptedPerson.MESSAGE_INVALID_ID);
+        }
+        Name name;
+        Phone phone;
+        Email email;
+        Address address;
+        try {
+            // The constructors check each field against its constraints, so the fields are not validated beforehand
+            name = new Name(readString(input));
+            phone = new Phone(readString(input));
+            email = new Email(readString(input));
+            address = new Address(readString(input));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+        byte favorite = input.get();
+        if (favorite != 0 && favorite != 1) {
+            throw new IllegalValueException(Favorite.MESSAGE_CONSTRAINTS);
+        }
+
+        // Tags, modules and faculties were validated once, when their dictionaries were read
+        return new Person(id, name, phone, email, address, readReferences(input, tags),
+                readReferences(input, modules), readReferences(input, faculties),
+                favorite == 1 ? new Favorite(true) : Favorite.DEFAULT_NOT_FAVORITE);
+    }
+
+    private static <T> List<T> readDictionary(ByteBuffer input, Predicate<String> isValid, String constraints,
+            Function<String, T> toValue) throws IOException, IllegalValueException {
+        int count = readUnsignedVarInt(input);
+        List<T> values = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String value = readString(input);
+            if (!isValid.test(value)) {
+                throw new IllegalValueException(constraints);
+            }
+            values.add(toValue.apply(value));
+        }
+        return values;
+    }
+
+    private static <T> Set<T> readReferences(ByteBuffer input, List<T> dictionary) throws IOException {
+        int count = readUnsignedVarInt(input);
+        Set<T> values = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            int index = readUnsignedVarInt(input);
+            if (index >= dictionary.size()) {
+                throw new IOException(String.format(MESSAGE_INVALID_INDEX, index));
+            }
+            values.add(dictionary.get(index));
+        }
+        return values;
+    }
+
+    private static String readString(ByteBuffer input) throws IOException {
+        int length = readUnsignedVarInt(input);
+        // Checked before allocating, so that a corrupt length cannot allocate a huge array
+        if (length > input.remaining()) {
+            throw new EOFException(MESSAGE_ENDS_EARLY);
+        }
+        byte[] bytes = new byte[length];
+        input.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int readUnsignedVarInt(ByteBuffer input) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            byte b = input.get();
+            // The fifth byte holds the top 4 bits of the number, so any higher bits would be shifted out
+            if (shift == 28 && (b & 0x70) != 0) {
+                throw new IOException(MESSAGE_INVALID_NUMBER);
+            }
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    throw new IOException(MESSAGE_INVALID_NUMBER);
+                }
+                return value;
+            }
+        }
+        throw new IOException(MESSAGE_INVALID_NUMBER);
+    }
+
+    /**
+     * Writes {@code source} to {@code output} in the binary format of this class.
+     *
+     * @throws IOException if the output could not be written.
+     */
+    public static void writeModelType(ReadOnlyAddressBook source, DataOutput output) throws IOException {
+        List<Person> persons = source.getPersonList();
+        Dictionary<Tag> tags = new Dictionary<>();
+        Dictionary<Module> modules = new Dictionary<>();
+        Dictionary<Faculty> faculties = new Dictionary<>();
+        for (Person person : persons) {
+            tags.addAll(person.getTags());
+            modules.addAll(person.getModules());
+            faculties.addAll(person.getFaculties());
+        }
+
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        tags.write(output, tag -> tag.tagName);
+        modules.write(output, module -> module.moduleName);
+        faculties.write(output, faculty -> faculty.facultyName);
+
+        writeUnsignedVarInt(output, persons.size());
+        for (Person person : persons) {
+            output.writeLong(person.getId());
+            writeString(output, person.getName().fullName);
+            writeString(output, person.getPhone().value);
+            writeString(output, person.getEmail().value);
+            writeString(output, person.getAddress().value);
+            output.writeByte(person.getFavorite().getIsFavorite() ? 1 : 0);
+            tags.writeReferences(output, person.getTags());
+            modules.writeReferences(output, person.getModules());
+            faculties.writeReferences(output, person.getFaculties());
+        }
+    }
+
+    private static void writeString(DataOutput output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeUnsignedVarInt(output, bytes.length);
+        output.write(bytes);
+    }
+
+    private static void writeUnsignedVarInt(DataOutput output, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            output.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        output.writeByte(value);
+    }
+
+    /**
+     * The distinct values of one kind in an address book, numbered in the order they were first added.
+     */
+    private static class Dictionary<T> {
+        private final Map<T, Integer> indices = new LinkedHashMap<>();
+
+        void addAll(Collection<T> values) {
+            for (T value : values) {
+                indices.putIfAbsent(value, indices.size());
+            }
+        }
+
+        void write(DataOutput output, Function<T, String> toString) throws IOException {
+            writeUnsignedVarInt(output, indices.size());
+            for (T value : indices.keySet()) {
+                writeString(output, toString.apply(value));
+            }
+        }
+
+        void writeReferences(DataOutput output, Collection<T> values) throws IOException {
+            writeUnsignedVarInt(output, values.size());
+            for (T value : values) {
+                writeUnsignedVarInt(output, indices.get(value));
+            }
+        }
+    }
+}
@@ -3,7 +3,6 @@ package seedu.address.storage;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
-import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.faculty.Faculty;
 
 /**
@@ -33,18 +32,4 @@ class JsonAdaptedFaculty {
         return facultyName;
     }
 
-    /**
-     * Converts this Jackson-friendly adapted faculty object into the model's
-     * {@code Faculty} object.
-     *
-     * @throws IllegalValueException if there were any data constraints violated in
-     *                               the adapted faculty.
-     */
-    public Faculty toModelType() throws IllegalValueException {
-        if (!Faculty.isValidFacultyName(facultyName)) {
-            throw new IllegalValueException(Faculty.MESSAGE_CONSTRAINTS);
-        }
-        return new Faculty(facultyName);
-    }
-
 }
@@ -0,0 +1,95 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonTree;
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * Jackson-friendly version of one entry of an {@link AddressBookJournal}: the IDs of the persons deleted from the
+ * address book, and the persons added to it or edited, as stored with their IDs and slots.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_MISSING_ID = "Persons in the journal must have an id";
+    public static final String MESSAGE_INVALID_SLOT = "Persons in the journal must have a slot in their region of "
+            + "the list";
+
+    private final List<Long> deleted = new ArrayList<>();
+    private final List<JsonAdaptedPerson> put = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given deleted IDs and put persons.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("deleted") List<Long> deleted,
+            @JsonProperty("put") List<JsonAdaptedPerson> put) {
+        if (deleted != null) {
+            this.deleted.addAll(deleted);
+        }
+        if (put != null) {
+            this.put.addAll(put);
+        }
+    }
+
+    /**
+     * Converts the given changes into this class for Jackson use. {@code putPersons} maps each put person's slot to
+     * the person.
+     */
+    public static JsonAdaptedJournalEntry of(List<Long> deletedIds, Map<Long, Person> putPersons) {
+        return new JsonAdaptedJournalEntry(deletedIds, putPersons.entrySet().stream()
+                .map(entry -> new JsonAdaptedPerson(entry.getValue(), entry.getKey()))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Applies this entry to {@code tree}, in which {@code slotsById} maps the ID of every person to its slot, and
+     * returns the resulting tree, updating {@code slotsById} to match: deletes the persons with the deleted IDs that
+     * it holds, then stores each put person at its slot, removing the person with the same ID from its old slot.
+     * Applying an entry again, or to a tree that already reflects it, gives the same tree.
+     * Persons may be left with the same name, as happens midway through the journal when persons swap names, so the
+     * names are left for the caller to check once the whole journal is applied.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted persons.
+     */
+    public PersonTree applyTo(PersonTree tree, Map<Long, Long> slotsById) throws IllegalValueException {
+        for (long id : deleted) {
+            Long slot = slotsById.remove(id);
+            if (slot != null) {
+                tree = tree.remove(slot);
+            }
+        }
+        for (JsonAdaptedPerson jsonAdaptedPerson : put) {
+            Person person = jsonAdaptedPerson.toModelType();
+            Long slot = jsonAdaptedPerson.getSlot();
+            if (person.getId() == Person.UNASSIGNED_ID) {
+                throw new IllegalValueException(MESSAGE_MISSING_ID);
+            }
+            if (slot == null || !UniquePersonList.isValidSlot(person, slot)) {
+                throw new IllegalValueException(MESSAGE_INVALID_SLOT);
+            }
+
+            Long oldSlot = slotsById.put(person.getId(), slot);
+            if (oldSlot != null && !oldSlot.equals(slot)) {
+                tree = tree.remove(oldSlot);
+            }
+            Person occupant = tree.find(slot);
+            if (occupant != null && occupant.getId() != person.getId()) {
+                // Another person holds this slot. As slots are unique in every state that the journal records, that
+                // person is one that a later entry moves or deletes, so it can be dropped until that entry puts it
+                // back.
+                slotsById.remove(occupant.getId());
+            }
+            tree = tree.put(slot, person);
+        }
+        return tree;
+    }
+}
@@ -3,7 +3,6 @@ package seedu.address.storage;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
-import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.module.Module;
 
 /**
@@ -33,18 +32,4 @@ class JsonAdaptedModule {
         return moduleName;
     }
 
-    /**
-     * Converts this Jackson-friendly adapted module object into the model's
-     * {@code Module} object.
-     *
-     * @throws IllegalValueException if there were any data constraints violated in
-     *                               the adapted module.
-     */
-    public Module toModelType() throws IllegalValueException {
-        if (!Module.isValidModuleName(moduleName)) {
-            throw new IllegalValueException(Module.MESSAGE_CONSTRAINTS);
-        }
-        return new Module(moduleName);
-    }
-
 }
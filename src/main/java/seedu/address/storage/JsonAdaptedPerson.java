@@ -1,7 +1,6 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -19,14 +18,19 @@ import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.validation.PersonValidator;
 
 /**
  * Jackson-friendly version of {@link Person}.
  */
 class JsonAdaptedPerson {
 
-    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = PersonValidator.MISSING_FIELD_MESSAGE_FORMAT;
+    public static final String MESSAGE_INVALID_ID = "Person's id should be a positive integer of at most "
+            + Person.MAX_ID;
 
+    private final Long id;
+    private final Long slot;
     private final String name;
     private final String phone;
     private final String email;
@@ -36,16 +40,39 @@ class JsonAdaptedPerson {
     private final List<JsonAdaptedFaculty> faculties = new ArrayList<>();
     private final String favorite;
 
+    /**
+     * Constructs a {@code JsonAdaptedPerson} with the given person details and no id.
+     */
+    public JsonAdaptedPerson(String name, String phone, String email, String address, List<JsonAdaptedTag> tags,
+            List<JsonAdaptedModule> modules, List<JsonAdaptedFaculty> faculties, String favorite) {
+        this(null, name, phone, email, address, tags, modules, faculties, favorite);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedPerson} with the given person details and no slot.
+     * The {@code id} may be null for files saved before persons had ids.
+     */
+    public JsonAdaptedPerson(Long id, String name, String phone, String email, String address,
+            List<JsonAdaptedTag> tags, List<JsonAdaptedModule> modules, List<JsonAdaptedFaculty> faculties,
+            String favorite) {
+        this(id, null, name, phone, email, address, tags, modules, faculties, favorite);
+    }
+
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
+     * The {@code id} may be null for files saved before persons had ids, and the {@code slot} for files saved
+     * from anything other than a snapshot of an address book.
      */
     @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
+    public JsonAdaptedPerson(@JsonProperty("id") Long id, @JsonProperty("slot") Long slot,
+            @JsonProperty("name") String name, @JsonProperty("phone") String phone,
             @JsonProperty("email") String email, @JsonProperty("address") String address,
             @JsonProperty("tags") List<JsonAdaptedTag> tags,
             @JsonProperty("modules") List<JsonAdaptedModule> modules,
             @JsonProperty("faculties") List<JsonAdaptedFaculty> faculties,
             @JsonProperty("favorite") String favorite) {
+        this.id = id;
+        this.slot = slot;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -63,9 +90,19 @@ class JsonAdaptedPerson {
     }
 
     /**
-     * Converts a given {@code Person} into this class for Jackson use.
+     * Converts a given {@code Person} into this class for Jackson use, without a slot.
      */
     public JsonAdaptedPerson(Person source) {
+        this(source, null);
+    }
+
+    /**
+     * Converts a given {@code Person}, held at {@code slot} in the list of its address book, into this class for
+     * Jackson use.
+     */
+    public JsonAdaptedPerson(Person source, Long slot) {
+        id = source.getId() == Person.UNASSIGNED_ID ? null : source.getId();
+        this.slot = slot;
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -82,66 +119,47 @@ class JsonAdaptedPerson {
         favorite = source.getFavorite().toString();
     }
 
+    /**
+     * Returns the slot of this person in the list of its address book, or null if it was not saved with one.
+     * Slots order the list: see {@link seedu.address.model.person.UniquePersonList}.
+     */
+    public Long getSlot() {
+        return slot;
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
-        final List<Tag> personTags = new ArrayList<>();
-        final List<Module> personModules = new ArrayList<>();
-        final List<Faculty> personFaculties = new ArrayList<>();
-
-        for (JsonAdaptedTag tag : tags) {
-            personTags.add(tag.toModelType());
+        List<String> tagNames = tags.stream()
+                .map(JsonAdaptedTag::getTagName)
+                .collect(Collectors.toList());
+        List<String> moduleNames = modules.stream()
+                .map(JsonAdaptedModule::getModuleName)
+                .collect(Collectors.toList());
+        List<String> facultyNames = faculties.stream()
+                .map(JsonAdaptedFaculty::getFacultyName)
+                .collect(Collectors.toList());
+
+        List<String> errors = PersonValidator.validateRow(name, phone, email, address, tagNames, moduleNames,
+                facultyNames);
+        if (!errors.isEmpty()) {
+            throw new IllegalValueException(String.join("\n", errors));
         }
-
-        for (JsonAdaptedModule module : modules) {
-            personModules.add(module.toModelType());
+        if (id != null && !Person.isValidId(id)) {
+            throw new IllegalValueException(MESSAGE_INVALID_ID);
         }
+        final long modelId = id == null ? Person.UNASSIGNED_ID : id;
 
-        for (JsonAdaptedFaculty faculty : faculties) {
-            personFaculties.add(faculty.toModelType());
-        }
-
-        if (name == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
-        }
-        if (!Name.isValidName(name)) {
-            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
-        }
         final Name modelName = new Name(name);
-
-        if (phone == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
-        }
-        if (!Phone.isValidPhone(phone)) {
-            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
-        }
         final Phone modelPhone = new Phone(phone);
-
-        if (email == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
-        }
-        if (!Email.isValidEmail(email)) {
-            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
-        }
         final Email modelEmail = new Email(email);
-
-        if (address == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
-        }
-        if (!Address.isValidAddress(address)) {
-            throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
-        }
-
         final Address modelAddress = new Address(address);
-
-        final Set<Tag> modelTags = new HashSet<>(personTags);
-
-        final Set<Module> modelModules = new HashSet<>(personModules);
-
-        final Set<Faculty> modelFaculties = new HashSet<>(personFaculties);
+        final Set<Tag> modelTags = tagNames.stream().map(Tag::of).collect(Collectors.toSet());
+        final Set<Module> modelModules = moduleNames.stream().map(Module::of).collect(Collectors.toSet());
+        final Set<Faculty> modelFaculties = facultyNames.stream().map(Faculty::of).collect(Collectors.toSet());
 
         if (favorite != null && !Favorite.isValidFavorite(favorite)) {
             throw new IllegalValueException(Favorite.MESSAGE_CONSTRAINTS);
@@ -151,6 +169,7 @@ class JsonAdaptedPerson {
                 : new Favorite(favorite);
 
         return new Person(
+            modelId,
             modelName,
             modelPhone,
             modelEmail,
@@ -3,7 +3,6 @@ package seedu.address.storage;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
-import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -33,16 +32,4 @@ class JsonAdaptedTag {
         return tagName;
     }
 
-    /**
-     * Converts this Jackson-friendly adapted tag object into the model's {@code Tag} object.
-     *
-     * @throws IllegalValueException if there were any data constraints violated in the adapted tag.
-     */
-    public Tag toModelType() throws IllegalValueException {
-        if (!Tag.isValidTagName(tagName)) {
-            throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
-        }
-        return new Tag(tagName);
-    }
-
 }
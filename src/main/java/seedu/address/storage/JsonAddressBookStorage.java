@@ -3,34 +3,86 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonTree;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ *
+ * Changes to the address book at {@link #getAddressBookFilePath()} are appended to an {@link AddressBookJournal}
+ * next to the file, instead of rewriting the whole file, when the address book to save is an
+ * {@link AddressBookSnapshot} of the one last read or saved: its persons are compared with those of the earlier
+ * snapshot, skipping the parts of their trees that the two share. Once the journal grows past a threshold, the next
+ * save writes the whole file again and clears the journal. Reading the file replays the journal over it.
+ * Persons are saved in both with their slots in the list, so that reading gives back the very order and slots that
+ * were saved. A model that adopts the tree read (see {@link AddressBook#resetData}) then shares it, and the first
+ * save after loading only journals the changes made since.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    /** The size in bytes of a journal past which the next save writes the whole address book file instead. */
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1 << 20;
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
+    private final long compactionThreshold;
+
+    // The persons last read from or saved to the file at filePath, or null if the next save must write the whole file
+    private PersonTree savedTree;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage for the file at {@code filePath} that saves it without line breaks and indentation if
+     * {@code isCompact}.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a storage as {@link #JsonAddressBookStorage(Path, boolean)} does that writes the whole file once its
+     * journal has grown past {@code compactionThreshold} bytes.
+     */
+    JsonAddressBookStorage(Path filePath, boolean isCompact, long compactionThreshold) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.compactionThreshold = compactionThreshold;
     }
 
     public Path getAddressBookFilePath() {
         return filePath;
     }
 
+    @Override
+    public List<Path> getAddressBookFilePaths() {
+        return List.of(filePath, AddressBookJournal.of(filePath).getPath());
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
         return readAddressBook(filePath);
@@ -38,6 +90,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * The file is streamed: each person is converted as it is read, without first reading the whole file.
+     * The journal of the file, if any, is then replayed over it.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -45,18 +99,34 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        AddressBookJournal journal = AddressBookJournal.of(filePath);
+        if (!Files.exists(filePath) && !journal.exists()) {
             return Optional.empty();
         }
 
+        AddressBook addressBook;
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            addressBook = Files.exists(filePath) ? readFile(filePath) : new AddressBook();
+            journal.replay(addressBook);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
+
+        if (filePath.equals(this.filePath)) {
+            savedTree = addressBook.snapshot().getPersonTree();
+        }
+        return Optional.of(addressBook);
+    }
+
+    private static AddressBook readFile(Path filePath) throws IOException, IllegalValueException {
+        logger.info("JSON file " + filePath + " found.");
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return JsonSerializableAddressBook.readModelType(parser);
+        }
     }
 
     @Override
@@ -66,6 +136,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the changes are journaled if they can be, as described in the class; otherwise the whole file is written,
+     * with each person written as it is converted, without building the whole file in memory first.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +145,46 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        boolean isOwnFile = filePath.equals(this.filePath);
+        PersonTree tree = addressBook instanceof AddressBookSnapshot
+                ? ((AddressBookSnapshot) addressBook).getPersonTree()
+                : null;
+        PersonTree previousTree = isOwnFile ? savedTree : null;
+        if (isOwnFile) {
+            // If this save fails, the next one cannot rely on the file or the journal
+            savedTree = null;
+        }
+
+        AddressBookJournal journal = AddressBookJournal.of(filePath);
+        if (tree != null && previousTree != null && journal.size() < compactionThreshold) {
+            List<Person> removed = new ArrayList<>();
+            Map<Long, Person> added = new LinkedHashMap<>();
+            tree.diffEntries(previousTree, (person, slot) -> removed.add(person),
+                    (person, slot) -> added.put(slot, person));
+            if (!removed.isEmpty() || !added.isEmpty()) {
+                journal.append(removed, added);
+            }
+        } else {
+            writeFile(addressBook, filePath);
+            journal.clear();
+        }
+
+        if (isOwnFile) {
+            savedTree = tree;
+        }
+    }
+
+    /**
+     * Writes the whole of {@code addressBook} to a temporary file forced to the disk, which then replaces the file at
+     * {@code filePath}, so that the file is never left partly written.
+     */
+    private void writeFile(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        Path tempFilePath = FileUtil.getTempFileOf(filePath);
+        FileUtil.createParentDirsOfFile(tempFilePath);
+        try (JsonGenerator generator = JsonUtil.createGenerator(tempFilePath, !isCompact)) {
+            JsonSerializableAddressBook.writeModelType(addressBook, generator);
+        }
+        FileUtil.replaceWithTempFile(filePath, tempFilePath);
     }
 
 }
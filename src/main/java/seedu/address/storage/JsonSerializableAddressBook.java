@@ -1,17 +1,28 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonTree;
+import seedu.address.model.person.UniquePersonList;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -21,6 +32,8 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
 
+    private static final String PERSONS_FIELD = "persons";
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     /**
@@ -46,15 +59,132 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        List<Person> modelPersons = new ArrayList<>();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+            modelPersons.add(jsonAdaptedPerson.toModelType());
+        }
+        return toAddressBook(modelPersons);
+    }
+
+    /**
+     * Reads an address book in the JSON format of this class from {@code parser} into the model's
+     * {@code AddressBook} object, converting each person as soon as it is read. Neither the JSON text nor the list of
+     * adapted persons is held in memory, so the address book being built is the only large object.
+     * Fields other than the persons are skipped, as they are when reading this class.
+     *
+     * @throws IOException if the JSON could not be read or is not in the format of this class.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readModelType(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an address book object");
+        }
+
+        List<Person> persons = new ArrayList<>();
+        List<Long> slots = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (!fieldName.equals(PERSONS_FIELD) || value == JsonToken.VALUE_NULL) {
+                parser.skipChildren();
+                continue;
             }
-            addressBook.addPerson(person);
+            if (value != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected an array of persons");
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+                    throw new JsonParseException(parser, "Expected a person object");
+                }
+                JsonAdaptedPerson jsonAdaptedPerson = parser.readValueAs(JsonAdaptedPerson.class);
+                persons.add(jsonAdaptedPerson.toModelType());
+                slots.add(jsonAdaptedPerson.getSlot());
+            }
+        }
+        return hasValidSlots(persons, slots) ? toAddressBook(persons, slots) : toAddressBook(persons);
+    }
+
+    /**
+     * Returns true if every one of {@code persons} has an ID of its own and a valid slot in {@code slots}, and the
+     * slots increase in the order of the persons, as they do in a file saved from a snapshot of an address book.
+     */
+    private static boolean hasValidSlots(List<Person> persons, List<Long> slots) {
+        Set<Long> ids = new HashSet<>();
+        Long previousSlot = null;
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            Long slot = slots.get(i);
+            if (slot == null || !UniquePersonList.isValidSlot(person, slot)
+                    || (previousSlot != null && slot <= previousSlot)
+                    || person.getId() == Person.UNASSIGNED_ID || !ids.add(person.getId())) {
+                return false;
+            }
+            previousSlot = slot;
         }
+        return true;
+    }
+
+    /**
+     * Returns an address book of {@code persons}, each kept at its slot in {@code slots}, so that the persons are
+     * listed in the order and with the slots they were saved with.
+     *
+     * @throws IllegalValueException if two of {@code persons} are the same person.
+     */
+    private static AddressBook toAddressBook(List<Person> persons, List<Long> slots) throws IllegalValueException {
+        checkNoDuplicates(persons);
+        long[] slotArray = slots.stream().mapToLong(Long::longValue).toArray();
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(PersonTree.of(slotArray, persons.toArray(new Person[0])));
+        return addressBook;
+    }
+
+    /**
+     * Returns an address book of {@code persons} in the order they were read, which is the order they were saved in.
+     * Adding them one at a time would place each favorite above the favorites added before it, reversing their order.
+     *
+     * @throws IllegalValueException if two of {@code persons} are the same person.
+     */
+    static AddressBook toAddressBook(List<Person> persons) throws IllegalValueException {
+        checkNoDuplicates(persons);
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
         return addressBook;
     }
 
+    /**
+     * Throws an {@code IllegalValueException} if two of {@code persons} are the same person.
+     */
+    static void checkNoDuplicates(Iterable<Person> persons) throws IllegalValueException {
+        Set<Name> names = new HashSet<>();
+        for (Person person : persons) {
+            if (!names.add(person.getName())) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+            }
+        }
+    }
+
+    /**
+     * Writes {@code source} to {@code generator} in the JSON format of this class, converting each person as it is
+     * written. Only one adapted person exists at a time, so the memory used does not grow with the address book.
+     * If {@code source} is a snapshot, each person is written with its slot, so that reading the file gives back the
+     * tree of the snapshot, to which later saves can journal their changes.
+     *
+     * @throws IOException if the JSON could not be written.
+     */
+    public static void writeModelType(ReadOnlyAddressBook source, JsonGenerator generator) throws IOException {
+        List<Person> persons = source.getPersonList();
+        long[] slots = source instanceof AddressBookSnapshot
+                ? ((AddressBookSnapshot) source).getPersonTree().slots()
+                : null;
+
+        generator.writeStartObject();
+        generator.writeArrayFieldStart(PERSONS_FIELD);
+        int i = 0;
+        for (Person person : persons) {
+            generator.writeObject(new JsonAdaptedPerson(person, slots == null ? null : slots[i++]));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
 }
@@ -0,0 +1,146 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address books to an {@link AddressBookStorage} on a background thread, once no newer address book has been
+ * submitted for a quiet period, so that a burst of changes is saved once, with its last state.
+ *
+ * A failed save is kept pending and retried after a delay, unless a newer address book is submitted first, and its
+ * error is held until it is taken with {@link #takeFailure()} or a later save succeeds. Address books must be immutable
+ * snapshots, as they are read on the writer thread.
+ */
+public class WriteBehindSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+
+    private final AddressBookStorage storage;
+    private final long quietPeriodMillis;
+    private final long retryDelayMillis;
+    private final ScheduledExecutorService writer;
+
+    // The latest address book that has not been saved yet, or null if there is none
+    private ReadOnlyAddressBook pending;
+    private ScheduledFuture<?> scheduledSave;
+    private IOException failure;
+    private boolean isStopped = false;
+
+    /**
+     * Creates a saver that saves to {@code storage} once no address book has been submitted for
+     * {@code quietPeriodMillis} milliseconds, and tries a failed save again after {@code retryDelayMillis}
+     * milliseconds.
+     */
+    public WriteBehindSaver(AddressBookStorage storage, long quietPeriodMillis, long retryDelayMillis) {
+        requireNonNull(storage);
+        if (quietPeriodMillis < 0 || retryDelayMillis < 0) {
+            throw new IllegalArgumentException("Quiet period and retry delay must not be negative");
+        }
+        this.storage = storage;
+        this.quietPeriodMillis = quietPeriodMillis;
+        this.retryDelayMillis = retryDelayMillis;
+        this.writer = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "address-book-writer");
+            // A pending save is flushed explicitly on exit, so the thread must not keep the app running
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Schedules {@code addressBook} to be saved after the quiet period, in place of any address book that is still
+     * waiting to be saved.
+     */
+    public synchronized void submit(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        pending = addressBook;
+        if (scheduledSave != null) {
+            scheduledSave.cancel(false);
+        }
+        scheduledSave = writer.schedule(this::savePending, quietPeriodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the error of the latest failed save since the last call, if any, and forgets it.
+     */
+    public synchronized Optional<IOException> takeFailure() {
+        Optional<IOException> latestFailure = Optional.ofNullable(failure);
+        failure = null;
+        return latestFailure;
+    }
+
+    /**
+     * Saves the pending address book at once, if any, waiting for the save to finish, then stops the writer thread.
+     * No address book may be submitted afterwards.
+     *
+     * @throws IOException if the pending address book could not be saved.
+     */
+    public void flushAndStop() throws IOException {
+        synchronized (this) {
+            if (scheduledSave != null) {
+                scheduledSave.cancel(false);
+            }
+            failure = null;
+            isStopped = true;
+        }
+        try {
+            // Runs after any save in progress, as the writer has a single thread
+            writer.submit(this::savePending).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Saving the address book failed unexpectedly", e.getCause());
+        } finally {
+            writer.shutdown();
+        }
+        Optional<IOException> flushFailure = takeFailure();
+        if (flushFailure.isPresent()) {
+            throw flushFailure.get();
+        }
+    }
+
+    /**
+     * Saves the pending address book, if any, on the writer thread.
+     */
+    private void savePending() {
+        ReadOnlyAddressBook addressBook;
+        synchronized (this) {
+            addressBook = pending;
+            pending = null;
+        }
+        if (addressBook == null) {
+            return;
+        }
+
+        try {
+            storage.saveAddressBook(addressBook);
+            synchronized (this) {
+                failure = null;
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to save address book " + StringUtil.getDetails(e));
+            synchronized (this) {
+                failure = e;
+                // A newer pending address book replaces this one, and was scheduled to be saved when it was submitted
+                if (pending == null) {
+                    pending = addressBook;
+                    if (!isStopped) {
+                        scheduledSave = writer.schedule(this::savePending, retryDelayMillis, TimeUnit.MILLISECONDS);
+                    }
+                }
+            }
+        }
+    }
+}
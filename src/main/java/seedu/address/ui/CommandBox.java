@@ -1,34 +1,42 @@
 package seedu.address.ui;
 
+import javafx.animation.PauseTransition;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * While a command is being typed, its results are previewed once typing pauses, if the command supports previews.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
+    private static final Duration PREVIEW_DELAY = Duration.millis(150);
 
     private final CommandExecutor commandExecutor;
+    private final PauseTransition previewDelay = new PauseTransition(PREVIEW_DELAY);
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code CommandPreviewer}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CommandPreviewer commandPreviewer) {
         super(FXML);
         this.commandExecutor = commandExecutor;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        // restarts the preview delay on every change, so that only the text present when typing pauses is previewed.
+        previewDelay.setOnFinished(unused -> commandPreviewer.preview(commandTextField.getText()));
+        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> previewDelay.playFromStart());
     }
 
     /**
@@ -40,6 +48,7 @@ public class CommandBox extends UiPart<Region> {
         if (commandText.equals("")) {
             return;
         }
+        previewDelay.stop();
 
         try {
             commandExecutor.execute(commandText);
@@ -82,4 +91,17 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that can preview the results of partially typed commands.
+     */
+    @FunctionalInterface
+    public interface CommandPreviewer {
+        /**
+         * Previews the results of the command typed so far, if it supports previews.
+         *
+         * @see seedu.address.logic.Logic#previewCommand(String)
+         */
+        void preview(String commandText);
+    }
+
 }
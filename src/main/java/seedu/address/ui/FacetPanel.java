@@ -0,0 +1,92 @@
+package seedu.address.ui;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.fxml.FXML;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+import seedu.address.model.person.Person;
+import seedu.address.model.search.Facet;
+import seedu.address.model.search.FacetCounts;
+
+/**
+ * Panel showing how many of the listed persons have each faculty, module and tag, out of all persons.
+ * The panel is redrawn from the live counts whenever the list changes while it is showing.
+ */
+public class FacetPanel extends UiPart<Region> {
+
+    private static final String FXML = "FacetPanel.fxml";
+    private static final int MAX_VALUES_SHOWN = 8;
+
+    private final FacetCounts listedCounts;
+    private final FacetCounts allCounts;
+
+    @FXML
+    private Label personCount;
+
+    @FXML
+    private VBox facetList;
+
+    /**
+     * Creates a {@code FacetPanel} that shows {@code listedCounts}, the counts of {@code listedPersons}, out of
+     * {@code allCounts}.
+     */
+    public FacetPanel(ObservableList<Person> listedPersons, FacetCounts listedCounts, FacetCounts allCounts) {
+        super(FXML);
+        this.listedCounts = listedCounts;
+        this.allCounts = allCounts;
+        listedPersons.addListener((ListChangeListener<Person>) change -> {
+            if (isShowing()) {
+                refresh();
+            }
+        });
+        setShowing(false);
+    }
+
+    /**
+     * Shows or hides the panel, giving up its space in the layout while it is hidden.
+     */
+    public void setShowing(boolean isShowing) {
+        getRoot().setVisible(isShowing);
+        getRoot().setManaged(isShowing);
+        if (isShowing) {
+            refresh();
+        }
+    }
+
+    public boolean isShowing() {
+        return getRoot().isVisible();
+    }
+
+    private void refresh() {
+        personCount.setText(listedCounts.getPersonCount() + " of " + allCounts.getPersonCount() + " persons listed");
+        facetList.getChildren().clear();
+        for (Facet facet : Facet.values()) {
+            Label label = new Label(facet.getDisplayName() + ": " + describeValues(facet));
+            label.setWrapText(true);
+            facetList.getChildren().add(label);
+        }
+    }
+
+    /**
+     * Returns the most common values of {@code facet} among the listed persons with their counts.
+     */
+    private String describeValues(Facet facet) {
+        List<Map.Entry<String, Integer>> counts = listedCounts.getCounts(facet);
+        if (counts.isEmpty()) {
+            return "none";
+        }
+        String shown = counts.stream()
+                .limit(MAX_VALUES_SHOWN)
+                .map(entry -> entry.getKey() + " " + entry.getValue() + "/" + allCounts.getCount(facet, entry.getKey()))
+                .collect(Collectors.joining(", "));
+        return counts.size() > MAX_VALUES_SHOWN
+                ? shown + " and " + (counts.size() - MAX_VALUES_SHOWN) + " more"
+                : shown;
+    }
+}
@@ -4,6 +4,7 @@ import java.util.logging.Logger;
 
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
+import javafx.scene.control.CheckMenuItem;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextInputControl;
 import javafx.scene.input.KeyCombination;
@@ -32,6 +33,7 @@ public class MainWindow extends UiPart<Stage> {
 
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
+    private FacetPanel facetPanel;
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
 
@@ -41,9 +43,15 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     private MenuItem helpMenuItem;
 
+    @FXML
+    private CheckMenuItem facetsMenuItem;
+
     @FXML
     private StackPane personListPanelPlaceholder;
 
+    @FXML
+    private StackPane facetPanelPlaceholder;
+
     @FXML
     private StackPane resultDisplayPlaceholder;
 
@@ -113,13 +121,19 @@ public class MainWindow extends UiPart<Stage> {
         personListPanel = new PersonListPanel(logic.getFilteredPersonList());
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
+        facetPanel = new FacetPanel(logic.getFilteredPersonList(), logic.getFilteredFacetCounts(),
+                logic.getFacetCounts());
+        facetPanelPlaceholder.getChildren().add(facetPanel.getRoot());
+        facetPanelPlaceholder.managedProperty().bind(facetPanel.getRoot().managedProperty());
+        facetPanelPlaceholder.visibleProperty().bind(facetPanel.getRoot().visibleProperty());
+
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::previewCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -147,6 +161,14 @@ public class MainWindow extends UiPart<Stage> {
         }
     }
 
+    /**
+     * Shows or hides the facet panel, as toggled in the View menu.
+     */
+    @FXML
+    public void handleFacets() {
+        facetPanel.setShowing(facetsMenuItem.isSelected());
+    }
+
     void show() {
         primaryStage.show();
     }
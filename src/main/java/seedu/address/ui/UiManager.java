@@ -50,6 +50,11 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showWarning(String message) {
+        showAlertDialogAndWait(AlertType.WARNING, "Warning", null, message);
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -0,0 +1,87 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class BkTreeTest {
+
+    private final BkTree<String> tree = new BkTree<>();
+
+    @Test
+    public void search_negativeDistance_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> tree.search("john", -1, (key, value, distance) -> {}));
+    }
+
+    @Test
+    public void put_existingKey_replacesValue() {
+        tree.put("john", "first");
+        tree.put("john", "second");
+        List<String> values = new ArrayList<>();
+        tree.search("john", 0, (key, value, distance) -> values.add(value));
+        assertEquals(List.of("second"), values);
+        assertEquals(1, tree.size());
+    }
+
+    @Test
+    public void search_emptyTree_findsNothing() {
+        assertEquals(Map.of(), search("john", 2));
+    }
+
+    @Test
+    public void search_typos_findsKeysWithinDistance() {
+        for (String key : List.of("john", "joan", "jon", "alex", "alexander", "aleks", "bob")) {
+            tree.put(key, key);
+        }
+        assertEquals(Map.of("john", 2, "jon", 1, "joan", 2), search("jonh", 2));
+        assertEquals(Map.of("alex", 2, "aleks", 0), search("aleks", 2));
+        assertEquals(Map.of("bob", 0), search("bob", 0));
+    }
+
+    @Test
+    public void search_randomKeys_agreesWithLinearScan() {
+        Random random = new Random(2103);
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            String key = randomWord(random);
+            keys.add(key);
+            tree.put(key, key);
+        }
+        for (int i = 0; i < 50; i++) {
+            String query = randomWord(random);
+            Map<String, Integer> expected = new HashMap<>();
+            for (String key : keys) {
+                int distance = StringUtil.editDistance(query, key);
+                if (distance <= 2) {
+                    expected.put(key, distance);
+                }
+            }
+            assertEquals(expected, search(query, 2), query);
+        }
+    }
+
+    private Map<String, Integer> search(String query, int maxDistance) {
+        Map<String, Integer> found = new HashMap<>();
+        tree.search(query, maxDistance, (key, value, distance) -> {
+            assertEquals(key, value);
+            found.put(key, distance);
+        });
+        return found;
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 1 + random.nextInt(6);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(4)));
+        }
+        return word.toString();
+    }
+}
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -129,4 +130,19 @@ class CsvUtilTest {
         // Check favorite parsed correctly (empty → false)
         assertFalse(alice.getFavorite().getIsFavorite());
     }
+
+    @Test
+    public void readContactsFromCsv_invalidFields_throwsWithEveryError() throws IOException {
+        Path csvFile = tempDir.resolve("invalid.csv");
+        String csvContent = String.join(System.lineSeparator(),
+                "Name,Phone Number,Email,Address,Tags,Modules,Faculties,Favorites",
+                "Alice Pauline,94351253,alice@example.com,123 Jurong West Ave 6,,,,",
+                "Bob&,94351253,bob!example.com,123 Jurong West Ave 6,friends,CS2103T,,"
+        );
+        Files.writeString(csvFile, csvContent);
+
+        String expectedMessage = "Invalid contact in row 3:\n" + Name.MESSAGE_CONSTRAINTS + "\n"
+                + Email.MESSAGE_CONSTRAINTS;
+        assertThrows(IllegalArgumentException.class, expectedMessage, () -> CsvUtil.readContactsFromCsv(csvFile));
+    }
 }
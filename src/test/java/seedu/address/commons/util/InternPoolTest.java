@@ -0,0 +1,53 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class InternPoolTest {
+
+    private final AtomicInteger creations = new AtomicInteger();
+    private final InternPool<StringBuilder> pool = new InternPool<>(key -> {
+        creations.incrementAndGet();
+        if (key.isEmpty()) {
+            throw new IllegalArgumentException("empty key");
+        }
+        return new StringBuilder(key);
+    });
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> pool.intern(null));
+    }
+
+    @Test
+    public void intern_equalKeys_returnsSameInstanceAndCreatesOnce() {
+        StringBuilder first = pool.intern("CS2103T");
+        assertSame(first, pool.intern(new String("CS2103T")));
+        assertNotSame(first, pool.intern("CS2101"));
+        assertEquals(2, creations.get());
+        assertEquals(2, pool.size());
+    }
+
+    @Test
+    public void intern_factoryThrows_nothingPooled() {
+        assertThrows(IllegalArgumentException.class, () -> pool.intern(""));
+        assertFalse(pool.contains(""));
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void contains() {
+        assertFalse(pool.contains("friends"));
+        StringBuilder value = pool.intern("friends");
+        assertTrue(pool.contains("friends"));
+        assertEquals("friends", value.toString());
+    }
+}
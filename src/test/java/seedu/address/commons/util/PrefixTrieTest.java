@@ -0,0 +1,75 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class PrefixTrieTest {
+
+    private final PrefixTrie<String> trie = new PrefixTrie<>();
+
+    @Test
+    public void put_nullKey_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> trie.put(null, "value"));
+    }
+
+    @Test
+    public void put_existingKey_replacesValue() {
+        trie.put("alice", "first");
+        trie.put("alice", "second");
+        assertEquals("second", trie.get("alice"));
+        assertEquals(1, trie.size());
+    }
+
+    @Test
+    public void get_prefixOfKey_returnsNull() {
+        trie.put("alice", "alice");
+        assertNull(trie.get("ali"));
+        assertNull(trie.get("alicia"));
+    }
+
+    @Test
+    public void forEachWithPrefix_returnsExactlyKeysWithPrefix() {
+        for (String key : new String[] {"al", "alice", "alicia", "alex", "bob", "a"}) {
+            trie.put(key, key);
+        }
+        assertEquals(Set.of("alice", "alicia"), valuesWithPrefix("ali"));
+        assertEquals(Set.of("al", "alice", "alicia", "alex"), valuesWithPrefix("al"));
+        assertEquals(Set.of("bob"), valuesWithPrefix("bob"));
+        assertEquals(Set.of(), valuesWithPrefix("bobby"));
+        assertEquals(Set.of(), valuesWithPrefix("c"));
+    }
+
+    @Test
+    public void remove_keyWithExtensions_keepsExtensions() {
+        trie.put("al", "al");
+        trie.put("alice", "alice");
+        trie.remove("al");
+        assertNull(trie.get("al"));
+        assertEquals(Set.of("alice"), valuesWithPrefix("a"));
+        assertEquals(1, trie.size());
+    }
+
+    @Test
+    public void remove_leafKey_prunesBranch() {
+        trie.put("al", "al");
+        trie.put("alice", "alice");
+        trie.remove("alice");
+        trie.remove("missing");
+        trie.remove("ali");
+        assertEquals(Set.of("al"), valuesWithPrefix("a"));
+        assertEquals(Set.of(), valuesWithPrefix("ali"));
+        assertEquals(1, trie.size());
+    }
+
+    private Set<String> valuesWithPrefix(String prefix) {
+        Set<String> values = new HashSet<>();
+        trie.forEachWithPrefix(prefix, values::add);
+        return values;
+    }
+}
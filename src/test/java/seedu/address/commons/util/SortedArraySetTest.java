@@ -0,0 +1,74 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class SortedArraySetTest {
+
+    @Test
+    public void copyOf_nullElement_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> SortedArraySet.copyOf(Arrays.asList("a", null)));
+    }
+
+    @Test
+    public void copyOf_emptyCollection_returnsSharedEmptySet() {
+        assertSame(SortedArraySet.empty(), SortedArraySet.copyOf(Collections.<String>emptyList()));
+        assertSame(SortedArraySet.empty(), SortedArraySet.copyOf(new HashSet<String>()));
+    }
+
+    @Test
+    public void copyOf_sortedArraySet_returnsSameInstance() {
+        SortedArraySet<String> set = SortedArraySet.copyOf(Arrays.asList("b", "a"));
+        assertSame(set, SortedArraySet.copyOf(set));
+    }
+
+    @Test
+    public void copyOf_duplicatesAndUnsorted_sortedDistinctElements() {
+        SortedArraySet<String> set = SortedArraySet.copyOf(Arrays.asList("c", "a", "b", "a", "c"));
+        assertEquals(3, set.size());
+        assertEquals(Arrays.asList("a", "b", "c"), new ArrayList<>(set));
+        assertTrue(set.contains("b"));
+        assertFalse(set.contains("d"));
+        assertFalse(set.contains(1));
+        assertFalse(set.contains(null));
+    }
+
+    @Test
+    public void equalsAndHashCode_matchOtherSets() {
+        Set<String> hashSet = new HashSet<>(Arrays.asList("friends", "colleagues"));
+        SortedArraySet<String> set = SortedArraySet.copyOf(hashSet);
+
+        assertEquals(hashSet, set);
+        assertEquals(set, hashSet);
+        assertEquals(hashSet.hashCode(), set.hashCode());
+        assertEquals(SortedArraySet.copyOf(Arrays.asList("colleagues", "friends")), set);
+        assertNotEquals(SortedArraySet.copyOf(Collections.singletonList("friends")), set);
+    }
+
+    @Test
+    public void mutators_throwUnsupportedOperationException() {
+        SortedArraySet<String> set = SortedArraySet.copyOf(Arrays.asList("a", "b"));
+        List<String> others = Collections.singletonList("c");
+        assertThrows(UnsupportedOperationException.class, () -> set.add("c"));
+        assertThrows(UnsupportedOperationException.class, () -> set.remove("z"));
+        assertThrows(UnsupportedOperationException.class, () -> set.addAll(others));
+        assertThrows(UnsupportedOperationException.class, () -> set.removeAll(others));
+        assertThrows(UnsupportedOperationException.class, () -> set.retainAll(others));
+        assertThrows(UnsupportedOperationException.class, () -> set.removeIf(s -> true));
+        assertThrows(UnsupportedOperationException.class, set::clear);
+        assertThrows(UnsupportedOperationException.class, () -> set.iterator().remove());
+    }
+}
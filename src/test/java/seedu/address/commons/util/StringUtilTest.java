@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -140,4 +141,32 @@ public class StringUtilTest {
         assertThrows(NullPointerException.class, () -> StringUtil.getDetails(null));
     }
 
+    //---------------- Tests for editDistance --------------------------------------
+
+    @Test
+    public void editDistance_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance(null, "abc"));
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance("abc", null));
+    }
+
+    @Test
+    public void editDistance_validInputs_correctResult() {
+        // identical and empty strings
+        assertEquals(0, StringUtil.editDistance("", ""));
+        assertEquals(0, StringUtil.editDistance("john", "john"));
+        assertEquals(4, StringUtil.editDistance("", "john"));
+
+        // substitution, insertion and deletion
+        assertEquals(1, StringUtil.editDistance("john", "joan"));
+        assertEquals(1, StringUtil.editDistance("jon", "john"));
+        assertEquals(1, StringUtil.editDistance("john", "jon"));
+
+        // transposition counts as two edits
+        assertEquals(2, StringUtil.editDistance("jonh", "john"));
+
+        // symmetric, regardless of which string is longer
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting"));
+        assertEquals(3, StringUtil.editDistance("sitting", "kitten"));
+    }
+
 }
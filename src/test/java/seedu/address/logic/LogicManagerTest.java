@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -9,10 +11,15 @@ import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -31,6 +38,7 @@ import seedu.address.model.person.Person;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.WriteBehindSaver;
 import seedu.address.testutil.PersonBuilder;
 
 public class LogicManagerTest {
@@ -82,6 +90,88 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_onlyCommandsThatChangeAddressBook_save() throws Exception {
+        List<ReadOnlyAddressBook> saved = new ArrayList<>();
+        logic = new LogicManager(model, new StorageManager(savingTo(saved),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute("find n/amy");
+        assertEquals(0, saved.size());
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, saved.size());
+    }
+
+    @Test
+    public void execute_writeBehindSaver_savesLatestAddressBookOnFlush() throws Exception {
+        List<ReadOnlyAddressBook> saved = new ArrayList<>();
+        StorageManager storage = new StorageManager(savingTo(saved),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        // The quiet period outlasts the test, so only the flush saves
+        WriteBehindSaver saver = new WriteBehindSaver(storage, 60_000, 60_000);
+        logic = new LogicManager(model, storage, saver);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        logic.execute("delete 1");
+        assertEquals(0, saved.size());
+
+        saver.flushAndStop();
+        assertEquals(List.of(model.getAddressBookSnapshot()), saved);
+    }
+
+    @Test
+    public void execute_backgroundSaveFailed_failureShownWithNextResult() throws Exception {
+        // The second save is a retry, made only once the failure of the first is recorded
+        CountDownLatch saves = new CountDownLatch(2);
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                saves.countDown();
+                throw DUMMY_IO_EXCEPTION;
+            }
+        };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        WriteBehindSaver saver = new WriteBehindSaver(storage, 0, 0);
+        logic = new LogicManager(model, storage, saver);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        assertTrue(saves.await(10, TimeUnit.SECONDS));
+
+        assertEquals(ListCommand.MESSAGE_SUCCESS + "\n"
+                + String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()),
+                logic.execute(ListCommand.COMMAND_WORD).getFeedbackToUser());
+        assertThrows(IOException.class, saver::flushAndStop);
+    }
+
+    @Test
+    public void previewCommand_findByNamePrefix_filtersUntilTextNotPreviewable() {
+        model.addPerson(AMY);
+        model.addPerson(BOB);
+
+        assertTrue(logic.previewCommand("find n/am"));
+        assertEquals(List.of(AMY), logic.getFilteredPersonList());
+
+        assertFalse(logic.previewCommand("find n/am t/"));
+        assertEquals(List.of(AMY, BOB), logic.getFilteredPersonList());
+    }
+
+    @Test
+    public void previewCommand_previewEnds_previousFilterRestored() throws Exception {
+        model.addPerson(AMY);
+        model.addPerson(BOB);
+        logic.execute("find n/Amy");
+
+        assertTrue(logic.previewCommand("find n/bo"));
+        assertEquals(List.of(BOB), logic.getFilteredPersonList());
+
+        assertFalse(logic.previewCommand(""));
+        assertEquals(List.of(AMY), logic.getFilteredPersonList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -140,6 +230,18 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    /**
+     * Returns an address book storage that records the address books it is asked to save instead of saving them.
+     */
+    private JsonAddressBookStorage savingTo(List<ReadOnlyAddressBook> saved) {
+        return new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                saved.add(addressBook);
+            }
+        };
+    }
+
     /**
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
      *
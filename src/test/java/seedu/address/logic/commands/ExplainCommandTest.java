@@ -0,0 +1,83 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.FacultyContainsKeywordsPredicate;
+import seedu.address.model.person.ModuleContainsKeywordsPredicate;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.search.AllMatchPredicate;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ExplainCommand}.
+ */
+public class ExplainCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    private final TagContainsKeywordsPredicate friends = new TagContainsKeywordsPredicate(List.of("friends"));
+    private final ModuleContainsKeywordsPredicate module = new ModuleContainsKeywordsPredicate(List.of("CS2103T"));
+    private final FacultyContainsKeywordsPredicate engineering =
+            new FacultyContainsKeywordsPredicate(List.of("Engineering"));
+
+    @Test
+    public void equals() {
+        ExplainCommand explainFriends = new ExplainCommand(friends);
+
+        // same object -> returns true
+        assertTrue(explainFriends.equals(explainFriends));
+
+        // same values -> returns true
+        assertTrue(explainFriends.equals(new ExplainCommand(new TagContainsKeywordsPredicate(List.of("friends")))));
+
+        // different types -> returns false
+        assertFalse(explainFriends.equals(1));
+
+        // null -> returns false
+        assertFalse(explainFriends.equals(null));
+
+        // different query -> returns false
+        assertFalse(explainFriends.equals(new ExplainCommand(module)));
+    }
+
+    @Test
+    public void execute_multipleCriteria_mostSelectiveFirst() {
+        AllMatchPredicate query = new AllMatchPredicate(List.of(friends, module, engineering));
+        String expectedMessage = String.join("\n",
+                String.format(ExplainCommand.MESSAGE_PLAN_HEADER, query.describe()),
+                String.format(ExplainCommand.MESSAGE_STEP, 1, engineering.describe(), 1, 1),
+                String.format(ExplainCommand.MESSAGE_STEP, 2, friends.describe(), 3, 1),
+                String.format(ExplainCommand.MESSAGE_STEP, 3, module.describe(), 4, 1),
+                String.format(ExplainCommand.MESSAGE_MATCH_COUNT, 1));
+        assertCommandSuccess(new ExplainCommand(query), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noOneLeft_remainingStepsSkipped() {
+        ModuleContainsKeywordsPredicate gess = new ModuleContainsKeywordsPredicate(List.of("GESS2109"));
+        AllMatchPredicate query = new AllMatchPredicate(List.of(friends, gess, engineering));
+        String expectedMessage = String.join("\n",
+                String.format(ExplainCommand.MESSAGE_PLAN_HEADER, query.describe()),
+                String.format(ExplainCommand.MESSAGE_STEP, 1, gess.describe(), 1, 1),
+                String.format(ExplainCommand.MESSAGE_STEP, 2, engineering.describe(), 1, 0),
+                String.format(ExplainCommand.MESSAGE_SKIPPED_STEP, 3, friends.describe(), 3),
+                String.format(ExplainCommand.MESSAGE_MATCH_COUNT, 0));
+        assertCommandSuccess(new ExplainCommand(query), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void toStringMethod() {
+        ExplainCommand explainCommand = new ExplainCommand(friends);
+        String expected = ExplainCommand.class.getCanonicalName() + "{query=" + friends + "}";
+        assertTrue(expected.equals(explainCommand.toString()));
+    }
+}
@@ -7,6 +7,8 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.function.Predicate;
@@ -25,10 +27,14 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.favorite.Favorite;
 import seedu.address.model.person.Address;
+import seedu.address.model.person.BatchAddResult;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.model.search.FacetCounts;
+import seedu.address.model.search.IndexedPredicate;
+import seedu.address.model.search.QueryPlan;
 
 class ExportCommandTest {
 
@@ -88,6 +94,16 @@ class ExportCommandTest {
             return addressBook;
         }
 
+        @Override
+        public ReadOnlyAddressBook getAddressBookSnapshot() {
+            return addressBook.snapshot();
+        }
+
+        @Override
+        public long getAddressBookVersion() {
+            return addressBook.getVersion();
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             return addressBook.hasPerson(person);
@@ -103,11 +119,41 @@ class ExportCommandTest {
             addressBook.addPerson(person);
         }
 
+        @Override
+        public BatchAddResult addPersons(Collection<Person> persons) {
+            return addressBook.addPersons(persons);
+        }
+
         @Override
         public void setPerson(Person target, Person editedPerson) {
 
         }
 
+        @Override
+        public boolean canUndoAddressBook() {
+            return false;
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            return false;
+        }
+
+        @Override
+        public void undoAddressBook() {
+
+        }
+
+        @Override
+        public void redoAddressBook() {
+
+        }
+
+        @Override
+        public void commitAddressBook() {
+
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             return null;
@@ -118,6 +164,31 @@ class ExportCommandTest {
 
         }
 
+        @Override
+        public Predicate<Person> getFilteredPersonListPredicate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void sortFilteredPersonList(Comparator<Person> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public QueryPlan explainQuery(IndexedPredicate query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public FacetCounts getFacetCounts() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public FacetCounts getFilteredFacetCounts() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         // Other Model methods are not needed for these tests
     }
 
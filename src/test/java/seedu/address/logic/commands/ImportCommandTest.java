@@ -7,6 +7,8 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -21,7 +23,11 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.person.BatchAddResult;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.FacetCounts;
+import seedu.address.model.search.IndexedPredicate;
+import seedu.address.model.search.QueryPlan;
 
 // Simple in-memory stub of Model for testing
 class ModelStub implements Model {
@@ -68,6 +74,16 @@ class ModelStub implements Model {
         return null;
     }
 
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return null;
+    }
+
+    @Override
+    public long getAddressBookVersion() {
+        return 0;
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         return persons.contains(person);
@@ -83,11 +99,51 @@ class ModelStub implements Model {
         persons.add(person);
     }
 
+    @Override
+    public BatchAddResult addPersons(Collection<Person> toAdd) {
+        List<Person> added = new ArrayList<>();
+        List<Person> skipped = new ArrayList<>();
+        for (Person person : toAdd) {
+            if (hasPerson(person)) {
+                skipped.add(person);
+            } else {
+                addPerson(person);
+                added.add(person);
+            }
+        }
+        return new BatchAddResult(added, skipped);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
 
     }
 
+    @Override
+    public boolean canUndoAddressBook() {
+        return false;
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return false;
+    }
+
+    @Override
+    public void undoAddressBook() {
+
+    }
+
+    @Override
+    public void redoAddressBook() {
+
+    }
+
+    @Override
+    public void commitAddressBook() {
+
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return null;
@@ -98,6 +154,31 @@ class ModelStub implements Model {
 
     }
 
+    @Override
+    public Predicate<Person> getFilteredPersonListPredicate() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void sortFilteredPersonList(Comparator<Person> comparator) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public QueryPlan explainQuery(IndexedPredicate query) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public FacetCounts getFacetCounts() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public FacetCounts getFilteredFacetCounts() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     // Stub out other Model methods if needed
 }
 
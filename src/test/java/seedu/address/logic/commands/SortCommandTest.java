@@ -0,0 +1,77 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.ModuleContainsKeywordsPredicate;
+import seedu.address.model.sort.SortField;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code SortCommand}.
+ */
+public class SortCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        SortCommand sortByNameCommand = new SortCommand(SortField.NAME, true);
+
+        // same object -> returns true
+        assertTrue(sortByNameCommand.equals(sortByNameCommand));
+
+        // same values -> returns true
+        assertTrue(sortByNameCommand.equals(new SortCommand(SortField.NAME, true)));
+        assertTrue(new SortCommand().equals(new SortCommand()));
+
+        // different types -> returns false
+        assertFalse(sortByNameCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(sortByNameCommand.equals(null));
+
+        // different field or direction -> returns false
+        assertFalse(sortByNameCommand.equals(new SortCommand(SortField.EMAIL, true)));
+        assertFalse(sortByNameCommand.equals(new SortCommand(SortField.NAME, false)));
+        assertFalse(sortByNameCommand.equals(new SortCommand()));
+    }
+
+    @Test
+    public void execute_sortByModulesDescending_tiesByName() {
+        String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, "modules", "descending");
+        expectedModel.sortFilteredPersonList(SortField.MODULES.comparator(false));
+        assertCommandSuccess(new SortCommand(SortField.MODULES, false), model, expectedMessage, expectedModel);
+        assertEquals(List.of(BENSON, ALICE, DANIEL, FIONA, CARL, ELLE, GEORGE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_sortThenFilter_orderKept() {
+        new SortCommand(SortField.PHONE, true).execute(model);
+        model.updateFilteredPersonList(new ModuleContainsKeywordsPredicate(List.of("CS2103T")));
+        // FIONA has the shortest phone number; DANIEL's starts with the smallest digit among the rest
+        assertEquals(List.of(FIONA, DANIEL, ALICE, BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_default_restoresAddressBookOrder() {
+        new SortCommand(SortField.NAME, false).execute(model);
+        assertCommandSuccess(new SortCommand(), model, SortCommand.MESSAGE_DEFAULT_ORDER, expectedModel);
+    }
+}
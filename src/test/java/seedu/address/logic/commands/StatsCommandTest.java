@@ -0,0 +1,74 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.ModuleContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code StatsCommand}.
+ */
+public class StatsCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_allPersonsListed_countsOfAddressBook() {
+        String expectedMessage = String.join("\n",
+                String.format(StatsCommand.MESSAGE_PERSON_COUNT, 7, 7),
+                "Faculties: Arts 1/1, Business 1/1, Engineering 1/1, Law 1/1, Medicine 1/1, Science 1/1",
+                "Modules: CS2103T 4/4, GESS2109 1/1",
+                "Tags: friends 3/3, owesMoney 1/1");
+        assertCommandSuccess(new StatsCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_filteredList_countsOfListedPersonsOutOfAll() {
+        ModuleContainsKeywordsPredicate predicate = new ModuleContainsKeywordsPredicate(List.of("GESS2109"));
+        model.updateFilteredPersonList(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+
+        String expectedMessage = String.join("\n",
+                String.format(StatsCommand.MESSAGE_PERSON_COUNT, 1, 7),
+                "Faculties: Business 1/1",
+                "Modules: CS2103T 1/4, GESS2109 1/1",
+                "Tags: friends 1/3, owesMoney 1/1");
+        assertCommandSuccess(new StatsCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_listedPersonsWithoutValues_none() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("Carl"));
+        model.updateFilteredPersonList(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+
+        String expectedMessage = String.join("\n",
+                String.format(StatsCommand.MESSAGE_PERSON_COUNT, 1, 7),
+                "Faculties: " + StatsCommand.MESSAGE_NO_VALUES,
+                "Modules: " + StatsCommand.MESSAGE_NO_VALUES,
+                "Tags: " + StatsCommand.MESSAGE_NO_VALUES);
+        assertCommandSuccess(new StatsCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_personDeleted_countsFollow() {
+        model.deletePerson(model.getFilteredPersonList().get(0));
+        expectedModel.deletePerson(expectedModel.getFilteredPersonList().get(0));
+
+        String expectedMessage = String.join("\n",
+                String.format(StatsCommand.MESSAGE_PERSON_COUNT, 6, 6),
+                "Faculties: Arts 1/1, Business 1/1, Law 1/1, Medicine 1/1, Science 1/1",
+                "Modules: CS2103T 3/3, GESS2109 1/1",
+                "Tags: friends 2/2, owesMoney 1/1");
+        assertCommandSuccess(new StatsCommand(), model, expectedMessage, expectedModel);
+    }
+}
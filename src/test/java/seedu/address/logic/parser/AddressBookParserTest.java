@@ -9,6 +9,7 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -19,12 +20,19 @@ import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExplainCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameStartsWithKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.sort.SortField;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.PersonUtil;
@@ -77,6 +85,29 @@ public class AddressBookParserTest {
         assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_explain() throws Exception {
+        ExplainCommand command = (ExplainCommand) parser.parseCommand(
+                ExplainCommand.COMMAND_WORD + " " + FindCommand.COMMAND_WORD + " n/foo bar");
+        assertEquals(new ExplainCommand(new NameContainsKeywordsPredicate(List.of("foo", "bar"))), command);
+    }
+
+    @Test
+    public void parsePreview_findByName_returnsPrefixPredicate() {
+        assertEquals(Optional.of(new NameStartsWithKeywordsPredicate(List.of("al", "be"))),
+                parser.parsePreview(FindCommand.COMMAND_WORD + " n/al be "));
+    }
+
+    @Test
+    public void parsePreview_notPreviewable_returnsEmpty() {
+        assertEquals(Optional.empty(), parser.parsePreview(""));
+        assertEquals(Optional.empty(), parser.parsePreview(FindCommand.COMMAND_WORD + " n/"));
+        assertEquals(Optional.empty(), parser.parsePreview(FindCommand.COMMAND_WORD + " n/al t/friends"));
+        assertEquals(Optional.empty(), parser.parsePreview(FindCommand.COMMAND_WORD + " n/al n/be"));
+        assertEquals(Optional.empty(), parser.parsePreview(FindCommand.COMMAND_WORD + " al"));
+        assertEquals(Optional.empty(), parser.parsePreview(ListCommand.COMMAND_WORD + " n/al"));
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
@@ -89,6 +120,31 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD + " 3") instanceof StatsCommand);
+    }
+
+    @Test
+    public void parseCommand_sort() throws Exception {
+        assertEquals(new SortCommand(SortField.EMAIL, false),
+                parser.parseCommand(SortCommand.COMMAND_WORD + " email desc"));
+        assertEquals(new SortCommand(), parser.parseCommand(SortCommand.COMMAND_WORD + " default"));
+    }
+
+    @Test
+    public void parseCommand_undo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD + " 3") instanceof UndoCommand);
+    }
+
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -0,0 +1,51 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExplainCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.person.FacultyContainsKeywordsPredicate;
+import seedu.address.model.person.ModuleContainsKeywordsPredicate;
+import seedu.address.model.search.AllMatchPredicate;
+
+public class ExplainCommandParserTest {
+
+    private final ExplainCommandParser parser = new ExplainCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExplainCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_notFind_throwsParseException() {
+        assertParseFailure(parser, " list",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExplainCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " findm/CS2103T",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExplainCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidFind_throwsFindParseException() {
+        assertParseFailure(parser, " find",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " find alice",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validFind_returnsExplainCommand() {
+        ExplainCommand expectedCommand = new ExplainCommand(new AllMatchPredicate(List.of(
+                new FacultyContainsKeywordsPredicate(List.of("computing")),
+                new ModuleContainsKeywordsPredicate(List.of("CS2103T")))));
+        assertParseSuccess(parser, " find m/CS2103T f/computing", expectedCommand);
+        assertParseSuccess(parser, " \t find \n m/CS2103T   f/computing ", expectedCommand);
+    }
+}
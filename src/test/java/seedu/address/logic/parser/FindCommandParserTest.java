@@ -3,9 +3,13 @@ package seedu.address.logic.parser;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FACULTY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FUZZY_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
@@ -21,8 +25,14 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.FacultyContainsKeywordsPredicate;
 import seedu.address.model.person.ModuleContainsKeywordsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameSimilarToKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.search.AllMatchPredicate;
+import seedu.address.model.search.AnyMatchPredicate;
+import seedu.address.model.search.NotPredicate;
+import seedu.address.model.search.SubstringField;
+import seedu.address.model.search.SubstringPredicate;
 import seedu.address.testutil.PersonBuilder;
 
 public class FindCommandParserTest {
@@ -43,6 +53,13 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " " + PREFIX_NAME + "Alice Bob", expectedFindCommandName);
         assertParseSuccess(parser, " " + PREFIX_NAME + " \n Alice \n \t Bob  \t", expectedFindCommandName);
 
+        // find by name, tolerating typos
+        FindCommand expectedFindCommandFuzzyName =
+                new FindCommand(new NameSimilarToKeywordsPredicate(Arrays.asList("Jonh", "Aleks")));
+        assertParseSuccess(parser, " " + PREFIX_FUZZY_NAME + "Jonh Aleks", expectedFindCommandFuzzyName);
+        assertParseSuccess(parser, " " + PREFIX_FUZZY_NAME + " \n Jonh \n \t Aleks  \t",
+                expectedFindCommandFuzzyName);
+
         // find by tag
         FindCommand expectedFindCommandTag =
                 new FindCommand(new TagContainsKeywordsPredicate(Arrays.asList("friend", "cca")));
@@ -66,6 +83,53 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " " + PREFIX_MODULE + " \n CS2103T \n \t CS2100  \t", expectedFindCommandModule);
     }
 
+    @Test
+    public void parse_multiplePrefixes_returnsFindCommandRequiringAll() {
+        FindCommand expectedFindCommand = new FindCommand(new AllMatchPredicate(List.of(
+                new NameContainsKeywordsPredicate(List.of("Alice")),
+                new TagContainsKeywordsPredicate(List.of("friend")),
+                new FacultyContainsKeywordsPredicate(List.of("Computing")),
+                new ModuleContainsKeywordsPredicate(List.of("CS2103T")))));
+        assertParseSuccess(parser, " " + PREFIX_MODULE + "CS2103T " + PREFIX_NAME + "Alice "
+                + PREFIX_FACULTY + "Computing " + PREFIX_TAG + "friend", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_substringPrefixes_returnsFindCommandRequiringAll() {
+        FindCommand expectedFindCommand = new FindCommand(new AllMatchPredicate(List.of(
+                new NameContainsKeywordsPredicate(List.of("Alice")),
+                new SubstringPredicate(SubstringField.PHONE, List.of("9123")),
+                new SubstringPredicate(SubstringField.EMAIL, List.of("u.nus.edu")),
+                new SubstringPredicate(SubstringField.ADDRESS, List.of("clementi", "jurong")))));
+        assertParseSuccess(parser, " " + PREFIX_ADDRESS + "clementi jurong " + PREFIX_EMAIL + "u.nus.edu "
+                + PREFIX_NAME + "Alice " + PREFIX_PHONE + "9123", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_booleanQuery_returnsFindCommandWithQueryTree() {
+        FindCommand expectedFindCommand = new FindCommand(new AllMatchPredicate(List.of(
+                new AnyMatchPredicate(List.of(
+                        new ModuleContainsKeywordsPredicate(List.of("CS2103T")),
+                        new ModuleContainsKeywordsPredicate(List.of("CS2101")))),
+                new NotPredicate(new TagContainsKeywordsPredicate(List.of("alumni"))))));
+        assertParseSuccess(parser, " (m/CS2103T OR m/CS2101) AND NOT t/alumni", expectedFindCommand);
+
+        assertParseFailure(parser, " n/Alice OR (", String.format(FindCommand.MESSAGE_INVALID_QUERY,
+                "expected a criterion such as n/KEYWORD at the end"));
+    }
+
+    @Test
+    public void parse_operatorWordsAmongKeywords_keywords() {
+        assertParseSuccess(parser, " n/Tom AND Jerry",
+                new FindCommand(new NameContainsKeywordsPredicate(List.of("Tom", "AND", "Jerry"))));
+        assertParseSuccess(parser, " n/Alice OR",
+                new FindCommand(new NameContainsKeywordsPredicate(List.of("Alice", "OR"))));
+        assertParseSuccess(parser, " (n/Tom AND Jerry) OR t/friends",
+                new FindCommand(new AnyMatchPredicate(List.of(
+                        new NameContainsKeywordsPredicate(List.of("Tom", "AND", "Jerry")),
+                        new TagContainsKeywordsPredicate(List.of("friends"))))));
+    }
+
     @Test
     public void parse_validCompoundArgs_returnsFindCommand() throws ParseException {
         // Parse a command with multiple different prefixes
@@ -116,6 +180,10 @@ public class FindCommandParserTest {
         assertParseFailure(parser, " " + PREFIX_NAME,
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
 
+        // invalid value after prefix - empty fuzzy name
+        assertParseFailure(parser, " " + PREFIX_FUZZY_NAME,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+
         // invalid value after prefix - empty tag
         assertParseFailure(parser, " " + PREFIX_TAG,
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
@@ -127,5 +195,13 @@ public class FindCommandParserTest {
         // invalid value after prefix - empty module
         assertParseFailure(parser, " " + PREFIX_MODULE,
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+
+        // invalid value after prefix - empty phone, email or address
+        assertParseFailure(parser, " " + PREFIX_PHONE,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " " + PREFIX_EMAIL,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " " + PREFIX_ADDRESS,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
     }
 }
@@ -0,0 +1,111 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.ModuleContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.search.AllMatchPredicate;
+import seedu.address.model.search.AnyMatchPredicate;
+import seedu.address.model.search.NotPredicate;
+import seedu.address.model.search.PhrasePredicate;
+import seedu.address.model.search.SearchField;
+import seedu.address.model.search.SubstringField;
+import seedu.address.model.search.SubstringPredicate;
+
+public class QueryParserTest {
+
+    private final NameContainsKeywordsPredicate alice = new NameContainsKeywordsPredicate(List.of("alice"));
+    private final NameContainsKeywordsPredicate bob = new NameContainsKeywordsPredicate(List.of("bob"));
+    private final TagContainsKeywordsPredicate friends = new TagContainsKeywordsPredicate(List.of("friends"));
+
+    @Test
+    public void isBooleanQuery() {
+        assertFalse(QueryParser.isBooleanQuery(" n/alice bob m/CS2103T"));
+        assertFalse(QueryParser.isBooleanQuery(" n/Orla"));
+        assertFalse(QueryParser.isBooleanQuery(" n/Tom AND Jerry"));
+        assertFalse(QueryParser.isBooleanQuery(" n/alice OR"));
+        assertTrue(QueryParser.isBooleanQuery(" n/alice OR n/bob"));
+        assertTrue(QueryParser.isBooleanQuery(" NOT t/friends"));
+        assertTrue(QueryParser.isBooleanQuery(" (n/alice)"));
+        assertTrue(QueryParser.isBooleanQuery(" f/\"political science\""));
+        assertTrue(QueryParser.isBooleanQuery(" n/\"alice"));
+    }
+
+    @Test
+    public void parse_requestExample_returnsTree() throws Exception {
+        assertEquals(new AllMatchPredicate(List.of(
+                        new AnyMatchPredicate(List.of(
+                                new ModuleContainsKeywordsPredicate(List.of("CS2103T")),
+                                new ModuleContainsKeywordsPredicate(List.of("CS2101")))),
+                        new NotPredicate(new TagContainsKeywordsPredicate(List.of("alumni"))))),
+                QueryParser.parse(" (m/CS2103T OR m/CS2101) AND NOT t/alumni"));
+    }
+
+    @Test
+    public void parse_precedence_notBindsTighterThanAndThanOr() throws Exception {
+        assertEquals(new AnyMatchPredicate(List.of(
+                        new NotPredicate(alice), new AllMatchPredicate(List.of(bob, friends)))),
+                QueryParser.parse(" NOT n/alice OR n/bob AND t/friends"));
+    }
+
+    @Test
+    public void parse_criteriaWithoutOperator_allMustMatch() throws Exception {
+        assertEquals(new AllMatchPredicate(List.of(alice, new AnyMatchPredicate(List.of(friends, bob)))),
+                QueryParser.parse(" n/alice (t/friends OR n/bob)"));
+    }
+
+    @Test
+    public void parse_keywordsAndPhrases_anyMustMatch() throws Exception {
+        assertEquals(new AnyMatchPredicate(List.of(
+                        new NameContainsKeywordsPredicate(List.of("alice", "carl")),
+                        new PhrasePredicate(SearchField.NAME, "bob tan"))),
+                QueryParser.parse(" n/alice \"bob tan\" carl"));
+        assertEquals(new PhrasePredicate(SearchField.FACULTY, "political science"),
+                QueryParser.parse(" f/ \"political science\""));
+    }
+
+    @Test
+    public void parse_substringCriteria_keywordsAndPhrasesAreSubstrings() throws Exception {
+        assertEquals(new AnyMatchPredicate(List.of(
+                        new SubstringPredicate(SubstringField.EMAIL, List.of("u.nus.edu")),
+                        new SubstringPredicate(SubstringField.PHONE, List.of("9123", "8123")))),
+                QueryParser.parse(" e/u.nus.edu OR p/9123 8123"));
+        assertEquals(new SubstringPredicate(SubstringField.ADDRESS, List.of("clementi", "ave 2")),
+                QueryParser.parse(" a/clementi \"ave 2\""));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertInvalidQuery(" (n/alice", "missing )");
+        assertInvalidQuery(" n/alice)", "unexpected ')'");
+        assertInvalidQuery(" n/alice OR (", "expected a criterion such as n/KEYWORD at the end");
+        assertInvalidQuery(" OR n/alice", "expected a criterion such as n/KEYWORD before 'OR'");
+        assertInvalidQuery(" ()", "expected a criterion such as n/KEYWORD before ')'");
+        assertInvalidQuery(" (alice)", "'alice' must follow a prefix such as n/");
+        assertInvalidQuery(" n/\"alice", "missing closing \"");
+        assertInvalidQuery(" n/\" \"", "empty phrase \"\"");
+        assertInvalidQuery(" n~\"alice bob\"", "phrases cannot be matched with n~");
+    }
+
+    @Test
+    public void parse_criterionWithoutKeywords_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE), ()
+            -> QueryParser.parse(" NOT n/"));
+    }
+
+    private static void assertInvalidQuery(String args, String reason) {
+        assertThrows(ParseException.class, String.format(FindCommand.MESSAGE_INVALID_QUERY, reason), ()
+            -> QueryParser.parse(args));
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.model.sort.SortField;
+
+public class SortCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE);
+
+    private SortCommandParser parser = new SortCommandParser();
+
+    @Test
+    public void parse_fieldOnly_sortsAscending() {
+        assertParseSuccess(parser, "name", new SortCommand(SortField.NAME, true));
+        assertParseSuccess(parser, "  PHONE  ", new SortCommand(SortField.PHONE, true));
+    }
+
+    @Test
+    public void parse_fieldAndDirection_returnsSortCommand() {
+        assertParseSuccess(parser, "email asc", new SortCommand(SortField.EMAIL, true));
+        assertParseSuccess(parser, "modules  DESC", new SortCommand(SortField.MODULES, false));
+    }
+
+    @Test
+    public void parse_default_restoresAddressBookOrder() {
+        assertParseSuccess(parser, " default ", new SortCommand());
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "address", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "name up", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "name asc extra", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "default desc", MESSAGE_INVALID_FORMAT);
+    }
+}
@@ -91,6 +91,22 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void snapshot_laterModification_snapshotUnchanged() {
+        addressBook.addPerson(ALICE);
+        AddressBookSnapshot snapshot = addressBook.snapshot();
+        addressBook.removePerson(ALICE);
+
+        assertEquals(List.of(ALICE), snapshot.getPersonList());
+        assertTrue(snapshot.getVersion() < addressBook.getVersion());
+    }
+
+    @Test
+    public void snapshot_modifySnapshot_throwsUnsupportedOperationException() {
+        addressBook.addPerson(ALICE);
+        assertThrows(UnsupportedOperationException.class, () -> addressBook.snapshot().getPersonList().remove(0));
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
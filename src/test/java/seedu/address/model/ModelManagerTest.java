@@ -11,12 +11,16 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.sort.SortField;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +97,29 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPersonList_indexedPredicateThenEdit_filterReflectsEdit() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(),
+                new UserPrefs());
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Alice")));
+        assertEquals(1, modelManager.getFilteredPersonList().size());
+
+        Person alice = modelManager.getFilteredPersonList().get(0);
+        modelManager.setPerson(alice, new PersonBuilder(alice).withName("Alicia Pauline").build());
+        assertEquals(0, modelManager.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void sortFilteredPersonList_nullComparator_restoresAddressBookOrder() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(),
+                new UserPrefs());
+        modelManager.sortFilteredPersonList(SortField.NAME.comparator(false));
+        assertEquals(List.of(BENSON, ALICE), modelManager.getFilteredPersonList());
+
+        modelManager.sortFilteredPersonList(null);
+        assertEquals(List.of(ALICE, BENSON), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
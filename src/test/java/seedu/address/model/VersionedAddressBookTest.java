@@ -0,0 +1,92 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class VersionedAddressBookTest {
+
+    private final VersionedAddressBook versionedAddressBook = new VersionedAddressBook(new AddressBook());
+
+    @Test
+    public void constructor_initialState_cannotUndoOrRedo() {
+        assertFalse(versionedAddressBook.canUndo());
+        assertFalse(versionedAddressBook.canRedo());
+        assertThrows(VersionedAddressBook.NoUndoableStateException.class, versionedAddressBook::undo);
+        assertThrows(VersionedAddressBook.NoRedoableStateException.class, versionedAddressBook::redo);
+    }
+
+    @Test
+    public void undo_afterCommits_restoresPreviousStates() {
+        versionedAddressBook.addPerson(ALICE);
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(BENSON);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(Collections.singletonList(ALICE), versionedAddressBook.getPersonList());
+        assertTrue(versionedAddressBook.hasPerson(ALICE));
+        assertFalse(versionedAddressBook.hasPerson(BENSON));
+
+        versionedAddressBook.undo();
+        assertEquals(Collections.emptyList(), versionedAddressBook.getPersonList());
+        assertFalse(versionedAddressBook.canUndo());
+    }
+
+    @Test
+    public void redo_afterUndo_restoresUndoneState() {
+        versionedAddressBook.addPerson(ALICE);
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+
+        versionedAddressBook.redo();
+        assertEquals(Collections.singletonList(ALICE), versionedAddressBook.getPersonList());
+        assertTrue(versionedAddressBook.hasPerson(ALICE));
+        assertFalse(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    public void commit_afterUndo_discardsUndoneStates() {
+        versionedAddressBook.addPerson(ALICE);
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+        versionedAddressBook.addPerson(BENSON);
+        versionedAddressBook.commit();
+
+        assertFalse(versionedAddressBook.canRedo());
+        versionedAddressBook.undo();
+        assertEquals(Collections.emptyList(), versionedAddressBook.getPersonList());
+    }
+
+    @Test
+    public void undo_favoriteStatusChanged_restoresOrderAndAllowsFurtherEdits() {
+        versionedAddressBook.addPerson(ALICE);
+        versionedAddressBook.addPerson(BENSON);
+        versionedAddressBook.commit();
+        Person favoriteBenson = new PersonBuilder(BENSON).withFavorite(true).build();
+        versionedAddressBook.setPerson(BENSON, favoriteBenson);
+        versionedAddressBook.commit();
+        assertEquals(Arrays.asList(favoriteBenson, ALICE), versionedAddressBook.getPersonList());
+
+        versionedAddressBook.undo();
+        assertEquals(Arrays.asList(ALICE, BENSON), versionedAddressBook.getPersonList());
+
+        // slots handed out after an undo must not collide with those of restored persons
+        versionedAddressBook.addPerson(CARL);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), versionedAddressBook.getPersonList());
+        versionedAddressBook.removePerson(BENSON);
+        assertEquals(Arrays.asList(ALICE, CARL), versionedAddressBook.getPersonList());
+    }
+}
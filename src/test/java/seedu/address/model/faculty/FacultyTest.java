@@ -1,5 +1,7 @@
 package seedu.address.model.faculty;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -17,6 +19,18 @@ public class FacultyTest {
         assertThrows(IllegalArgumentException.class, () -> new Faculty(invalidFacultyName));
     }
 
+    @Test
+    public void of_invalidFacultyName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Faculty.of(""));
+    }
+
+    @Test
+    public void of_equalNames_returnsSameInstance() {
+        Faculty first = Faculty.of("Computing");
+        assertSame(first, Faculty.of(new String("Computing")));
+        assertEquals(new Faculty("Computing"), first);
+    }
+
     @Test
     public void isValidFacultyName() {
         // null faculty name
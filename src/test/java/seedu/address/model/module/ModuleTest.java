@@ -1,5 +1,7 @@
 package seedu.address.model.module;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -17,6 +19,18 @@ public class ModuleTest {
         assertThrows(IllegalArgumentException.class, () -> new Module(invalidModuleCode));
     }
 
+    @Test
+    public void of_invalidModuleCode_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Module.of(""));
+    }
+
+    @Test
+    public void of_equalNames_returnsSameInstance() {
+        Module first = Module.of("CS2103T");
+        assertSame(first, Module.of(new String("CS2103T")));
+        assertEquals(new Module("CS2103T"), first);
+    }
+
     @Test
     public void isValidModuleName() {
         // null module name
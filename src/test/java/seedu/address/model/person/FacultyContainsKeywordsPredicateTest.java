@@ -42,6 +42,16 @@ public class FacultyContainsKeywordsPredicateTest {
         assertFalse(firstPredicate.equals(secondPredicate));
     }
 
+    @Test
+    public void equals_sameKeywordsInAnotherCaseAndOrder_equalWithSameHashCode() {
+        FacultyContainsKeywordsPredicate predicate =
+                new FacultyContainsKeywordsPredicate(List.of("Computing", "Science"));
+        FacultyContainsKeywordsPredicate foldedPredicate =
+                new FacultyContainsKeywordsPredicate(List.of("science", "COMPUTING"));
+        assertEquals(predicate, foldedPredicate);
+        assertEquals(predicate.hashCode(), foldedPredicate.hashCode());
+    }
+
     @Test
     public void test_facultyContainsKeywords_returnsTrue() {
         // One keyword
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -40,6 +41,16 @@ public class ModuleContainsKeywordsPredicateTest {
         assertFalse(firstPredicate.equals(secondPredicate));
     }
 
+    @Test
+    public void equals_sameKeywordsInAnotherCaseAndOrder_equalWithSameHashCode() {
+        ModuleContainsKeywordsPredicate predicate =
+                new ModuleContainsKeywordsPredicate(List.of("CS2103T", "CS2101"));
+        ModuleContainsKeywordsPredicate foldedPredicate =
+                new ModuleContainsKeywordsPredicate(List.of("cs2101", "cs2103t"));
+        assertEquals(predicate, foldedPredicate);
+        assertEquals(predicate.hashCode(), foldedPredicate.hashCode());
+    }
+
     @Test
     public void test_moduleContainsKeywords_returnsTrue() {
         // One keyword
@@ -39,6 +39,14 @@ public class NameContainsKeywordsPredicateTest {
         assertFalse(firstPredicate.equals(secondPredicate));
     }
 
+    @Test
+    public void equals_sameKeywordsInAnotherCaseAndOrder_equalWithSameHashCode() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("Alice", "Bob"));
+        NameContainsKeywordsPredicate foldedPredicate = new NameContainsKeywordsPredicate(List.of("bob", "ALICE"));
+        assertEquals(predicate, foldedPredicate);
+        assertEquals(predicate.hashCode(), foldedPredicate.hashCode());
+    }
+
     @Test
     public void test_nameContainsKeywords_returnsTrue() {
         // One keyword
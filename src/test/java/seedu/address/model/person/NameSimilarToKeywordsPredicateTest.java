@@ -0,0 +1,102 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameSimilarToKeywordsPredicateTest {
+
+    @Test
+    public void equals() {
+        NameSimilarToKeywordsPredicate firstPredicate = new NameSimilarToKeywordsPredicate(List.of("first"));
+        NameSimilarToKeywordsPredicate secondPredicate = new NameSimilarToKeywordsPredicate(List.of("second"));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NameSimilarToKeywordsPredicate(List.of("first"))));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void equals_sameKeywordsInAnotherCaseAndOrder_equalWithSameHashCode() {
+        NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate(List.of("Alice", "Bob"));
+        NameSimilarToKeywordsPredicate foldedPredicate = new NameSimilarToKeywordsPredicate(List.of("bob", "ALICE"));
+        assertEquals(predicate, foldedPredicate);
+        assertEquals(predicate.hashCode(), foldedPredicate.hashCode());
+    }
+
+    @Test
+    public void maxDistance_longerKeywords_moreTyposTolerated() {
+        assertEquals(0, NameSimilarToKeywordsPredicate.maxDistance("al"));
+        assertEquals(1, NameSimilarToKeywordsPredicate.maxDistance("jon"));
+        assertEquals(2, NameSimilarToKeywordsPredicate.maxDistance("jonh"));
+        assertEquals(2, NameSimilarToKeywordsPredicate.maxDistance("alexander"));
+    }
+
+    @Test
+    public void test_nameWordWithinTypos_returnsTrue() {
+        // Swapped letters, mixed case
+        NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate(List.of("JONH"));
+        assertTrue(predicate.test(new PersonBuilder().withName("John Doe").build()));
+
+        // Misspelt later word
+        predicate = new NameSimilarToKeywordsPredicate(List.of("Aleks"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Yeoh Alex").build()));
+
+        // Exact word
+        predicate = new NameSimilarToKeywordsPredicate(List.of("doe"));
+        assertTrue(predicate.test(new PersonBuilder().withName("John Doe").build()));
+    }
+
+    @Test
+    public void test_noNameWordWithinTypos_returnsFalse() {
+        // Zero keywords
+        NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate(Collections.emptyList());
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice").build()));
+
+        // Short keyword must match exactly
+        predicate = new NameSimilarToKeywordsPredicate(List.of("Jo"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Jon Doe").build()));
+
+        // Too many typos
+        predicate = new NameSimilarToKeywordsPredicate(List.of("Jack"));
+        assertFalse(predicate.test(new PersonBuilder().withName("John Doe").build()));
+    }
+
+    @Test
+    public void getRanking_closerMatchesFirst() {
+        Person exact = new PersonBuilder().withName("John Doe").build();
+        Person oneTypo = new PersonBuilder().withName("Joan Tan").build();
+        Person twoTypos = new PersonBuilder().withName("Jonas Lim").build();
+        Comparator<Person> ranking = new NameSimilarToKeywordsPredicate(List.of("John")).getRanking().get();
+
+        List<Person> persons = new ArrayList<>(List.of(twoTypos, exact, oneTypo));
+        persons.sort(ranking);
+        assertEquals(List.of(exact, oneTypo, twoTypos), persons);
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword1", "keyword2");
+        NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate(keywords);
+
+        String expected = NameSimilarToKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
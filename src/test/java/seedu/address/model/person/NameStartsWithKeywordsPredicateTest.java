@@ -0,0 +1,80 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameStartsWithKeywordsPredicateTest {
+
+    @Test
+    public void equals() {
+        NameStartsWithKeywordsPredicate firstPredicate = new NameStartsWithKeywordsPredicate(List.of("first"));
+        NameStartsWithKeywordsPredicate secondPredicate = new NameStartsWithKeywordsPredicate(List.of("second"));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NameStartsWithKeywordsPredicate(List.of("first"))));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void equals_sameKeywordsInAnotherCaseAndOrder_equalWithSameHashCode() {
+        NameStartsWithKeywordsPredicate predicate = new NameStartsWithKeywordsPredicate(List.of("Al", "Be"));
+        NameStartsWithKeywordsPredicate foldedPredicate = new NameStartsWithKeywordsPredicate(List.of("be", "AL"));
+        assertEquals(predicate, foldedPredicate);
+        assertEquals(predicate.hashCode(), foldedPredicate.hashCode());
+    }
+
+    @Test
+    public void test_nameWordStartsWithKeyword_returnsTrue() {
+        // Prefix of the first word, mixed case
+        NameStartsWithKeywordsPredicate predicate = new NameStartsWithKeywordsPredicate(List.of("aLi"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Prefix of a later word
+        predicate = new NameStartsWithKeywordsPredicate(List.of("bo"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Full word
+        predicate = new NameStartsWithKeywordsPredicate(List.of("Carol", "Bob"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+    }
+
+    @Test
+    public void test_noNameWordStartsWithKeyword_returnsFalse() {
+        // Zero keywords
+        NameStartsWithKeywordsPredicate predicate = new NameStartsWithKeywordsPredicate(Collections.emptyList());
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice").build()));
+
+        // Infix of a word
+        predicate = new NameStartsWithKeywordsPredicate(List.of("lice"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Longer than the word
+        predicate = new NameStartsWithKeywordsPredicate(List.of("Alicia"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword1", "keyword2");
+        NameStartsWithKeywordsPredicate predicate = new NameStartsWithKeywordsPredicate(keywords);
+
+        String expected = NameStartsWithKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
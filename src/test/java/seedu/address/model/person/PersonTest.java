@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -108,6 +109,18 @@ public class PersonTest {
         assertFalse(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void withId() {
+        Person aliceWithId = ALICE.withId(3);
+        assertEquals(3, aliceWithId.getId());
+        assertEquals(Person.UNASSIGNED_ID, ALICE.getId());
+        assertSame(aliceWithId, aliceWithId.withId(3));
+
+        // id does not take part in equality
+        assertEquals(ALICE, aliceWithId);
+        assertEquals(ALICE.hashCode(), aliceWithId.hashCode());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Person.class.getCanonicalName() + "{name=" + ALICE.getName()
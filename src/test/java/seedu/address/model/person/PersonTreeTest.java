@@ -0,0 +1,125 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonTreeTest {
+
+    @Test
+    public void empty_hasNoPersons() {
+        PersonTree tree = PersonTree.empty();
+        assertTrue(tree.isEmpty());
+        assertEquals(0, tree.size());
+        assertEquals(Collections.emptyList(), tree.asList());
+        assertEquals(0, tree.firstSlot());
+        assertEquals(0, tree.lastSlot());
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.get(0));
+    }
+
+    @Test
+    public void put_outOfOrder_keepsSlotOrder() {
+        PersonTree tree = PersonTree.empty().put(5, CARL).put(-1, ALICE).put(2, BENSON);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), tree.asList());
+        assertEquals(-1, tree.firstSlot());
+        assertEquals(5, tree.lastSlot());
+        assertEquals(1, tree.countBefore(2));
+        assertEquals(BENSON, tree.find(2));
+        assertNull(tree.find(3));
+    }
+
+    @Test
+    public void put_existingSlot_replacesPerson() {
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        PersonTree tree = PersonTree.empty().put(1, ALICE).put(1, editedAlice);
+        assertEquals(Collections.singletonList(editedAlice), tree.asList());
+    }
+
+    @Test
+    public void putAndRemove_doNotModifyEarlierVersions() {
+        PersonTree original = PersonTree.empty().put(1, ALICE).put(2, BENSON);
+        PersonTree added = original.put(3, CARL);
+        PersonTree removed = original.remove(1);
+
+        assertEquals(Arrays.asList(ALICE, BENSON), original.asList());
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), added.asList());
+        assertEquals(Collections.singletonList(BENSON), removed.asList());
+    }
+
+    @Test
+    public void remove_missingSlot_returnsEqualTree() {
+        PersonTree tree = PersonTree.empty().put(1, ALICE);
+        assertEquals(tree.asList(), tree.remove(2).asList());
+    }
+
+    @Test
+    public void manyUpdates_positionalAccessMatchesIteration() {
+        List<Person> persons = getTypicalPersons();
+        PersonTree tree = PersonTree.empty();
+        for (int i = 0; i < persons.size(); i++) {
+            tree = tree.put(i, persons.get(i));
+        }
+        tree = tree.remove(0).remove(3);
+        persons.remove(3);
+        persons.remove(0);
+
+        assertEquals(persons, new ArrayList<>(tree.asList()));
+        for (int i = 0; i < persons.size(); i++) {
+            assertSame(persons.get(i), tree.get(i));
+        }
+    }
+
+    @Test
+    public void forEachEntry_visitsEntriesInSlotOrder() {
+        PersonTree tree = PersonTree.of(new long[] {-2, 4, 7}, new Person[] {ALICE, BENSON, CARL});
+        List<Long> slots = new ArrayList<>();
+        List<Person> visited = new ArrayList<>();
+        tree.forEachEntry((person, slot) -> {
+            visited.add(person);
+            slots.add(slot);
+        });
+        assertEquals(Arrays.asList(-2L, 4L, 7L), slots);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), visited);
+    }
+
+    @Test
+    public void diff_laterVersion_reportsOnlyChangedEntries() {
+        List<Person> persons = getTypicalPersons();
+        PersonTree older = PersonTree.empty();
+        for (int i = 0; i < persons.size(); i++) {
+            older = older.put(i, persons.get(i));
+        }
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("99999999").build();
+        PersonTree newer = older.remove(0).put(1, editedBenson).put(persons.size(), ALICE);
+
+        List<Person> removed = new ArrayList<>();
+        List<Person> added = new ArrayList<>();
+        newer.diff(older, removed::add, added::add);
+        assertEquals(Arrays.asList(ALICE, BENSON), removed);
+        assertEquals(Arrays.asList(editedBenson, ALICE), added);
+    }
+
+    @Test
+    public void diff_sameTree_reportsNothing() {
+        PersonTree tree = PersonTree.empty().put(1, ALICE).put(2, BENSON);
+        List<Person> changes = new ArrayList<>();
+        tree.diff(tree, changes::add, changes::add);
+        tree.diff(PersonTree.empty().put(1, ALICE).put(2, BENSON), changes::add, changes::add);
+        assertEquals(Collections.emptyList(), changes);
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -38,6 +39,16 @@ public class TagContainsKeywordsPredicateTest {
         assertFalse(firstPredicate.equals(secondPredicate));
     }
 
+    @Test
+    public void equals_sameKeywordsInAnotherCaseAndOrder_equalWithSameHashCode() {
+        TagContainsKeywordsPredicate predicate =
+                new TagContainsKeywordsPredicate(List.of("friends", "colleagues"));
+        TagContainsKeywordsPredicate foldedPredicate =
+                new TagContainsKeywordsPredicate(List.of("Colleagues", "FRIENDS"));
+        assertEquals(predicate, foldedPredicate);
+        assertEquals(predicate.hashCode(), foldedPredicate.hashCode());
+    }
+
     @Test
     public void test_tagContainsKeywords_returnsTrue() {
         // One keyword
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_FACULTY_COMPUTING;
@@ -10,10 +11,12 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -64,6 +67,62 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void add_favoritePerson_placedAtTopOfList() {
+        uniquePersonList.add(ALICE);
+        Person favoriteBob = new PersonBuilder(BOB).withFavorite(true).build();
+        uniquePersonList.add(favoriteBob);
+        assertEquals(Arrays.asList(favoriteBob, ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPerson_newlyFavoritedPerson_movedToTopOfList() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person favoriteBob = new PersonBuilder(BOB).withFavorite(true).build();
+        uniquePersonList.setPerson(BOB, favoriteBob);
+        assertEquals(Arrays.asList(favoriteBob, ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPerson_newlyUnfavoritedPerson_movedToBottomOfList() {
+        Person favoriteAlice = new PersonBuilder(ALICE).withFavorite(true).build();
+        uniquePersonList.add(favoriteAlice);
+        uniquePersonList.add(BOB);
+        uniquePersonList.setPerson(favoriteAlice, ALICE);
+        assertEquals(Arrays.asList(BOB, ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_nullCollection_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.addAll(null));
+    }
+
+    @Test
+    public void addAll_duplicatePersons_skipsDuplicates() {
+        uniquePersonList.add(ALICE);
+        Person favoriteBob = new PersonBuilder(BOB).withFavorite(true).build();
+        BatchAddResult result = uniquePersonList.addAll(Arrays.asList(ALICE, favoriteBob, BOB));
+
+        assertEquals(new BatchAddResult(List.of(favoriteBob), List.of(ALICE, BOB)), result);
+        assertEquals(Arrays.asList(favoriteBob, ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_favoritesAndOthers_addedToTheirRegions() {
+        Person favoriteAlice = new PersonBuilder(ALICE).withFavorite(true).build();
+        uniquePersonList.add(favoriteAlice);
+        uniquePersonList.add(BOB);
+        Person favoriteCarl = new PersonBuilder(CARL).withFavorite(true).build();
+        Person favoriteAmy = new PersonBuilder().withName("Amy Lim").withFavorite(true).build();
+        Person dan = new PersonBuilder().withName("Dan Tan").build();
+        uniquePersonList.addAll(Arrays.asList(favoriteCarl, dan, favoriteAmy));
+
+        List<Person> expected = Arrays.asList(favoriteCarl, favoriteAmy, favoriteAlice, BOB, dan);
+        assertEquals(expected, uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(expected, uniquePersonList.snapshot());
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -112,6 +171,14 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_updatesIdentityChecks() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -137,6 +204,14 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -172,6 +247,101 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithFavorites_favoritesPlacedFirst() {
+        Person favoriteBob = new PersonBuilder(BOB).withFavorite(true).build();
+        uniquePersonList.setPersons(Arrays.asList(ALICE, favoriteBob));
+        assertEquals(Arrays.asList(favoriteBob, ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPersons_list_replacesIdentityChecks() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void setPersons_earlierTree_restoresListAndLookups() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person storedBob = uniquePersonList.asUnmodifiableObservableList().get(1);
+        PersonTree state = uniquePersonList.asTree();
+        List<Person> expected = List.copyOf(uniquePersonList.asUnmodifiableObservableList());
+
+        Person favoriteAlice = new PersonBuilder(ALICE).withFavorite(true).build();
+        uniquePersonList.setPerson(ALICE, favoriteAlice);
+        uniquePersonList.setPerson(BOB, new PersonBuilder(BOB).withName("Bob Tan").build());
+        uniquePersonList.add(CARL);
+        PersonTree laterState = uniquePersonList.asTree();
+        List<Person> expectedLater = List.copyOf(uniquePersonList.asUnmodifiableObservableList());
+
+        uniquePersonList.setPersons(state);
+        assertEquals(expected, uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(BOB));
+        assertFalse(uniquePersonList.contains(CARL));
+        assertEquals(Optional.of(BOB), uniquePersonList.get(storedBob.getId()));
+        uniquePersonList.remove(ALICE);
+
+        uniquePersonList.setPersons(laterState);
+        assertEquals(expectedLater, uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(BOB));
+        assertTrue(uniquePersonList.contains(favoriteAlice));
+        assertEquals("Bob Tan", uniquePersonList.get(storedBob.getId()).get().getName().fullName);
+    }
+
+    @Test
+    public void add_personWithoutId_assignsDistinctIds() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        long aliceId = uniquePersonList.asUnmodifiableObservableList().get(0).getId();
+        long bobId = uniquePersonList.asUnmodifiableObservableList().get(1).getId();
+        assertNotEquals(Person.UNASSIGNED_ID, aliceId);
+        assertNotEquals(aliceId, bobId);
+        assertEquals(Optional.of(ALICE), uniquePersonList.get(aliceId));
+    }
+
+    @Test
+    public void add_personWithIdInUse_assignsFreshId() {
+        uniquePersonList.add(ALICE.withId(5));
+        uniquePersonList.add(BOB.withId(5));
+        assertEquals(5, uniquePersonList.asUnmodifiableObservableList().get(0).getId());
+        assertEquals(6, uniquePersonList.asUnmodifiableObservableList().get(1).getId());
+    }
+
+    @Test
+    public void setPerson_editedPerson_keepsIdOfTarget() {
+        uniquePersonList.add(ALICE);
+        Person storedAlice = uniquePersonList.asUnmodifiableObservableList().get(0);
+        uniquePersonList.setPerson(storedAlice, BOB);
+        assertEquals(storedAlice.getId(), uniquePersonList.asUnmodifiableObservableList().get(0).getId());
+        assertEquals(Optional.of(BOB), uniquePersonList.get(storedAlice.getId()));
+
+        // moving between regions keeps the id as well
+        Person favoriteBob = new PersonBuilder(BOB).withFavorite(true).build();
+        uniquePersonList.setPerson(BOB, favoriteBob);
+        assertEquals(storedAlice.getId(), uniquePersonList.asUnmodifiableObservableList().get(0).getId());
+    }
+
+    @Test
+    public void remove_existingPerson_releasesId() {
+        uniquePersonList.add(ALICE);
+        long id = uniquePersonList.asUnmodifiableObservableList().get(0).getId();
+        uniquePersonList.remove(ALICE);
+        assertEquals(Optional.empty(), uniquePersonList.get(id));
+    }
+
+    @Test
+    public void setPersons_list_keepsDistinctIds() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE.withId(7), BOB.withId(7)));
+        assertEquals(7, uniquePersonList.asUnmodifiableObservableList().get(0).getId());
+        assertEquals(8, uniquePersonList.asUnmodifiableObservableList().get(1).getId());
+
+        uniquePersonList.add(CARL);
+        assertEquals(9, uniquePersonList.asUnmodifiableObservableList().get(2).getId());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,107 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.FacultyContainsKeywordsPredicate;
+import seedu.address.model.person.ModuleContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameSimilarToKeywordsPredicate;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.testutil.PersonBuilder;
+
+public class AllMatchPredicateTest {
+
+    private final NameContainsKeywordsPredicate namePredicate = new NameContainsKeywordsPredicate(List.of("Alice"));
+    private final FacultyContainsKeywordsPredicate facultyPredicate =
+            new FacultyContainsKeywordsPredicate(List.of("Computing"));
+
+    @Test
+    public void constructor_noCriteria_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AllMatchPredicate(List.of()));
+    }
+
+    @Test
+    public void equals() {
+        AllMatchPredicate predicate = new AllMatchPredicate(List.of(namePredicate, facultyPredicate));
+
+        // same values -> returns true
+        assertTrue(predicate.equals(new AllMatchPredicate(List.of(namePredicate, facultyPredicate))));
+
+        // same object -> returns true
+        assertTrue(predicate.equals(predicate));
+
+        // null -> returns false
+        assertFalse(predicate.equals(null));
+
+        // different criteria -> returns false
+        assertFalse(predicate.equals(new AllMatchPredicate(List.of(namePredicate))));
+    }
+
+    @Test
+    public void test_allCriteriaMatch_returnsTrue() {
+        AllMatchPredicate predicate = new AllMatchPredicate(List.of(namePredicate, facultyPredicate));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Tan").withFaculties("Computing").build()));
+    }
+
+    @Test
+    public void test_someCriteriaDoNotMatch_returnsFalse() {
+        AllMatchPredicate predicate = new AllMatchPredicate(List.of(namePredicate, facultyPredicate));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Tan").withFaculties("Law").build()));
+        assertFalse(predicate.test(new PersonBuilder().withName("Bob Tan").withFaculties("Computing").build()));
+    }
+
+    @Test
+    public void plan_criteria_fewestEstimatedMatchesFirst() {
+        PersonIndex index = typicalIndex();
+        TagContainsKeywordsPredicate friends = new TagContainsKeywordsPredicate(List.of("friends"));
+        ModuleContainsKeywordsPredicate module = new ModuleContainsKeywordsPredicate(List.of("CS2103T"));
+        FacultyContainsKeywordsPredicate engineering = new FacultyContainsKeywordsPredicate(List.of("Engineering"));
+        NameSimilarToKeywordsPredicate fuzzyName = new NameSimilarToKeywordsPredicate(List.of("Alise"));
+
+        AllMatchPredicate predicate = new AllMatchPredicate(List.of(fuzzyName, module, friends, engineering));
+        assertEquals(List.of(engineering, friends, module, fuzzyName), predicate.plan(index));
+        assertEquals(1, predicate.estimateMatches(index));
+    }
+
+    @Test
+    public void plan_sameEstimates_givenOrderKept() {
+        PersonIndex index = typicalIndex();
+        ModuleContainsKeywordsPredicate module = new ModuleContainsKeywordsPredicate(List.of("GESS2109"));
+        FacultyContainsKeywordsPredicate law = new FacultyContainsKeywordsPredicate(List.of("Law"));
+
+        assertEquals(List.of(module, law), new AllMatchPredicate(List.of(module, law)).plan(index));
+        assertEquals(List.of(law, module), new AllMatchPredicate(List.of(law, module)).plan(index));
+    }
+
+    @Test
+    public void evaluate_anyOrder_sameMatches() {
+        PersonIndex index = typicalIndex();
+        TagContainsKeywordsPredicate friends = new TagContainsKeywordsPredicate(List.of("friends"));
+        ModuleContainsKeywordsPredicate module = new ModuleContainsKeywordsPredicate(List.of("CS2103T"));
+
+        assertEquals(new AllMatchPredicate(List.of(friends, module)).evaluate(index),
+                new AllMatchPredicate(List.of(module, friends)).evaluate(index));
+        assertEquals(3, new AllMatchPredicate(List.of(module, friends)).evaluate(index).cardinality());
+    }
+
+    @Test
+    public void describe() {
+        AllMatchPredicate predicate = new AllMatchPredicate(List.of(namePredicate, facultyPredicate));
+        assertEquals("name contains any of [Alice] and faculty contains any of [Computing]", predicate.describe());
+    }
+
+    private static PersonIndex typicalIndex() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(getTypicalPersons());
+        return persons.getSearchIndex();
+    }
+}
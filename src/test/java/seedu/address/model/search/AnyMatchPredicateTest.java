@@ -0,0 +1,83 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.FacultyContainsKeywordsPredicate;
+import seedu.address.model.person.ModuleContainsKeywordsPredicate;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.testutil.PersonBuilder;
+
+public class AnyMatchPredicateTest {
+
+    private final ModuleContainsKeywordsPredicate modulePredicate =
+            new ModuleContainsKeywordsPredicate(List.of("GESS2109"));
+    private final FacultyContainsKeywordsPredicate facultyPredicate =
+            new FacultyContainsKeywordsPredicate(List.of("Law"));
+
+    @Test
+    public void constructor_noAlternatives_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AnyMatchPredicate(List.of()));
+    }
+
+    @Test
+    public void equals() {
+        AnyMatchPredicate predicate = new AnyMatchPredicate(List.of(modulePredicate, facultyPredicate));
+
+        // same values -> returns true
+        assertTrue(predicate.equals(new AnyMatchPredicate(List.of(modulePredicate, facultyPredicate))));
+        assertEquals(predicate.hashCode(),
+                new AnyMatchPredicate(List.of(modulePredicate, facultyPredicate)).hashCode());
+
+        // same object -> returns true
+        assertTrue(predicate.equals(predicate));
+
+        // null -> returns false
+        assertFalse(predicate.equals(null));
+
+        // all of the same criteria -> returns false
+        assertFalse(predicate.equals(new AllMatchPredicate(List.of(modulePredicate, facultyPredicate))));
+
+        // different alternatives -> returns false
+        assertFalse(predicate.equals(new AnyMatchPredicate(List.of(modulePredicate))));
+    }
+
+    @Test
+    public void test() {
+        AnyMatchPredicate predicate = new AnyMatchPredicate(List.of(modulePredicate, facultyPredicate));
+        assertTrue(predicate.test(new PersonBuilder().withModules("GESS2109").withFaculties("Computing").build()));
+        assertTrue(predicate.test(new PersonBuilder().withModules("CS2103T").withFaculties("Law").build()));
+        assertFalse(predicate.test(new PersonBuilder().withModules("CS2103T").withFaculties("Computing").build()));
+    }
+
+    @Test
+    public void evaluate_unitesMatchesOfAlternatives() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(getTypicalPersons());
+        PersonIndex index = persons.getSearchIndex();
+        AnyMatchPredicate predicate = new AnyMatchPredicate(List.of(modulePredicate, facultyPredicate));
+
+        BitSet expected = new BitSet();
+        persons.asUnmodifiableObservableList().stream()
+                .filter(person -> person.isSamePerson(BENSON) || person.isSamePerson(FIONA))
+                .forEach(person -> expected.set(index.ordinalOf(person)));
+        assertEquals(expected, predicate.evaluate(index));
+        assertEquals(2, predicate.estimateMatches(index));
+    }
+
+    @Test
+    public void describe() {
+        AnyMatchPredicate predicate = new AnyMatchPredicate(List.of(modulePredicate, facultyPredicate));
+        assertEquals("(module contains any of [GESS2109] or faculty contains any of [Law])", predicate.describe());
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.transformation.FilteredList;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.testutil.PersonBuilder;
+
+public class FacetCountsTest {
+
+    private final UniquePersonList persons = new UniquePersonList();
+
+    @Test
+    public void of_existingPersons_counted() {
+        persons.setPersons(getTypicalPersons());
+        FacetCounts counts = FacetCounts.of(persons.asUnmodifiableObservableList());
+
+        assertEquals(7, counts.getPersonCount());
+        assertEquals(4, counts.getCount(Facet.MODULE, "CS2103T"));
+        assertEquals(0, counts.getCount(Facet.MODULE, "CS2101"));
+        assertEquals(6, counts.getValueCount(Facet.FACULTY));
+        assertEquals(List.of(Map.entry("friends", 3), Map.entry("owesMoney", 1)), counts.getCounts(Facet.TAG));
+    }
+
+    @Test
+    public void onChanged_personsAddedEditedAndRemoved_countsFollow() {
+        FacetCounts counts = FacetCounts.of(persons.asUnmodifiableObservableList());
+        persons.add(ALICE);
+        persons.add(BENSON);
+        assertEquals(List.of(Map.entry("CS2103T", 2), Map.entry("GESS2109", 1)), counts.getCounts(Facet.MODULE));
+
+        Person storedAlice = persons.asUnmodifiableObservableList().get(0);
+        persons.setPerson(storedAlice, new PersonBuilder(storedAlice).withModules("CS2101").build());
+        assertEquals(List.of(Map.entry("CS2101", 1), Map.entry("CS2103T", 1), Map.entry("GESS2109", 1)),
+                counts.getCounts(Facet.MODULE));
+
+        persons.remove(persons.asUnmodifiableObservableList().get(1));
+        assertEquals(1, counts.getPersonCount());
+        assertEquals(List.of(Map.entry("CS2101", 1)), counts.getCounts(Facet.MODULE));
+        assertEquals(List.of(Map.entry("friends", 1)), counts.getCounts(Facet.TAG));
+
+        persons.setPersons(List.of());
+        assertEquals(0, counts.getPersonCount());
+        assertEquals(0, counts.getValueCount(Facet.FACULTY));
+    }
+
+    @Test
+    public void onChanged_filterChanged_countsOfFilteredPersons() {
+        persons.setPersons(getTypicalPersons());
+        FilteredList<Person> filtered = new FilteredList<>(persons.asUnmodifiableObservableList());
+        FacetCounts counts = FacetCounts.of(filtered);
+
+        filtered.setPredicate(new TagContainsKeywordsPredicate(List.of("friends")));
+        assertEquals(3, counts.getPersonCount());
+        assertEquals(3, counts.getCount(Facet.MODULE, "CS2103T"));
+        assertEquals(List.of(Map.entry("Arts", 1), Map.entry("Business", 1), Map.entry("Engineering", 1)),
+                counts.getCounts(Facet.FACULTY));
+
+        filtered.setPredicate(null);
+        assertEquals(7, counts.getPersonCount());
+        assertEquals(4, counts.getCount(Facet.MODULE, "CS2103T"));
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.ModuleContainsKeywordsPredicate;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.testutil.PersonBuilder;
+
+public class NotPredicateTest {
+
+    private final TagContainsKeywordsPredicate friends = new TagContainsKeywordsPredicate(List.of("friends"));
+
+    @Test
+    public void equals() {
+        NotPredicate predicate = new NotPredicate(friends);
+
+        // same values -> returns true
+        assertTrue(predicate.equals(new NotPredicate(new TagContainsKeywordsPredicate(List.of("FRIENDS")))));
+        assertEquals(predicate.hashCode(), new NotPredicate(friends).hashCode());
+
+        // same object -> returns true
+        assertTrue(predicate.equals(predicate));
+
+        // null -> returns false
+        assertFalse(predicate.equals(null));
+
+        // negated predicate itself -> returns false
+        assertFalse(predicate.equals(friends));
+
+        // different negated predicate -> returns false
+        assertFalse(predicate.equals(new NotPredicate(new TagContainsKeywordsPredicate(List.of("colleagues")))));
+    }
+
+    @Test
+    public void test() {
+        NotPredicate predicate = new NotPredicate(friends);
+        assertFalse(predicate.test(new PersonBuilder().withTags("friends").build()));
+        assertTrue(predicate.test(new PersonBuilder().withTags("colleagues").build()));
+        assertTrue(predicate.test(new PersonBuilder().withTags().build()));
+    }
+
+    @Test
+    public void evaluate_allPersonsExceptMatchesOfNegated() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(getTypicalPersons());
+        PersonIndex index = persons.getSearchIndex();
+
+        BitSet expected = new BitSet();
+        persons.asUnmodifiableObservableList().stream()
+                .filter(person -> !friends.test(person))
+                .forEach(person -> expected.set(index.ordinalOf(person)));
+        assertEquals(expected, new NotPredicate(friends).evaluate(index));
+        assertEquals(4, expected.cardinality());
+    }
+
+    @Test
+    public void evaluate_withinAllMatch_subtractedFromOtherCriteria() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(getTypicalPersons());
+        PersonIndex index = persons.getSearchIndex();
+        ModuleContainsKeywordsPredicate module = new ModuleContainsKeywordsPredicate(List.of("CS2103T"));
+
+        // only FIONA takes CS2103T without being tagged a friend
+        AllMatchPredicate predicate = new AllMatchPredicate(List.of(new NotPredicate(friends), module));
+        assertEquals(1, predicate.evaluate(index).cardinality());
+        assertEquals(predicate.evaluate(index), new AllMatchPredicate(List.of(module, new NotPredicate(friends)))
+                .evaluate(index));
+    }
+
+    @Test
+    public void describe() {
+        assertEquals("not tag is any of [friends]", new NotPredicate(friends).describe());
+    }
+}
@@ -0,0 +1,353 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.FacultyContainsKeywordsPredicate;
+import seedu.address.model.person.ModuleContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameSimilarToKeywordsPredicate;
+import seedu.address.model.person.NameStartsWithKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonTree;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonIndexTest {
+
+    private final UniquePersonList persons = new UniquePersonList();
+    private final PersonIndex index = persons.getSearchIndex();
+
+    @Test
+    public void normalize_equalIgnoringCase_sameTerm() {
+        assertEquals(SearchField.normalize("alice"), SearchField.normalize("ALICE"));
+        assertEquals(SearchField.normalize("cs2103t"), SearchField.normalize("CS2103T"));
+        assertFalse(SearchField.normalize("alice").equals(SearchField.normalize("alicia")));
+    }
+
+    @Test
+    public void termsOf_eachField_returnsNormalizedTerms() {
+        Person person = new PersonBuilder().withName("Alice Pauline").withTags("BestFriend")
+                .withModules("CS2103T").withFaculties("Computing Science").build();
+        assertArrayEquals(new String[] {"alice", "pauline"}, SearchField.NAME.termsOf(person));
+        assertArrayEquals(new String[] {"bestfriend"}, SearchField.TAG.termsOf(person));
+        assertArrayEquals(new String[] {"cs2103t"}, SearchField.MODULE.termsOf(person));
+        assertArrayEquals(new String[] {"computing", "science"}, SearchField.FACULTY.termsOf(person));
+    }
+
+    @Test
+    public void findAny_agreesWithPredicates() {
+        persons.setPersons(getTypicalPersons());
+        List<IndexedPredicate> queries = List.of(
+                new NameContainsKeywordsPredicate(List.of("meier", "KURZ")),
+                new NameContainsKeywordsPredicate(List.of("Ali")),
+                new NameStartsWithKeywordsPredicate(List.of("Ali", "me", "KU")),
+                new NameStartsWithKeywordsPredicate(List.of("Alicia", "z")),
+                new NameSimilarToKeywordsPredicate(List.of("Alise", "meir", "Kurtz")),
+                new NameSimilarToKeywordsPredicate(List.of("bensin", "xy")),
+                new TagContainsKeywordsPredicate(List.of("Friends")),
+                new ModuleContainsKeywordsPredicate(List.of("cs2103t", "GESS2109")),
+                new ModuleContainsKeywordsPredicate(List.of()),
+                new FacultyContainsKeywordsPredicate(List.of("law", "Science")),
+                new AllMatchPredicate(List.of(new TagContainsKeywordsPredicate(List.of("friends")),
+                        new ModuleContainsKeywordsPredicate(List.of("GESS2109")))));
+        for (IndexedPredicate query : queries) {
+            assertAgrees(query);
+        }
+    }
+
+    @Test
+    public void add_person_foundByAllFields() {
+        persons.add(ALICE);
+        int ordinal = index.ordinalOf(persons.asUnmodifiableObservableList().get(0));
+
+        assertTrue(index.findAny(SearchField.NAME, List.of("pauline")).get(ordinal));
+        assertTrue(index.findAny(SearchField.TAG, List.of("FRIENDS")).get(ordinal));
+        assertTrue(index.findAny(SearchField.MODULE, List.of("cs2103t")).get(ordinal));
+        assertTrue(index.findAny(SearchField.FACULTY, List.of("engineering")).get(ordinal));
+    }
+
+    @Test
+    public void setPerson_editedTerms_indexUpdated() {
+        persons.add(ALICE);
+        Person stored = persons.asUnmodifiableObservableList().get(0);
+        Person edited = new PersonBuilder(stored).withName("Alice Tan").withTags("colleague").build();
+        persons.setPerson(stored, edited);
+
+        assertTrue(index.findAny(SearchField.NAME, List.of("pauline")).isEmpty());
+        assertTrue(index.findAny(SearchField.TAG, List.of("friends")).isEmpty());
+        assertEquals(bitsOf(index.ordinalOf(stored)), index.findAny(SearchField.NAME, List.of("tan")));
+        assertEquals(bitsOf(index.ordinalOf(stored)), index.findAny(SearchField.TAG, List.of("colleague")));
+        assertEquals(bitsOf(index.ordinalOf(stored)), index.findAny(SearchField.NAME, List.of("alice")));
+    }
+
+    @Test
+    public void remove_person_removedFromPostings() {
+        persons.add(ALICE);
+        persons.add(BENSON);
+        Person storedAlice = persons.asUnmodifiableObservableList().get(0);
+        Person storedBenson = persons.asUnmodifiableObservableList().get(1);
+        persons.remove(storedAlice);
+
+        assertTrue(index.findAny(SearchField.NAME, List.of("alice")).isEmpty());
+        assertEquals(bitsOf(index.ordinalOf(storedBenson)), index.findAny(SearchField.TAG, List.of("friends")));
+    }
+
+    @Test
+    public void setPersons_tree_indexUpdated() {
+        persons.add(ALICE);
+        PersonTree state = persons.asTree();
+        persons.add(BENSON);
+        persons.setPersons(state);
+
+        assertTrue(index.findAny(SearchField.NAME, List.of("benson")).isEmpty());
+        assertFalse(index.findAny(SearchField.NAME, List.of("alice")).isEmpty());
+    }
+
+    @Test
+    public void findAnyByPrefix_termRemoved_notFound() {
+        persons.add(ALICE);
+        Person stored = persons.asUnmodifiableObservableList().get(0);
+        assertEquals(bitsOf(index.ordinalOf(stored)), index.findAnyByPrefix(SearchField.NAME, List.of("PAU")));
+
+        persons.setPerson(stored, new PersonBuilder(stored).withName("Alice Tan").build());
+        assertTrue(index.findAnyByPrefix(SearchField.NAME, List.of("pau")).isEmpty());
+        assertEquals(bitsOf(index.ordinalOf(stored)), index.findAnyByPrefix(SearchField.NAME, List.of("ta")));
+    }
+
+    @Test
+    public void countAny_typicalPersons_sumsPostingSizes() {
+        persons.setPersons(getTypicalPersons());
+        assertEquals(4, index.countAny(SearchField.MODULE, List.of("cs2103t")));
+        assertEquals(1, index.countAny(SearchField.FACULTY, List.of("ENGINEERING")));
+        assertEquals(0, index.countAny(SearchField.FACULTY, List.of("dentistry")));
+
+        // a person with several of the keywords is counted once for each
+        assertEquals(5, index.countAny(SearchField.MODULE, List.of("cs2103t", "gess2109")));
+        assertEquals(4, index.findAny(SearchField.MODULE, List.of("cs2103t", "gess2109")).cardinality());
+    }
+
+    @Test
+    public void countAnyByPrefix_typicalPersons_sumsPostingSizes() {
+        persons.setPersons(getTypicalPersons());
+        assertEquals(3, index.countAnyByPrefix(SearchField.NAME, List.of("me")));
+        assertEquals(0, index.countAnyByPrefix(SearchField.NAME, List.of("zz")));
+    }
+
+    @Test
+    public void size_addRemoveAndReset_tracksPersons() {
+        assertEquals(0, index.size());
+        persons.add(ALICE);
+        persons.add(BENSON);
+        assertEquals(2, index.size());
+
+        persons.remove(persons.asUnmodifiableObservableList().get(0));
+        assertEquals(1, index.size());
+
+        persons.setPersons(getTypicalPersons());
+        assertEquals(getTypicalPersons().size(), index.size());
+    }
+
+    @Test
+    public void find_repeatedQuery_answeredFromCache() {
+        persons.setPersons(getTypicalPersons());
+        NameContainsKeywordsPredicate query = new NameContainsKeywordsPredicate(List.of("Meier"));
+        BitSet matches = index.find(query);
+        assertEquals(query.evaluate(index), matches);
+
+        matches.clear();
+        assertEquals(query.evaluate(index), index.find(new NameContainsKeywordsPredicate(List.of("meier"))));
+        assertEquals(1, index.getQueryCache().getHitCount());
+    }
+
+    @Test
+    public void find_afterSinglePersonEdits_cachedMatchesUpdated() {
+        persons.setPersons(getTypicalPersons());
+        NameContainsKeywordsPredicate query = new NameContainsKeywordsPredicate(List.of("Meier"));
+        index.find(query);
+
+        persons.add(new PersonBuilder().withName("Hoon Meier").withEmail("hoon@example.com").build());
+        Person benson = persons.asUnmodifiableObservableList().get(1);
+        persons.setPerson(benson, new PersonBuilder(benson).withName("Benson Tan").build());
+        persons.remove(persons.asUnmodifiableObservableList().get(3));
+
+        assertEquals(query.evaluate(index), index.find(query));
+        assertEquals(1, index.getQueryCache().getHitCount());
+    }
+
+    @Test
+    public void find_afterBulkReplace_cacheCleared() {
+        persons.setPersons(getTypicalPersons());
+        NameContainsKeywordsPredicate query = new NameContainsKeywordsPredicate(List.of("Meier"));
+        index.find(query);
+
+        persons.setPersons(List.of(ALICE));
+        assertTrue(index.find(query).isEmpty());
+        assertEquals(0, index.getQueryCache().getHitCount());
+    }
+
+    @Test
+    public void findSimilar_typos_returnsClosestDistances() {
+        persons.add(new PersonBuilder().withName("John Joan").build());
+        persons.add(new PersonBuilder().withName("Jon Tan").build());
+        int johnJoan = index.ordinalOf(persons.asUnmodifiableObservableList().get(0));
+        int jonTan = index.ordinalOf(persons.asUnmodifiableObservableList().get(1));
+
+        assertEquals(Map.of(johnJoan, 2, jonTan, 1), index.findSimilar(SearchField.NAME, "JONH", 2));
+        assertEquals(Map.of(jonTan, 1), index.findSimilar(SearchField.NAME, "jonh", 1));
+    }
+
+    @Test
+    public void findSimilar_manyTermsRemoved_unusedTermsNotFound() {
+        for (int i = 0; i < 40; i++) {
+            persons.add(new PersonBuilder().withName("Person " + (char) ('a' + i % 26) + i).build());
+        }
+        for (Person person : List.copyOf(persons.asUnmodifiableObservableList())) {
+            persons.remove(person);
+        }
+        persons.add(new PersonBuilder().withName("Person b1").build());
+        int ordinal = index.ordinalOf(persons.asUnmodifiableObservableList().get(0));
+
+        assertEquals(Map.of(ordinal, 1), index.findSimilar(SearchField.NAME, "b2", 1));
+    }
+
+    @Test
+    public void filter_indexModified_reevaluated() {
+        persons.add(ALICE);
+        Predicate<Person> filter = index.filter(new NameContainsKeywordsPredicate(List.of("Benson")));
+        assertFalse(filter.test(persons.asUnmodifiableObservableList().get(0)));
+
+        persons.add(BENSON);
+        assertTrue(filter.test(persons.asUnmodifiableObservableList().get(1)));
+    }
+
+    @Test
+    public void filter_personNotInIndex_returnsFalse() {
+        persons.add(BENSON);
+        Person storedBenson = persons.asUnmodifiableObservableList().get(0);
+        Predicate<Person> filter = index.filter(new NameContainsKeywordsPredicate(List.of("Benson")));
+        persons.remove(storedBenson);
+
+        assertEquals(-1, index.ordinalOf(storedBenson));
+        assertFalse(filter.test(storedBenson));
+    }
+
+    @Test
+    public void findAll_personsAddedAndRemoved_ordinalsOfCurrentPersons() {
+        persons.add(ALICE);
+        persons.add(BENSON);
+        Person storedAlice = persons.asUnmodifiableObservableList().get(0);
+        Person storedBenson = persons.asUnmodifiableObservableList().get(1);
+        persons.remove(storedAlice);
+
+        assertEquals(bitsOf(index.ordinalOf(storedBenson)), index.findAll());
+        index.findAll().clear();
+        assertEquals(bitsOf(index.ordinalOf(storedBenson)), index.findAll());
+    }
+
+    @Test
+    public void add_idsBeyondIntRange_ordinalsStayDense() {
+        persons.add(new PersonBuilder(ALICE).build().withId(Integer.MAX_VALUE + 1L));
+        persons.add(new PersonBuilder(BENSON).build().withId(Long.MAX_VALUE / 2));
+        Person storedAlice = persons.asUnmodifiableObservableList().get(0);
+
+        assertEquals(bitsOf(0, 1), index.findAll());
+        assertEquals(bitsOf(index.ordinalOf(storedAlice)), index.findAny(SearchField.NAME, List.of("alice")));
+
+        // the freed ordinal is taken by the next person added
+        persons.remove(storedAlice);
+        persons.add(CARL);
+        assertEquals(bitsOf(0, 1), index.findAll());
+    }
+
+    @Test
+    public void retainMatching_candidates_nonMatchingCleared() {
+        persons.setPersons(getTypicalPersons());
+        BitSet candidates = index.findAll();
+        index.retainMatching(candidates, person -> person.getName().fullName.startsWith("Benson"));
+        assertEquals(1, candidates.cardinality());
+        assertEquals("Benson Meier",
+                persons.asUnmodifiableObservableList().stream()
+                        .filter(person -> index.ordinalOf(person) == candidates.nextSetBit(0))
+                        .findFirst().get().getName().fullName);
+    }
+
+    @Test
+    public void evaluate_booleanQueries_agreeWithTest() {
+        persons.setPersons(getTypicalPersons());
+        TagContainsKeywordsPredicate friends = new TagContainsKeywordsPredicate(List.of("friends"));
+        ModuleContainsKeywordsPredicate module = new ModuleContainsKeywordsPredicate(List.of("GESS2109"));
+        NameContainsKeywordsPredicate meier = new NameContainsKeywordsPredicate(List.of("Meier"));
+        assertAgrees(new AnyMatchPredicate(List.of(friends, module)));
+        assertAgrees(new NotPredicate(friends));
+        assertAgrees(new AllMatchPredicate(List.of(new NotPredicate(module), meier)));
+        assertAgrees(new AllMatchPredicate(List.of(new NotPredicate(friends), new NotPredicate(meier))));
+        assertAgrees(new PhrasePredicate(SearchField.NAME, "benson meier"));
+        assertAgrees(new PhrasePredicate(SearchField.NAME, "meier benson"));
+    }
+
+    @Test
+    public void findContaining_substrings_matchesOfAnyLength() {
+        persons.setPersons(getTypicalPersons());
+        assertAgrees(new SubstringPredicate(SubstringField.PHONE, List.of("9482")));
+        assertAgrees(new SubstringPredicate(SubstringField.PHONE, List.of("53")));
+        assertAgrees(new SubstringPredicate(SubstringField.EMAIL, List.of("EXAMPLE.com")));
+        assertAgrees(new SubstringPredicate(SubstringField.ADDRESS, List.of("street", "ave 2")));
+        assertAgrees(new SubstringPredicate(SubstringField.ADDRESS, List.of("streets")));
+        assertEquals(3, index.findContaining(SubstringField.PHONE, "9482").cardinality());
+        assertEquals(7, index.findContaining(SubstringField.EMAIL, "@").cardinality());
+    }
+
+    @Test
+    public void findContaining_personEditedAndRemoved_trigramsUpdated() {
+        persons.add(ALICE);
+        Person stored = persons.asUnmodifiableObservableList().get(0);
+        persons.setPerson(stored, new PersonBuilder(stored).withEmail("alice@u.nus.edu").build());
+
+        assertTrue(index.findContaining(SubstringField.EMAIL, "example").isEmpty());
+        assertEquals(bitsOf(index.ordinalOf(stored)), index.findContaining(SubstringField.EMAIL, "u.nus.edu"));
+
+        persons.remove(persons.asUnmodifiableObservableList().get(0));
+        assertTrue(index.findContaining(SubstringField.EMAIL, "u.nus.edu").isEmpty());
+    }
+
+    @Test
+    public void countContaining_upperBoundOfMatches() {
+        persons.setPersons(getTypicalPersons());
+        assertEquals(3, index.countContaining(SubstringField.PHONE, "9482"));
+        assertEquals(7, index.countContaining(SubstringField.PHONE, "94"));
+        assertEquals(0, index.countContaining(SubstringField.ADDRESS, "tampines"));
+    }
+
+    private void assertAgrees(IndexedPredicate query) {
+        BitSet expected = new BitSet();
+        for (Person person : persons) {
+            if (query.test(person)) {
+                expected.set(index.ordinalOf(person));
+            }
+        }
+        assertEquals(expected, query.evaluate(index), query.toString());
+    }
+
+    private static BitSet bitsOf(int... ordinals) {
+        BitSet bits = new BitSet();
+        for (int ordinal : ordinals) {
+            bits.set(ordinal);
+        }
+        return bits;
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.testutil.PersonBuilder;
+
+public class PhrasePredicateTest {
+
+    @Test
+    public void constructor_noWords_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PhrasePredicate(SearchField.NAME, "  "));
+    }
+
+    @Test
+    public void equals() {
+        PhrasePredicate predicate = new PhrasePredicate(SearchField.NAME, "alice tan");
+
+        // same words ignoring case and spacing -> returns true
+        assertTrue(predicate.equals(new PhrasePredicate(SearchField.NAME, " Alice  TAN")));
+        assertEquals(predicate.hashCode(), new PhrasePredicate(SearchField.NAME, " Alice  TAN").hashCode());
+
+        // same object -> returns true
+        assertTrue(predicate.equals(predicate));
+
+        // null -> returns false
+        assertFalse(predicate.equals(null));
+
+        // different field -> returns false
+        assertFalse(predicate.equals(new PhrasePredicate(SearchField.FACULTY, "alice tan")));
+
+        // different word order -> returns false
+        assertFalse(predicate.equals(new PhrasePredicate(SearchField.NAME, "tan alice")));
+    }
+
+    @Test
+    public void test_wordsConsecutiveInOrder_returnsTrue() {
+        PhrasePredicate predicate = new PhrasePredicate(SearchField.NAME, "Alice Tan");
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Tan").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Mary alice TAN").build()));
+        assertTrue(new PhrasePredicate(SearchField.FACULTY, "political science")
+                .test(new PersonBuilder().withFaculties("Law", "Political Science").build()));
+    }
+
+    @Test
+    public void test_wordsApartOrOutOfOrder_returnsFalse() {
+        PhrasePredicate predicate = new PhrasePredicate(SearchField.NAME, "Alice Tan");
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Mary Tan").build()));
+        assertFalse(predicate.test(new PersonBuilder().withName("Tan Alice").build()));
+
+        // words must be consecutive within a single faculty
+        assertFalse(new PhrasePredicate(SearchField.FACULTY, "law political")
+                .test(new PersonBuilder().withFaculties("Law", "Political Science").build()));
+    }
+
+    @Test
+    public void evaluate_candidatesWithAllWords_onlyPhraseMatchesKept() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.add(new PersonBuilder().withName("Alice Tan").withEmail("a@example.com").build());
+        persons.add(new PersonBuilder().withName("Tan Alice").withEmail("b@example.com").build());
+        persons.add(new PersonBuilder().withName("Alice Lim").withEmail("c@example.com").build());
+        Person aliceTan = persons.asUnmodifiableObservableList().get(0);
+
+        BitSet expected = new BitSet();
+        expected.set(persons.getSearchIndex().ordinalOf(aliceTan));
+        PhrasePredicate predicate = new PhrasePredicate(SearchField.NAME, "alice tan");
+        assertEquals(expected, predicate.evaluate(persons.getSearchIndex()));
+        assertEquals(2, predicate.estimateMatches(persons.getSearchIndex()));
+    }
+
+    @Test
+    public void evaluate_wholeValueField_matchesWholeTag() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.add(new PersonBuilder().withTags("friends").build());
+        assertEquals(1, new PhrasePredicate(SearchField.TAG, "FRIENDS").evaluate(persons.getSearchIndex())
+                .cardinality());
+        assertTrue(new PhrasePredicate(SearchField.TAG, "friend").evaluate(persons.getSearchIndex()).isEmpty());
+    }
+
+    @Test
+    public void describe() {
+        assertEquals("name contains \"alice tan\"", new PhrasePredicate(SearchField.NAME, "Alice  Tan").describe());
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class QueryCacheTest {
+
+    private final QueryCache cache = new QueryCache(2);
+    private final NameContainsKeywordsPredicate alice = new NameContainsKeywordsPredicate(List.of("alice"));
+    private final NameContainsKeywordsPredicate bob = new NameContainsKeywordsPredicate(List.of("bob"));
+    private final NameContainsKeywordsPredicate carl = new NameContainsKeywordsPredicate(List.of("carl"));
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new QueryCache(0));
+    }
+
+    @Test
+    public void get_equalQuery_returnsCopyOfMatches() {
+        cache.put(alice, bits(1, 3), 5);
+        BitSet cached = cache.get(new NameContainsKeywordsPredicate(List.of("ALICE")), 5).get();
+        assertEquals(bits(1, 3), cached);
+
+        cached.clear();
+        assertEquals(Optional.of(bits(1, 3)), cache.get(alice, 5));
+        assertEquals(2, cache.getHitCount());
+    }
+
+    @Test
+    public void get_otherVersion_cacheCleared() {
+        cache.put(alice, bits(1), 5);
+        assertEquals(Optional.empty(), cache.get(alice, 6));
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void put_overCapacity_leastRecentlyUsedEvicted() {
+        cache.put(alice, bits(1), 5);
+        cache.put(bob, bits(2), 5);
+        cache.get(alice, 5);
+        cache.put(carl, bits(3), 5);
+
+        assertEquals(2, cache.size());
+        assertTrue(cache.get(alice, 5).isPresent());
+        assertTrue(cache.get(carl, 5).isPresent());
+        assertTrue(cache.get(bob, 5).isEmpty());
+    }
+
+    @Test
+    public void personAdded_currentVersion_entriesUpdatedInPlace() {
+        Person newAlice = new PersonBuilder().withName("Alice Tan").build();
+        cache.put(alice, bits(1), 5);
+        cache.put(bob, bits(2), 5);
+        cache.personAdded(newAlice, 4, 5, 6);
+
+        assertEquals(Optional.of(bits(1, 4)), cache.get(alice, 6));
+        assertEquals(Optional.of(bits(2)), cache.get(bob, 6));
+    }
+
+    @Test
+    public void personRemoved_currentVersion_entriesUpdatedInPlace() {
+        cache.put(alice, bits(1, 3), 5);
+        cache.personRemoved(1, 5, 6);
+        assertEquals(Optional.of(bits(3)), cache.get(alice, 6));
+    }
+
+    @Test
+    public void personAdded_otherVersion_cacheCleared() {
+        cache.put(alice, bits(1), 5);
+        cache.personAdded(new PersonBuilder().build(), 2, 7, 8);
+        assertEquals(0, cache.size());
+    }
+
+    private static BitSet bits(int... ordinals) {
+        BitSet bits = new BitSet();
+        for (int ordinal : ordinals) {
+            bits.set(ordinal);
+        }
+        return bits;
+    }
+}
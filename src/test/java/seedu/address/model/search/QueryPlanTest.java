@@ -0,0 +1,56 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.FacultyContainsKeywordsPredicate;
+import seedu.address.model.person.ModuleContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.UniquePersonList;
+
+public class QueryPlanTest {
+
+    private final PersonIndex index = typicalIndex();
+
+    @Test
+    public void of_singleCriterion_oneStep() {
+        NameContainsKeywordsPredicate query = new NameContainsKeywordsPredicate(List.of("Meier", "Kurz"));
+        QueryPlan plan = QueryPlan.of(query, index);
+        assertEquals(List.of(new QueryPlan.Step(query.describe(), 3, 3)), plan.getSteps());
+        assertEquals(3, plan.getMatchCount());
+    }
+
+    @Test
+    public void of_allMatch_stepsInPlannedOrder() {
+        ModuleContainsKeywordsPredicate module = new ModuleContainsKeywordsPredicate(List.of("CS2103T"));
+        FacultyContainsKeywordsPredicate arts = new FacultyContainsKeywordsPredicate(List.of("Arts", "Law"));
+        QueryPlan plan = QueryPlan.of(new AllMatchPredicate(List.of(module, arts)), index);
+        assertEquals(List.of(new QueryPlan.Step(arts.describe(), 2, 2), new QueryPlan.Step(module.describe(), 4, 2)),
+                plan.getSteps());
+        assertEquals(2, plan.getMatchCount());
+    }
+
+    @Test
+    public void of_emptyIntersection_laterStepsSkipped() {
+        FacultyContainsKeywordsPredicate law = new FacultyContainsKeywordsPredicate(List.of("Law"));
+        FacultyContainsKeywordsPredicate arts = new FacultyContainsKeywordsPredicate(List.of("Arts"));
+        ModuleContainsKeywordsPredicate module = new ModuleContainsKeywordsPredicate(List.of("CS2103T"));
+        QueryPlan plan = QueryPlan.of(new AllMatchPredicate(List.of(module, law, arts)), index);
+
+        QueryPlan.Step last = plan.getSteps().get(2);
+        assertEquals(module.describe(), last.getDescription());
+        assertTrue(last.isSkipped());
+        assertEquals(0, plan.getMatchCount());
+    }
+
+    private static PersonIndex typicalIndex() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(getTypicalPersons());
+        return persons.getSearchIndex();
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class SearchKeysTest {
+
+    private final Person person = new PersonBuilder().withName("Alice  Pauline alice").withTags("BestFriend")
+            .withModules("CS2103T").withFaculties("School of Computing").build();
+
+    @Test
+    public void getSearchKeys_calledTwice_cached() {
+        assertSame(person.getSearchKeys(), person.getSearchKeys());
+        assertSame(SearchField.NAME.termsOf(person), SearchField.NAME.termsOf(person));
+    }
+
+    @Test
+    public void of_person_distinctTermsInOrder() {
+        SearchKeys keys = SearchKeys.of(person);
+        assertArrayEquals(new String[] {"alice", "pauline"}, keys.termsOf(SearchField.NAME));
+        assertArrayEquals(new String[] {"bestfriend"}, keys.termsOf(SearchField.TAG));
+        assertArrayEquals(new String[] {"school", "of", "computing"}, keys.termsOf(SearchField.FACULTY));
+    }
+
+    @Test
+    public void of_noTerms_emptyArray() {
+        Person untagged = new PersonBuilder().withTags().build();
+        assertEquals(0, SearchKeys.of(untagged).termsOf(SearchField.TAG).length);
+    }
+
+    @Test
+    public void foldKeywords_wordField_trimsAndFolds() {
+        assertEquals(Set.of("alice", "cs2103t"), SearchField.NAME.foldKeywords(List.of(" ALICE ", "Cs2103T")));
+    }
+
+    @Test
+    public void foldKeywords_wholeField_foldsWithoutTrimming() {
+        assertEquals(Set.of(" friends"), SearchField.TAG.foldKeywords(List.of(" Friends")));
+    }
+
+    @Test
+    public void matchesAny() {
+        assertTrue(SearchField.NAME.matchesAny(person, SearchField.NAME.foldKeywords(List.of("PAULINE"))));
+        assertTrue(SearchField.TAG.matchesAny(person, SearchField.TAG.foldKeywords(List.of("bestFRIEND"))));
+        assertFalse(SearchField.TAG.matchesAny(person, SearchField.TAG.foldKeywords(List.of("best"))));
+        assertFalse(SearchField.NAME.matchesAny(person, SearchField.NAME.foldKeywords(List.of("paul"))));
+        assertFalse(SearchField.NAME.matchesAny(person, Set.of()));
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class SubstringPredicateTest {
+
+    @Test
+    public void constructor_noSubstrings_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SubstringPredicate(SubstringField.EMAIL, List.of()));
+        assertThrows(IllegalArgumentException.class, () -> new SubstringPredicate(SubstringField.EMAIL,
+                List.of("")));
+    }
+
+    @Test
+    public void equals() {
+        SubstringPredicate predicate = new SubstringPredicate(SubstringField.EMAIL, List.of("u.nus.edu", "gmail"));
+
+        // same substrings ignoring case and order -> returns true
+        SubstringPredicate samePredicate = new SubstringPredicate(SubstringField.EMAIL, List.of("GMail", "U.NUS.EDU"));
+        assertTrue(predicate.equals(samePredicate));
+        assertEquals(predicate.hashCode(), samePredicate.hashCode());
+
+        // same object -> returns true
+        assertTrue(predicate.equals(predicate));
+
+        // null -> returns false
+        assertFalse(predicate.equals(null));
+
+        // different field -> returns false
+        assertFalse(predicate.equals(new SubstringPredicate(SubstringField.ADDRESS, List.of("u.nus.edu", "gmail"))));
+
+        // different substrings -> returns false
+        assertFalse(predicate.equals(new SubstringPredicate(SubstringField.EMAIL, List.of("u.nus.edu"))));
+    }
+
+    @Test
+    public void test_anySubstringContained_returnsTrue() {
+        assertTrue(new SubstringPredicate(SubstringField.PHONE, List.of("9123"))
+                .test(new PersonBuilder().withPhone("89123456").build()));
+        assertTrue(new SubstringPredicate(SubstringField.EMAIL, List.of("gmail", "U.NUS.edu"))
+                .test(new PersonBuilder().withEmail("alice@u.nus.edu").build()));
+        assertTrue(new SubstringPredicate(SubstringField.ADDRESS, List.of("ave 2"))
+                .test(new PersonBuilder().withAddress("311, Clementi Ave 2, #02-25").build()));
+    }
+
+    @Test
+    public void test_noSubstringContained_returnsFalse() {
+        assertFalse(new SubstringPredicate(SubstringField.PHONE, List.of("9123"))
+                .test(new PersonBuilder().withPhone("91293456").build()));
+
+        // substrings are not matched against other fields
+        assertFalse(new SubstringPredicate(SubstringField.ADDRESS, List.of("alice"))
+                .test(new PersonBuilder().withName("Alice").withEmail("alice@example.com").build()));
+    }
+
+    @Test
+    public void describe() {
+        assertEquals("email contains any of [u.nus.edu]",
+                new SubstringPredicate(SubstringField.EMAIL, List.of("u.nus.edu")).describe());
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.BitSet;
+
+import org.junit.jupiter.api.Test;
+
+public class TrigramIndexTest {
+
+    private final TrigramIndex index = new TrigramIndex();
+
+    @Test
+    public void findCandidates_valuesWithEveryTrigram_found() {
+        index.add(0, "alice@u.nus.edu");
+        index.add(1, "bob@nus.edu.sg");
+        index.add(2, "carl@example.com");
+
+        assertEquals(bitsOf(0, 1), index.findCandidates("nus.edu"));
+        assertEquals(bitsOf(0), index.findCandidates("u.nus"));
+        assertEquals(bitsOf(2), index.findCandidates("example"));
+    }
+
+    @Test
+    public void findCandidates_trigramsOutOfOrder_candidateButNotMatch() {
+        // "abcxbcd" has every trigram of "abcd" without containing it, so it is only a candidate
+        index.add(0, "abcxbcd");
+        assertEquals(bitsOf(0), index.findCandidates("abcd"));
+    }
+
+    @Test
+    public void findCandidates_unknownTrigram_noCandidates() {
+        index.add(0, "94351253");
+        assertTrue(index.findCandidates("9999").isEmpty());
+        assertEquals(0, index.countCandidates("9999"));
+    }
+
+    @Test
+    public void findCandidates_shortSubstring_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> index.findCandidates("94"));
+    }
+
+    @Test
+    public void findCandidates_returnedBitmapModified_indexUnchanged() {
+        index.add(0, "clementi ave");
+        index.findCandidates("clementi").clear();
+        assertEquals(bitsOf(0), index.findCandidates("clementi"));
+    }
+
+    @Test
+    public void remove_value_trigramsDropped() {
+        index.add(0, "wall street");
+        index.add(1, "10th street");
+        index.remove(0, "wall street");
+
+        assertTrue(index.findCandidates("wall").isEmpty());
+        assertEquals(bitsOf(1), index.findCandidates("street"));
+        index.remove(1, "10th street");
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    public void countCandidates_rarestTrigram() {
+        index.add(0, "abc");
+        index.add(1, "abcd");
+        index.add(2, "xbcd");
+        index.add(3, "abcx");
+        assertEquals(3, index.countCandidates("abc"));
+        assertEquals(2, index.countCandidates("abcd"));
+    }
+
+    private static BitSet bitsOf(int... ids) {
+        BitSet bits = new BitSet();
+        for (int id : ids) {
+            bits.set(id);
+        }
+        return bits;
+    }
+}
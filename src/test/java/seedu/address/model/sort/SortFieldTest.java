@@ -0,0 +1,57 @@
+package seedu.address.model.sort;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class SortFieldTest {
+
+    @Test
+    public void fromKeyword() {
+        assertEquals(Optional.of(SortField.MODULES), SortField.fromKeyword("Modules"));
+        assertEquals(Optional.empty(), SortField.fromKeyword("address"));
+    }
+
+    @Test
+    public void comparator_name_ignoresCase() {
+        Person lower = new PersonBuilder().withName("alice Tan").build();
+        Person upper = new PersonBuilder().withName("Bob Lim").build();
+        assertTrue(SortField.NAME.comparator(true).compare(lower, upper) < 0);
+        assertTrue(SortField.NAME.comparator(false).compare(lower, upper) > 0);
+    }
+
+    @Test
+    public void comparator_phone_shorterNumbersFirst() {
+        Person shortNumber = new PersonBuilder().withName("A").withPhone("999").build();
+        Person longNumber = new PersonBuilder().withName("B").withPhone("1000").build();
+        assertTrue(SortField.PHONE.comparator(true).compare(shortNumber, longNumber) < 0);
+    }
+
+    @Test
+    public void comparator_descending_tiesStillByNameAscending() {
+        Person amy = new PersonBuilder().withName("Amy").withModules("CS2103T").build();
+        Person bob = new PersonBuilder().withName("Bob").withModules("CS2101").build();
+        Person carl = new PersonBuilder().withName("Carl").withModules("CS2101", "CS2103T").build();
+        List<Person> persons = new ArrayList<>(List.of(bob, amy, carl));
+        persons.sort(SortField.MODULES.comparator(false));
+        assertEquals(List.of(carl, amy, bob), persons);
+    }
+
+    @Test
+    public void getSortKeys_cachedUntilEdit() {
+        Person person = new PersonBuilder().withEmail("amy@example.com").build();
+        assertSame(person.getSortKeys(), person.getSortKeys());
+
+        Person edited = new PersonBuilder(person).withEmail("zoe@example.com").build();
+        assertTrue(person.getSortKeys().getEmailKey().compareTo(edited.getSortKeys().getEmailKey()) < 0);
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.address.model.validation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.faculty.Faculty;
+import seedu.address.model.module.Module;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+public class FieldValidatorsTest {
+
+    /** Characters that exercise every branch of the validators, including the regex-specific edge cases. */
+    private static final String ALPHABET = "aZ09AB_.-+@ \t\n\r\u0085 é";
+    private static final int RANDOM_SAMPLES = 20000;
+    private static final int MAX_RANDOM_LENGTH = 12;
+
+    @Test
+    public void validators_null_throwNullPointerException() {
+        assertThrows(NullPointerException.class, () -> FieldValidators.isValidName(null));
+        assertThrows(NullPointerException.class, () -> FieldValidators.isValidPhone(null));
+        assertThrows(NullPointerException.class, () -> FieldValidators.isValidEmail(null));
+        assertThrows(NullPointerException.class, () -> FieldValidators.isValidAddress(null));
+        assertThrows(NullPointerException.class, () -> FieldValidators.isValidTagName(null));
+        assertThrows(NullPointerException.class, () -> FieldValidators.isValidModuleName(null));
+        assertThrows(NullPointerException.class, () -> FieldValidators.isValidFacultyName(null));
+    }
+
+    @Test
+    public void isValidEmail() {
+        assertTrue(FieldValidators.isValidEmail("PeterJack_1190@example.com"));
+        assertTrue(FieldValidators.isValidEmail("a1+be.d@example1.com"));
+        assertTrue(FieldValidators.isValidEmail("e1234567@u.nus.edu"));
+        assertTrue(FieldValidators.isValidEmail("peter_jack@very-very-very-long-example.com"));
+        assertTrue(FieldValidators.isValidEmail("test@localhost"));
+        assertTrue(FieldValidators.isValidEmail("a@ab-c"));
+
+        assertFalse(FieldValidators.isValidEmail("peterjack@example.c")); // top level domain label too short
+        assertFalse(FieldValidators.isValidEmail("a@a-b")); // no run of at least two characters in last label
+        assertFalse(FieldValidators.isValidEmail("peter..jack@example.com")); // consecutive special characters
+        assertFalse(FieldValidators.isValidEmail("-peterjack@example.com")); // leading special character
+        assertFalse(FieldValidators.isValidEmail("peterjack@example.com.")); // trailing period
+        assertFalse(FieldValidators.isValidEmail("peter@jack@example.com")); // multiple '@'
+        assertFalse(FieldValidators.isValidEmail("peterjack@example_.com")); // underscore in domain
+    }
+
+    @Test
+    public void isValidEmail_longAdversarialInput_returnsFalse() {
+        // inputs of this shape make the composed regex backtrack heavily or overflow the stack
+        String longLabel = "a".repeat(10000);
+        assertFalse(FieldValidators.isValidEmail("a@" + longLabel + "!"));
+        assertFalse(FieldValidators.isValidEmail(longLabel + "-@" + longLabel));
+    }
+
+    @Test
+    public void isValidModuleName() {
+        assertTrue(FieldValidators.isValidModuleName("CS2103T"));
+        assertTrue(FieldValidators.isValidModuleName("GESS1101"));
+        assertTrue(FieldValidators.isValidModuleName("CS2040DE"));
+
+        assertFalse(FieldValidators.isValidModuleName("C2103")); // prefix too short
+        assertFalse(FieldValidators.isValidModuleName("ABCDE2103")); // prefix too long
+        assertFalse(FieldValidators.isValidModuleName("CS210")); // too few digits
+        assertFalse(FieldValidators.isValidModuleName("CS2040DEF")); // suffix too long
+        assertFalse(FieldValidators.isValidModuleName("cs2103t")); // lowercase
+    }
+
+    @Test
+    public void validators_randomInputs_agreeWithRegex() {
+        assertAgreesWithRegex(FieldValidators::isValidName, Name.VALIDATION_REGEX);
+        assertAgreesWithRegex(FieldValidators::isValidPhone, Phone.VALIDATION_REGEX);
+        assertAgreesWithRegex(FieldValidators::isValidEmail, Email.VALIDATION_REGEX);
+        assertAgreesWithRegex(FieldValidators::isValidAddress, Address.VALIDATION_REGEX);
+        assertAgreesWithRegex(FieldValidators::isValidTagName, Tag.VALIDATION_REGEX);
+        assertAgreesWithRegex(FieldValidators::isValidModuleName, Module.VALIDATION_REGEX);
+        assertAgreesWithRegex(FieldValidators::isValidFacultyName, Faculty.VALIDATION_REGEX);
+    }
+
+    /**
+     * Asserts that {@code validator} accepts exactly the strings matched by {@code regex}, on a fixed set of
+     * pseudo-random inputs.
+     */
+    private static void assertAgreesWithRegex(Predicate<String> validator, String regex) {
+        Random random = new Random(regex.hashCode());
+        for (int i = 0; i < RANDOM_SAMPLES; i++) {
+            String input = randomString(random);
+            assertEquals(input.matches(regex), validator.test(input), "Mismatch on input: " + input);
+        }
+    }
+
+    private static String randomString(Random random) {
+        StringBuilder builder = new StringBuilder();
+        int length = random.nextInt(MAX_RANDOM_LENGTH + 1);
+        for (int i = 0; i < length; i++) {
+            builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.model.validation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.model.validation.PersonValidator.MISSING_FIELD_MESSAGE_FORMAT;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.faculty.Faculty;
+import seedu.address.model.module.Module;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+public class PersonValidatorTest {
+
+    private static final String VALID_NAME = "Alice Pauline";
+    private static final String VALID_PHONE = "94351253";
+    private static final String VALID_EMAIL = "alice@example.com";
+    private static final String VALID_ADDRESS = "123, Jurong West Ave 6, #08-111";
+    private static final List<String> VALID_TAGS = Arrays.asList("friends", "colleagues");
+    private static final List<String> VALID_MODULES = Collections.singletonList("CS2103T");
+    private static final List<String> VALID_FACULTIES = Collections.singletonList("Computing");
+
+    @Test
+    public void validateRow_validRow_returnsNoErrors() {
+        assertEquals(Collections.emptyList(), PersonValidator.validateRow(VALID_NAME, VALID_PHONE, VALID_EMAIL,
+                VALID_ADDRESS, VALID_TAGS, VALID_MODULES, VALID_FACULTIES));
+        assertEquals(Collections.emptyList(), PersonValidator.validateRow(VALID_NAME, VALID_PHONE, VALID_EMAIL,
+                VALID_ADDRESS, null, null, null));
+    }
+
+    @Test
+    public void validateRow_invalidFields_returnsEveryErrorInFieldOrder() {
+        List<String> errors = PersonValidator.validateRow("R@chel", "+651234", VALID_EMAIL, " ",
+                Arrays.asList("friends", "#friend", "*"), Collections.singletonList("cs2103"),
+                Collections.singletonList("Engineering1"));
+        assertEquals(Arrays.asList(Name.MESSAGE_CONSTRAINTS, Phone.MESSAGE_CONSTRAINTS, Address.MESSAGE_CONSTRAINTS,
+                Tag.MESSAGE_CONSTRAINTS, Module.MESSAGE_CONSTRAINTS, Faculty.MESSAGE_CONSTRAINTS), errors);
+    }
+
+    @Test
+    public void validateRow_missingFields_returnsMissingFieldErrors() {
+        List<String> errors = PersonValidator.validateRow(null, VALID_PHONE, null, VALID_ADDRESS,
+                VALID_TAGS, VALID_MODULES, VALID_FACULTIES);
+        assertEquals(Arrays.asList(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()),
+                String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName())), errors);
+    }
+}
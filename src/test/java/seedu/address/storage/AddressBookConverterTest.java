@@ -0,0 +1,88 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+
+public class AddressBookConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void convertIfOnlySourceExists_onlySourceExists_convertsAndKeepsBackup() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(jsonFilePath);
+        BinaryAddressBookStorage binaryStorage =
+                new BinaryAddressBookStorage(BinaryAddressBookStorage.toBinaryFilePath(jsonFilePath));
+        AddressBook original = getTypicalAddressBook();
+        jsonStorage.saveAddressBook(original);
+
+        assertTrue(AddressBookConverter.convertIfOnlySourceExists(jsonStorage, binaryStorage));
+        assertEquals(original, new AddressBook(binaryStorage.readAddressBook().get()));
+        assertFalse(Files.exists(jsonFilePath));
+        assertTrue(Files.exists(testFolder.resolve("addressbook.json.bak")));
+
+        // Changing the format back converts the newer binary file
+        original.removePerson(ALICE);
+        binaryStorage.saveAddressBook(original);
+        assertTrue(AddressBookConverter.convertIfOnlySourceExists(binaryStorage, jsonStorage));
+        assertEquals(original, new AddressBook(jsonStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void convertIfOnlySourceExists_journaledChanges_convertedAndJournalKeptAsBackup() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(jsonFilePath);
+        BinaryAddressBookStorage binaryStorage =
+                new BinaryAddressBookStorage(BinaryAddressBookStorage.toBinaryFilePath(jsonFilePath));
+        AddressBook original = getTypicalAddressBook();
+        jsonStorage.saveAddressBook(original.snapshot());
+        original.removePerson(original.getPersonList().get(0));
+        jsonStorage.saveAddressBook(original.snapshot());
+        Path journalPath = AddressBookJournal.of(jsonFilePath).getPath();
+        assertTrue(Files.exists(journalPath));
+
+        assertTrue(AddressBookConverter.convertIfOnlySourceExists(jsonStorage, binaryStorage));
+        assertEquals(original, new AddressBook(binaryStorage.readAddressBook().get()));
+        assertFalse(Files.exists(journalPath));
+        assertTrue(Files.exists(testFolder.resolve("addressbook.json.journal.bak")));
+
+        // Converting back gives the address book as changed since
+        original.addPerson(ALICE);
+        binaryStorage.saveAddressBook(original);
+        assertTrue(AddressBookConverter.convertIfOnlySourceExists(binaryStorage, jsonStorage));
+        assertEquals(original, new AddressBook(jsonStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void convertIfOnlySourceExists_targetExists_notConverted() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"));
+        jsonStorage.saveAddressBook(getTypicalAddressBook());
+        binaryStorage.saveAddressBook(new AddressBook());
+
+        assertFalse(AddressBookConverter.convertIfOnlySourceExists(jsonStorage, binaryStorage));
+        assertEquals(new AddressBook(), new AddressBook(binaryStorage.readAddressBook().get()));
+        assertTrue(Files.exists(jsonStorage.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void convertIfOnlySourceExists_sourceMissing_notConverted() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"));
+
+        assertFalse(AddressBookConverter.convertIfOnlySourceExists(jsonStorage, binaryStorage));
+        assertFalse(Files.exists(binaryStorage.getAddressBookFilePath()));
+    }
+}
@@ -0,0 +1,138 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookJournalTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void of_addressBookFile_journalNextToFile() {
+        Path filePath = testFolder.resolve("addressbook.json");
+        assertEquals(testFolder.resolve("addressbook.json.journal"), AddressBookJournal.of(filePath).getPath());
+    }
+
+    @Test
+    public void appendAndReplay_changes_appliedInOrder() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        AddressBook expected = getTypicalAddressBook();
+        AddressBookJournal journal = AddressBookJournal.of(testFolder.resolve("addressbook.json"));
+
+        AddressBookSnapshot before = expected.snapshot();
+        Person alice = expected.getPersonList().get(0);
+        Person benson = expected.getPersonList().get(1);
+        Person editedBenson = new PersonBuilder(benson).withPhone("99999999").build().withId(benson.getId());
+        expected.removePerson(alice);
+        expected.setPerson(benson, editedBenson);
+        before = appendChanges(journal, before, expected.snapshot());
+        expected.addPerson(HOON);
+        appendChanges(journal, before, expected.snapshot());
+
+        journal.replay(original);
+        assertEquals(expected, original);
+
+        // Entries are idempotent
+        journal.replay(original);
+        assertEquals(expected, original);
+    }
+
+    @Test
+    public void appendAndReplay_reorderingChanges_orderKept() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        AddressBook expected = getTypicalAddressBook();
+        AddressBookJournal journal = AddressBookJournal.of(testFolder.resolve("addressbook.json"));
+
+        // Favorites added together, a person restored to the middle of the list as by undo, and two persons swapping
+        // names, each of which replaying by adding persons at the end of the list would reorder
+        AddressBookSnapshot before = expected.snapshot();
+        expected.addPersons(List.of(new PersonBuilder(HOON).withFavorite(true).build(),
+                new PersonBuilder(IDA).withFavorite(true).build()));
+        Person benson = expected.getPersonList().stream().filter(BENSON::isSamePerson).findFirst().get();
+        AddressBookSnapshot withBenson = expected.snapshot();
+        expected.removePerson(benson);
+        before = appendChanges(journal, before, expected.snapshot());
+        expected.setPersons(withBenson.getPersonTree());
+        before = appendChanges(journal, before, expected.snapshot());
+        Person carl = expected.getPersonList().stream().filter(CARL::isSamePerson).findFirst().get();
+        Person daniel = expected.getPersonList().stream().filter(DANIEL::isSamePerson).findFirst().get();
+        expected.setPerson(carl, new PersonBuilder(carl).withName("Carl Placeholder").build());
+        expected.setPerson(daniel, new PersonBuilder(daniel).withName(CARL.getName().fullName).build());
+        appendChanges(journal, before, expected.snapshot());
+
+        journal.replay(original);
+        assertEquals(expected.getPersonList(), original.getPersonList());
+        assertEquals(expected.snapshot().getPersonTree().asList(), original.snapshot().getPersonTree().asList());
+    }
+
+    @Test
+    public void replay_incompleteLastEntry_ignored() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBook expected = getTypicalAddressBook();
+        AddressBookJournal journal = AddressBookJournal.of(testFolder.resolve("addressbook.json"));
+        AddressBookSnapshot before = expected.snapshot();
+        expected.removePerson(expected.getPersonList().get(0));
+        appendChanges(journal, before, expected.snapshot());
+        Files.writeString(journal.getPath(), "{\"deleted\":[", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        journal.replay(addressBook);
+        assertEquals(expected, addressBook);
+    }
+
+    @Test
+    public void replay_malformedEarlierEntry_throwsIoException() throws Exception {
+        AddressBookJournal journal = AddressBookJournal.of(testFolder.resolve("addressbook.json"));
+        Files.writeString(journal.getPath(), "not json\n{\"deleted\":[],\"put\":[]}\n", StandardCharsets.UTF_8);
+        assertThrows(IOException.class, () -> journal.replay(new AddressBook()));
+    }
+
+    @Test
+    public void clear_existingJournal_deletesFile() throws Exception {
+        AddressBookJournal journal = AddressBookJournal.of(testFolder.resolve("addressbook.json"));
+        journal.append(List.of(), Map.of(1L, ALICE.withId(1), 2L, BENSON.withId(2)));
+        journal.clear();
+        assertFalse(journal.exists());
+        assertEquals(0, journal.size());
+    }
+
+    /**
+     * Appends the changes from {@code before} to {@code after} to {@code journal}, as {@code JsonAddressBookStorage}
+     * does, and returns {@code after}.
+     */
+    private static AddressBookSnapshot appendChanges(AddressBookJournal journal, AddressBookSnapshot before,
+            AddressBookSnapshot after) throws IOException {
+        List<Person> removed = new ArrayList<>();
+        Map<Long, Person> added = new LinkedHashMap<>();
+        after.getPersonTree().diffEntries(before.getPersonTree(), (person, slot) -> removed.add(person),
+                (person, slot) -> added.put(slot, person));
+        journal.append(removed, added);
+        return after;
+    }
+}
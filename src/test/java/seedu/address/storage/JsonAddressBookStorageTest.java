@@ -2,13 +2,17 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -17,7 +21,9 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.PersonBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +92,96 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_compact_noWhitespaceAndReadBack() throws Exception {
+        Path prettyFilePath = testFolder.resolve("PrettyAddressBook.json");
+        Path compactFilePath = testFolder.resolve("CompactAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(prettyFilePath).saveAddressBook(original);
+        JsonAddressBookStorage compactStorage = new JsonAddressBookStorage(compactFilePath, true);
+        compactStorage.saveAddressBook(original);
+
+        String compactJson = Files.readString(compactFilePath);
+        assertFalse(compactJson.contains("\n"));
+        assertTrue(compactJson.length() < Files.readString(prettyFilePath).length());
+        assertEquals(original, new AddressBook(compactStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_favorites_orderKept() throws Exception {
+        Path filePath = testFolder.resolve("FavoritesAddressBook.json");
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder(ALICE).withFavorite(true).build());
+        original.addPerson(new PersonBuilder(BENSON).withFavorite(true).build());
+        original.addPerson(CARL);
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+
+        // Saving and loading twice would restore a reversed order
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+        storage.saveAddressBook(readBack);
+        assertEquals(original.getPersonList(), storage.readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_changedSnapshot_journalsChangesUntilCompacted() throws Exception {
+        Path filePath = testFolder.resolve("JournaledAddressBook.json");
+        AddressBookJournal journal = AddressBookJournal.of(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath, false, 300);
+
+        // The first save has nothing to compare with, so it writes the whole file
+        storage.saveAddressBook(original.snapshot());
+        String fullFile = Files.readString(filePath);
+        assertFalse(journal.exists());
+
+        // Later saves only append the changes to the journal
+        original.addPerson(HOON);
+        storage.saveAddressBook(original.snapshot());
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original.snapshot());
+        assertEquals(fullFile, Files.readString(filePath));
+        assertEquals(2, Files.readAllLines(journal.getPath()).size());
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+
+        // Once the journal is past the threshold, the whole file is written again
+        original.addPerson(IDA);
+        storage.saveAddressBook(original.snapshot());
+        assertTrue(journal.size() >= 300);
+        storage.saveAddressBook(original.snapshot());
+        assertFalse(journal.exists());
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_firstSavesAfterLoading_onlyChangesJournaledInOrder() throws Exception {
+        Path filePath = testFolder.resolve("ReloadedAddressBook.json");
+        AddressBookJournal journal = AddressBookJournal.of(filePath);
+        AddressBook original = getTypicalAddressBook();
+        original.addPerson(new PersonBuilder(HOON).withFavorite(true).build());
+        // Leaves a gap in the slots, which numbering the persons afresh on loading would close
+        original.removePerson(original.getPersonList().stream().filter(ALICE::isSamePerson).findFirst().get());
+        new JsonAddressBookStorage(filePath).saveAddressBook(original.snapshot());
+
+        // The model adopts the tree read, which the storage compares the next save with
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        AddressBook model = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original.getPersonList(), model.getPersonList());
+        AddressBookSnapshot loaded = model.snapshot();
+        model.removePerson(model.getPersonList().stream().filter(BENSON::isSamePerson).findFirst().get());
+        storage.saveAddressBook(model.snapshot());
+        assertEquals(1, Files.readAllLines(journal.getPath()).size());
+        assertFalse(Files.readString(journal.getPath()).contains(CARL.getName().fullName));
+
+        // Undoing the deletion puts the person back in the middle of the list, where reading must put it too
+        model.setPersons(loaded.getPersonTree());
+        storage.saveAddressBook(model.snapshot());
+        assertEquals(2, Files.readAllLines(journal.getPath()).size());
+        assertEquals(original.getPersonList(),
+                new JsonAddressBookStorage(filePath).readAddressBook().get().getPersonList());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
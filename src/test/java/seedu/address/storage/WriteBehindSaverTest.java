@@ -0,0 +1,114 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindSaverTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void submit_burstWithinQuietPeriod_savesLatestOnce() throws Exception {
+        List<ReadOnlyAddressBook> saved = new ArrayList<>();
+        WriteBehindSaver saver = new WriteBehindSaver(recordingStorage(saved, null), 60_000, 60_000);
+        AddressBook first = new AddressBook();
+        AddressBook latest = getTypicalAddressBook();
+
+        saver.submit(first);
+        saver.submit(latest);
+        assertTrue(saved.isEmpty());
+
+        saver.flushAndStop();
+        assertEquals(List.of(latest), saved);
+    }
+
+    @Test
+    public void submit_quietPeriodOver_savesInBackground() throws Exception {
+        CountDownLatch saves = new CountDownLatch(1);
+        List<ReadOnlyAddressBook> saved = new ArrayList<>();
+        WriteBehindSaver saver = new WriteBehindSaver(recordingStorage(saved, saves), 0, 0);
+
+        saver.submit(getTypicalAddressBook());
+        assertTrue(saves.await(10, TimeUnit.SECONDS));
+
+        // Nothing is left to save
+        saver.flushAndStop();
+        assertEquals(1, saved.size());
+    }
+
+    @Test
+    public void flushAndStop_saveFails_throwsIoException() throws Exception {
+        IOException error = new IOException("disk full");
+        WriteBehindSaver saver = new WriteBehindSaver(new JsonAddressBookStorage(testFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw error;
+            }
+        }, 60_000, 60_000);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+
+        saver.submit(addressBook);
+        assertThrows(IOException.class, "disk full", saver::flushAndStop);
+    }
+
+    @Test
+    public void submit_saveFails_retriedAfterDelay() throws Exception {
+        CountDownLatch saves = new CountDownLatch(1);
+        List<ReadOnlyAddressBook> saved = new ArrayList<>();
+        JsonAddressBookStorage recordingStorage = recordingStorage(saved, saves);
+        AtomicBoolean hasFailed = new AtomicBoolean(false);
+        WriteBehindSaver saver = new WriteBehindSaver(new JsonAddressBookStorage(testFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (!hasFailed.getAndSet(true)) {
+                    throw new IOException("disk full");
+                }
+                recordingStorage.saveAddressBook(addressBook, filePath);
+            }
+        }, 0, 0);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        saver.submit(addressBook);
+        assertTrue(saves.await(10, TimeUnit.SECONDS));
+        saver.flushAndStop();
+        assertEquals(List.of(addressBook), saved);
+        assertTrue(saver.takeFailure().isEmpty());
+    }
+
+    /**
+     * Returns a storage that records the address books it is asked to save, counting down {@code saves} if it is not
+     * null.
+     */
+    private JsonAddressBookStorage recordingStorage(List<ReadOnlyAddressBook> saved, CountDownLatch saves) {
+        return new JsonAddressBookStorage(testFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                synchronized (saved) {
+                    saved.add(addressBook);
+                }
+                if (saves != null) {
+                    saves.countDown();
+                }
+            }
+        };
+    }
+}